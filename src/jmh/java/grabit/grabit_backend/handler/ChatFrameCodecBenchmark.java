@@ -0,0 +1,50 @@
+package grabit.grabit_backend.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grabit.grabit_backend.domain.Chatting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 프레임 파싱 비교. ./gradlew jmh
+ * perFrameMapper: 프레임마다 ObjectMapper 생성 후 전체 바인딩 (기존 방식)
+ * cachedReader: 공유 ObjectReader 로 전체 바인딩
+ * streamingPeek: 라우팅 필드만 스트리밍으로 읽기 (현재 방식)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatFrameCodecBenchmark {
+
+	private static final String PAYLOAD = "{\"id\":1,\"name\":\"grabit-user\",\"challengeId\":42,\"chattingType\":\"MESSAGE\","
+			+ "\"content\":\"오늘 커밋 완료했습니다! 내일도 화이팅 Lorem ipsum dolor sit amet, consectetur adipiscing elit.\"}";
+
+	private final ChatFrameCodec codec = new ChatFrameCodec(new ObjectMapper());
+
+	@Benchmark
+	public Chatting perFrameMapper() throws Exception {
+		return new ObjectMapper().readValue(PAYLOAD, Chatting.class);
+	}
+
+	@Benchmark
+	public Chatting cachedReader() throws Exception {
+		return codec.read(PAYLOAD);
+	}
+
+	@Benchmark
+	public ChatFrameHeader streamingPeek() throws Exception {
+		return codec.peek(PAYLOAD);
+	}
+}
@@ -0,0 +1,95 @@
+package grabit.grabit_backend.repository;
+
+import grabit.grabit_backend.converter.PassApprovalResultStatusConverter;
+import grabit.grabit_backend.enums.PassApprovalResultStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 인증 승인 요청 생성 시 멤버별 투표 결과 저장 시간 비교. Docker 필요. ./gradlew jmh
+ * rowByRow: 멤버마다 insert 한 문장 (IDENTITY 전략의 saveAll 과 같은 왕복 횟수, 기존 방식)
+ * bulkInsert: PassApprovalResultBulkRepository 의 multi-row insert (현재 방식)
+ * 문장 수가 멤버 수와 관계없이 일정한지는 PassApprovalResultBulkRepositoryTest 에서 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PassApprovalResultInsertBenchmark {
+
+	private static final String CREATE_TABLE = "create table pass_approval_result ("
+			+ "pass_approval_result_id bigint auto_increment primary key, "
+			+ "pass_approval_id bigint, challenge_id bigint, user_id int, status int, "
+			+ "index idx_user_status_pass_approval (user_id, status, pass_approval_id))";
+	private static final String INSERT_ROW =
+			"insert into pass_approval_result (pass_approval_id, challenge_id, user_id, status) values (?, ?, ?, ?)";
+	private static final Long CHALLENGE_ID = 1L;
+
+	@Param({"10", "50", "200", "1000"})
+	int members;
+
+	private MySQLContainer<?> mysql;
+	private JdbcTemplate jdbcTemplate;
+	private PassApprovalResultBulkRepository bulkRepository;
+	private List<Integer> memberIds;
+	private Integer pendingStatus;
+	private long passApprovalId;
+
+	@Setup(Level.Trial)
+	public void startDatabase() {
+		mysql = new MySQLContainer<>("mysql:8.0");
+		mysql.start();
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword()));
+		jdbcTemplate.execute(CREATE_TABLE);
+		bulkRepository = new PassApprovalResultBulkRepository(jdbcTemplate);
+		memberIds = IntStream.rangeClosed(1, members).boxed().collect(Collectors.toList());
+		pendingStatus = new PassApprovalResultStatusConverter().convertToDatabaseColumn(PassApprovalResultStatus.PENDING);
+	}
+
+	/** 측정마다 테이블 크기가 달라지지 않도록 비운다. */
+	@Setup(Level.Iteration)
+	public void truncate() {
+		jdbcTemplate.execute("truncate table pass_approval_result");
+	}
+
+	@TearDown(Level.Trial)
+	public void stopDatabase() {
+		mysql.stop();
+	}
+
+	@Benchmark
+	public int rowByRow() {
+		long id = ++passApprovalId;
+		int inserted = 0;
+		for (Integer memberId : memberIds) {
+			inserted += jdbcTemplate.update(INSERT_ROW, id, CHALLENGE_ID, memberId, pendingStatus);
+		}
+		return inserted;
+	}
+
+	@Benchmark
+	public int bulkInsert() {
+		return bulkRepository.insertAll(++passApprovalId, CHALLENGE_ID, memberIds, PassApprovalResultStatus.PENDING);
+	}
+}
@@ -1,5 +1,7 @@
 package grabit.grabit_backend.Oauth2.handler;
 
+import grabit.grabit_backend.auth.CustomUserDetailService;
+import grabit.grabit_backend.domain.User;
 import grabit.grabit_backend.domain.UserRefreshToken;
 import grabit.grabit_backend.Oauth2.repository.CustomAuthorizationRequestRepository;
 import grabit.grabit_backend.repository.UserRefreshTokenRepository;
@@ -25,6 +27,7 @@ import static grabit.grabit_backend.utils.CookieUtil.REFRESH_TOKEN;
 public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private JwtProvider jwtProvider;
+    private CustomUserDetailService customUserDetailService;
     private UserRefreshTokenRepository userRefreshTokenRepository;
     private CustomAuthorizationRequestRepository authorizationRequestRepository;
     private long refreshTokenExpiry = 24 * 60 * 60 * 1000; // 24시간
@@ -32,10 +35,12 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
     public OAuth2AuthenticationSuccessHandler(
             JwtProvider jwtProvider,
+            CustomUserDetailService customUserDetailService,
             UserRefreshTokenRepository userRefreshTokenRepository,
             CustomAuthorizationRequestRepository authorizationRequestRepository
     ) {
         this.jwtProvider = jwtProvider;
+        this.customUserDetailService = customUserDetailService;
         this.userRefreshTokenRepository = userRefreshTokenRepository;
         this.authorizationRequestRepository = authorizationRequestRepository;
     }
@@ -63,7 +68,9 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         int userId = user.getAttribute("id");
 
         String refreshToken = jwtProvider.issueJwt(userId, refreshTokenExpiry);
-        String accessToken = jwtProvider.issueJwt(userId, accessTokenExpiry);
+        // accessToken 에는 프로필 claim 을 담아 claims-only 인증에서 DB 조회 없이 사용
+        User grabitUser = (User) customUserDetailService.loadUserByUsername(String.valueOf(userId));
+        String accessToken = jwtProvider.issueJwt(grabitUser, accessTokenExpiry);
 
         // refreshToken DB에 저장
         UserRefreshToken userRefreshToken = userRefreshTokenRepository.findByUserId(userId);
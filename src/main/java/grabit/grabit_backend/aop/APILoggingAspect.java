@@ -6,7 +6,6 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StopWatch;
 
@@ -33,7 +32,7 @@ public class APILoggingAspect {
 		stopWatch.start();
 
 		// API 수행
-		ResponseEntity obj = (ResponseEntity)pjp.proceed();
+		Object obj = pjp.proceed();
 
 		// API 시간 측정 끝
 		stopWatch.stop();
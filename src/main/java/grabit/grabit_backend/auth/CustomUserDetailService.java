@@ -1,5 +1,6 @@
 package grabit.grabit_backend.auth;
 
+import grabit.grabit_backend.cache.UserPrincipalCache;
 import grabit.grabit_backend.domain.User;
 import grabit.grabit_backend.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -7,22 +8,24 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-
 @Service
 public class CustomUserDetailService implements UserDetailsService {
 
-    private UserRepository userRepository;
+    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public CustomUserDetailService(UserRepository userRepository) {
+    public CustomUserDetailService(UserRepository userRepository, UserPrincipalCache userPrincipalCache) {
         this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
         Integer id = Integer.parseInt(userId);
-        Optional<User> user =  userRepository.findById(id);
-        return userRepository.findById(id)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        User user = userPrincipalCache.get(id, key -> userRepository.findById(key).orElse(null));
+        if (user == null) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        return user;
     }
 }
@@ -1,5 +1,6 @@
 package grabit.grabit_backend.auth;
 
+import io.jsonwebtoken.Claims;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
@@ -10,6 +11,7 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -24,10 +26,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if(token != null && jwtProvider.validateToken(token)){
-            Authentication authentication = jwtProvider.getAuthentication(token);
+        if(token != null){
+            Optional<Claims> claims = jwtProvider.parseClaims(token);
+            if (claims.isPresent()) {
+                Authentication authentication = jwtProvider.getAuthentication(claims.get());
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
         filterChain.doFilter(request, response);
     }
@@ -1,5 +1,6 @@
 package grabit.grabit_backend.auth;
 
+import grabit.grabit_backend.domain.User;
 import io.jsonwebtoken.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,12 +11,23 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtProvider {
+    public static final String GITHUB_ID_CLAIM = "github_id";
+    public static final String USERNAME_CLAIM = "username";
+    public static final String PROFILE_IMG_CLAIM = "profile_img";
+
     @Value("${jwt.secret.key}")
     private String jwtSecret;
 
+    /**
+     * true 이면 프로필 claim 이 담긴 토큰은 DB 조회 없이 토큰만으로 principal 을 만든다.
+     */
+    @Value("${grabit.auth.claims-only:false}")
+    private boolean claimsOnly;
+
     private CustomUserDetailService customUserDetailService;
 
     public JwtProvider(CustomUserDetailService userDetailsService) {
@@ -35,10 +47,41 @@ public class JwtProvider {
                 .compact();
     }
 
+    /**
+     * 프로필 claim(github_id, username, profile_img) 을 포함한 토큰 발급
+     * @param user
+     * @param expiry
+     * @return
+     */
+    public String issueJwt(User user, long expiry) {
+        Date now = new Date();
+
+        return Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setIssuer("grabit")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + expiry))
+                .setSubject(String.valueOf(user.getId()))
+                .claim("user_id", user.getId())
+                .claim(GITHUB_ID_CLAIM, user.getUserId())
+                .claim(USERNAME_CLAIM, user.getUsername())
+                .claim(PROFILE_IMG_CLAIM, user.getProfileImg())
+                .signWith(SignatureAlgorithm.HS256, jwtSecret)
+                .compact();
+    }
+
     public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
+    /**
+     * 토큰 검증과 claims 추출을 한 번의 파싱으로 처리
+     * @param token
+     * @return 유효하지 않은 토큰이면 empty
+     */
+    public Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parser().setSigningKey(jwtSecret).parse(token);
-            return true;
+            return Optional.of(Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(token).getBody());
         } catch (SecurityException | MalformedJwtException e) {
             System.out.println("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -50,7 +93,7 @@ public class JwtProvider {
         } catch (Exception e) {
             System.out.println("모르는 에러");
         }
-        return false;
+        return Optional.empty();
     }
 
     // 토큰에서 회원 정보 추출
@@ -60,7 +103,28 @@ public class JwtProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        UserDetails userDetails = customUserDetailService.loadUserByUsername(this.getUserPk(token));
+        return getAuthentication(Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(token).getBody());
+    }
+
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = claimsOnly && claims.containsKey(GITHUB_ID_CLAIM)
+                ? getClaimsPrincipal(claims)
+                : customUserDetailService.loadUserByUsername(claims.getSubject());
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
+
+    /**
+     * 토큰 claim 만으로 만든 principal. id, userId, username, profileImg 만 채워져 있고 DB 와 연결되지 않은 객체이므로
+     * 다른 필드가 필요하면 UserService.findUserById 로 다시 조회해야 한다.
+     */
+    private User getClaimsPrincipal(Claims claims) {
+        return new User(
+                Integer.parseInt(claims.getSubject()),
+                claims.get(GITHUB_ID_CLAIM, String.class),
+                claims.get(USERNAME_CLAIM, String.class),
+                null,
+                null,
+                claims.get(PROFILE_IMG_CLAIM, String.class)
+        );
+    }
 }
@@ -0,0 +1,60 @@
+package grabit.grabit_backend.cache;
+
+import grabit.grabit_backend.repository.ChallengeRepository;
+import grabit.grabit_backend.search.ChallengeSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드에서 챌린지가 변경되었을 때 이 노드의 상세 캐시, 전체 개수 캐시, 검색 색인을 맞춘다.
+ * 멤버십 캐시 무효화 메시지도 같은 채널로 받는다.
+ */
+@Component
+public class ChallengeCacheInvalidationListener implements MessageListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChallengeCacheInvalidationListener.class);
+
+	private final ChallengeDetailCache challengeDetailCache;
+	private final TotalCountCache totalCountCache;
+	private final ChallengeSearchIndex challengeSearchIndex;
+	private final ChallengeRepository challengeRepository;
+	private final ChallengeMembershipCache challengeMembershipCache;
+
+	public ChallengeCacheInvalidationListener(ChallengeDetailCache challengeDetailCache,
+											  TotalCountCache totalCountCache,
+											  ChallengeSearchIndex challengeSearchIndex,
+											  ChallengeRepository challengeRepository,
+											  ChallengeMembershipCache challengeMembershipCache) {
+		this.challengeDetailCache = challengeDetailCache;
+		this.totalCountCache = totalCountCache;
+		this.challengeSearchIndex = challengeSearchIndex;
+		this.challengeRepository = challengeRepository;
+		this.challengeMembershipCache = challengeMembershipCache;
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			String body = new String(message.getBody(), StandardCharsets.UTF_8);
+			if (body.startsWith(ChallengeMembershipCache.MESSAGE_PREFIX)) {
+				challengeMembershipCache.evictLocal(body);
+				return;
+			}
+			Long id = challengeDetailCache.evictLocal(body);
+			if (id == null) {
+				return;
+			}
+			totalCountCache.invalidateAll();
+			challengeRepository.findById(id).ifPresentOrElse(
+					challengeSearchIndex::index,
+					() -> challengeSearchIndex.remove(id));
+		} catch (RuntimeException e) {
+			logger.warn("## Challenge invalidation message failed ##", e);
+		}
+	}
+}
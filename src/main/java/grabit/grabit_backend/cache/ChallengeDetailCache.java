@@ -0,0 +1,156 @@
+package grabit.grabit_backend.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 챌린지 상세 2단 캐시. 노드 내 LocalCache(L1) -> Redis(L2) -> DB 순으로 조회한다.
+ * 변경 시 L1, L2 를 지우고 Redis pub/sub 으로 다른 노드에 무효화 메시지를 보낸다.
+ * 챌린지별 version 은 무효화마다 증가하고, DB 에서 불러온 값은 조회 전에 읽은 version 이 그대로일 때만 Redis 에 저장한다.
+ * 그래서 무효화 이전에 읽은 값이 무효화 이후에 다시 저장되지 않는다.
+ */
+@Component
+public class ChallengeDetailCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChallengeDetailCache.class);
+
+	public static final String INVALIDATION_CHANNEL = "challenge:invalidate";
+	private static final String KEY_PREFIX = "challenge:detail:";
+	private static final String VERSION_PREFIX = "challenge:version:";
+	private static final String NO_VERSION = "0";
+	private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+	/**
+	 * KEYS = [detail, version], ARGV = [조회 전 version, value, ttl ms]
+	 */
+	private static final RedisScript<Long> WRITE_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+			"local version = redis.call('GET', KEYS[2]) or '" + NO_VERSION + "'\n" +
+			"if version ~= ARGV[1] then return 0 end\n" +
+			"redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])\n" +
+			"return 1",
+			Long.class);
+
+	/**
+	 * KEYS = [detail, version], ARGV = [version ttl ms]
+	 */
+	private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('DEL', KEYS[1])\n" +
+			"local version = redis.call('INCR', KEYS[2])\n" +
+			"redis.call('PEXPIRE', KEYS[2], ARGV[1])\n" +
+			"return version",
+			Long.class);
+
+	/** 자기 자신이 보낸 무효화 메시지를 구분하기 위한 노드 id */
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisValueCodec redisValueCodec;
+	private final JavaType snapshotType;
+	private final LocalCache<Long, ChallengeSnapshot> localCache;
+	private final Duration redisTtl;
+
+	public ChallengeDetailCache(RedisTemplate<String, String> redisTemplate,
+								RedisValueCodec redisValueCodec,
+								@Value("${grabit.cache.challenge.local-size:10000}") int localSize,
+								@Value("${grabit.cache.challenge.local-ttl-seconds:30}") long localTtlSeconds,
+								@Value("${grabit.cache.challenge.redis-ttl-seconds:600}") long redisTtlSeconds) {
+		this.redisTemplate = redisTemplate;
+		this.redisValueCodec = redisValueCodec;
+		this.snapshotType = redisValueCodec.type(ChallengeSnapshot.class);
+		this.localCache = new LocalCache<>(localSize, Duration.ofSeconds(localTtlSeconds));
+		this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+	}
+
+	/**
+	 * 챌린지 상세 조회. L1, L2 에 없으면 loader 로 불러와 양쪽에 저장.
+	 * Redis 장애 시에는 L1 과 loader 만으로 동작한다.
+	 */
+	public ChallengeSnapshot get(Long id, Function<Long, ChallengeSnapshot> loader) {
+		return localCache.get(id, key -> {
+			List<String> values = readRedis(key);
+			ChallengeSnapshot cached = values == null ? null : decode(key, values.get(0));
+			if (cached != null) {
+				return cached;
+			}
+			ChallengeSnapshot loaded = loader.apply(key);
+			if (values != null) {
+				writeRedis(key, loaded, values.get(1) == null ? NO_VERSION : values.get(1));
+			}
+			return loaded;
+		});
+	}
+
+	/**
+	 * 챌린지 변경 후 호출. 로컬/Redis 캐시를 지우고 다른 노드에 무효화 메시지 전송.
+	 */
+	public void invalidate(Long id) {
+		localCache.invalidate(id);
+		try {
+			redisTemplate.execute(INVALIDATE_SCRIPT, List.of(KEY_PREFIX + id, VERSION_PREFIX + id),
+					String.valueOf(VERSION_TTL.toMillis()));
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + id);
+		} catch (RuntimeException e) {
+			logger.warn("## Challenge cache invalidation failed ## : " + id, e);
+		}
+	}
+
+	/**
+	 * 무효화 메시지 수신 시 호출. 자기 자신이 보낸 메시지면 null 을, 아니면 챌린지 id 를 반환.
+	 */
+	Long evictLocal(String message) {
+		int separator = message.lastIndexOf(':');
+		if (separator < 0 || message.substring(0, separator).equals(nodeId)) {
+			return null;
+		}
+		Long id = Long.valueOf(message.substring(separator + 1));
+		localCache.invalidate(id);
+		return id;
+	}
+
+	/**
+	 * [상세 값, version] 을 한 번에 조회. Redis 장애 시 null
+	 */
+	private List<String> readRedis(Long id) {
+		try {
+			return redisTemplate.opsForValue().multiGet(List.of(KEY_PREFIX + id, VERSION_PREFIX + id));
+		} catch (Exception e) {
+			logger.warn("## Challenge cache read failed ## : " + id, e);
+			return null;
+		}
+	}
+
+	private ChallengeSnapshot decode(Long id, String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return redisValueCodec.decode(value, snapshotType);
+		} catch (Exception e) {
+			logger.warn("## Challenge cache decode failed ## : " + id, e);
+			return null;
+		}
+	}
+
+	private void writeRedis(Long id, ChallengeSnapshot snapshot, String version) {
+		if (snapshot == null) {
+			return;
+		}
+		try {
+			redisTemplate.execute(WRITE_IF_VERSION_SCRIPT, List.of(KEY_PREFIX + id, VERSION_PREFIX + id),
+					version, redisValueCodec.encode(snapshot, snapshotType), String.valueOf(redisTtl.toMillis()));
+		} catch (Exception e) {
+			logger.warn("## Challenge cache write failed ## : " + id, e);
+		}
+	}
+}
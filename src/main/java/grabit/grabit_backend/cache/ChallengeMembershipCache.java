@@ -0,0 +1,84 @@
+package grabit.grabit_backend.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 가입 챌린지 id 캐시. STOMP 프레임마다 user_challenge 를 조회하지 않도록 user id 단위로 저장한다.
+ * 가입, 승인, 탈퇴, 챌린지 삭제 시 evict 하고, 챌린지 무효화 채널로 다른 노드에도 알린다.
+ * 무효화 메시지를 놓친 노드의 값은 TTL 이 지나면 갱신된다.
+ */
+@Component
+public class ChallengeMembershipCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChallengeMembershipCache.class);
+
+	/** 챌린지 상세 무효화 메시지와 구분하기 위한 prefix */
+	public static final String MESSAGE_PREFIX = "membership:";
+	private static final String DELIMITER = ",";
+
+	/** 자기 자신이 보낸 무효화 메시지를 구분하기 위한 노드 id */
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final LocalCache<Integer, Set<Long>> cache;
+
+	public ChallengeMembershipCache(RedisTemplate<String, String> redisTemplate,
+									@Value("${grabit.cache.membership.size:10000}") int maximumSize,
+									@Value("${grabit.cache.membership.ttl-seconds:60}") long ttlSeconds) {
+		this.redisTemplate = redisTemplate;
+		this.cache = new LocalCache<>(maximumSize, Duration.ofSeconds(ttlSeconds));
+	}
+
+	/**
+	 * @param loader 캐시에 없을 때 가입한 챌린지 id 목록을 조회
+	 */
+	public boolean isMember(Integer userId, Long challengeId, Function<Integer, Set<Long>> loader) {
+		return cache.get(userId, loader).contains(challengeId);
+	}
+
+	public void evict(Integer userId) {
+		evictAll(List.of(userId));
+	}
+
+	/**
+	 * 이 노드에서 지우고 다른 노드에 무효화 메시지 전송
+	 */
+	public void evictAll(Collection<Integer> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		userIds.forEach(cache::invalidate);
+		String ids = userIds.stream().map(String::valueOf).collect(Collectors.joining(DELIMITER));
+		try {
+			redisTemplate.convertAndSend(ChallengeDetailCache.INVALIDATION_CHANNEL, MESSAGE_PREFIX + nodeId + ":" + ids);
+		} catch (RuntimeException e) {
+			logger.warn("## Membership cache invalidation failed ## : " + ids, e);
+		}
+	}
+
+	/**
+	 * 무효화 메시지 수신 시 호출. 자기 자신이 보낸 메시지는 무시한다.
+	 */
+	public void evictLocal(String message) {
+		String body = message.substring(MESSAGE_PREFIX.length());
+		int separator = body.lastIndexOf(':');
+		if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+			return;
+		}
+		for (String id : body.substring(separator + 1).split(DELIMITER)) {
+			cache.invalidate(Integer.valueOf(id));
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package grabit.grabit_backend.cache;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import grabit.grabit_backend.domain.Challenge;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 챌린지 상세 캐시 값. 엔티티 대신 응답에 필요한 값과 멤버 userId 만 담고, 멤버 여부는 HashSet 으로 확인한다.
+ */
+@Getter
+public class ChallengeSnapshot {
+
+	private final Long id;
+	private final String name;
+	private final String description;
+	private final String leader;
+	private final Boolean isPrivate;
+	private final List<String> member;
+
+	@Getter(AccessLevel.NONE)
+	private final Set<String> memberSet;
+
+	@JsonCreator
+	public ChallengeSnapshot(@JsonProperty("id") Long id,
+							 @JsonProperty("name") String name,
+							 @JsonProperty("description") String description,
+							 @JsonProperty("leader") String leader,
+							 @JsonProperty("isPrivate") Boolean isPrivate,
+							 @JsonProperty("member") List<String> member) {
+		this.id = id;
+		this.name = name;
+		this.description = description;
+		this.leader = leader;
+		this.isPrivate = isPrivate;
+		this.member = member == null ? Collections.emptyList() : Collections.unmodifiableList(member);
+		this.memberSet = new HashSet<>(this.member);
+	}
+
+	public static ChallengeSnapshot of(Challenge challenge) {
+		List<String> members = new ArrayList<>();
+		challenge.getUserChallengeList().forEach(x -> members.add(x.getUser().getUserId()));
+		return new ChallengeSnapshot(
+				challenge.getId(),
+				challenge.getName(),
+				challenge.getDescription(),
+				challenge.getLeader().getUserId(),
+				challenge.getIsPrivate(),
+				members
+		);
+	}
+
+	public boolean isMember(String userId) {
+		return memberSet.contains(userId);
+	}
+}
@@ -0,0 +1,142 @@
+package grabit.grabit_backend.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 노드 내 캐시. 조회는 lock 없이 ConcurrentHashMap 으로 처리하고, TTL 이 지난 항목은 조회 시 만료된다.
+ * 최대 크기를 넘으면 한 스레드만 만료된 항목과 가장 오래 사용되지 않은 항목을 모아서 제거한다. (근사 LRU)
+ * key 의 stripe 마다 무효화 generation 을 두어, 무효화 이전에 읽기 시작한 loader 결과는 저장하지 않는다.
+ */
+public class LocalCache<K, V> {
+
+	private static final int STRIPES = 64;
+
+	private final int maximumSize;
+	private final long ttlMillis;
+	private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+	private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	public LocalCache(int maximumSize, Duration ttl) {
+		this.maximumSize = maximumSize;
+		this.ttlMillis = ttl.toMillis();
+	}
+
+	public V get(K key) {
+		Entry<V> entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		long now = System.currentTimeMillis();
+		if (entry.isExpired(now)) {
+			entries.remove(key, entry);
+			return null;
+		}
+		entry.accessedAt = now;
+		return entry.value;
+	}
+
+	/**
+	 * 캐시에 없으면 loader 로 불러와 저장. loader 는 lock 없이 실행되고,
+	 * 실행 중에 같은 stripe 가 무효화되었으면 불러온 값은 반환만 하고 저장하지 않는다.
+	 */
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		V value = get(key);
+		if (value != null) {
+			return value;
+		}
+		int stripe = stripe(key);
+		long generation = generations.get(stripe);
+		V loaded = loader.apply(key);
+		if (loaded == null) {
+			return null;
+		}
+		// invalidate 는 generation 증가 후 삭제하므로, 여기서 확인을 통과한 값은 이후의 삭제로 지워진다.
+		entries.compute(key, (k, old) -> generations.get(stripe) == generation ? newEntry(loaded) : old);
+		evictIfNeeded();
+		return loaded;
+	}
+
+	public void put(K key, V value) {
+		entries.put(key, newEntry(value));
+		evictIfNeeded();
+	}
+
+	public void invalidate(K key) {
+		generations.incrementAndGet(stripe(key));
+		entries.remove(key);
+	}
+
+	public void invalidateAll() {
+		for (int i = 0; i < STRIPES; i++) {
+			generations.incrementAndGet(i);
+		}
+		entries.clear();
+	}
+
+	public int size() {
+		removeExpired(System.currentTimeMillis());
+		return entries.size();
+	}
+
+	private Entry<V> newEntry(V value) {
+		long now = System.currentTimeMillis();
+		return new Entry<>(value, now + ttlMillis, now);
+	}
+
+	private int stripe(K key) {
+		return Math.floorMod(key.hashCode(), STRIPES);
+	}
+
+	/**
+	 * 최대 크기를 넘으면 만료된 항목을 지우고, 그래도 넘으면 최대 크기의 10% 만큼 여유가 생기도록 오래 사용되지 않은 항목부터 지운다.
+	 * 정렬 비용은 여러 번의 put 에 나누어진다.
+	 */
+	private void evictIfNeeded() {
+		if (entries.size() <= maximumSize || !evictionLock.tryLock()) {
+			return;
+		}
+		try {
+			removeExpired(System.currentTimeMillis());
+			int excess = entries.size() - (maximumSize - maximumSize / 10);
+			if (entries.size() <= maximumSize || excess <= 0) {
+				return;
+			}
+			List<Map.Entry<K, Entry<V>>> snapshot = new ArrayList<>(entries.entrySet());
+			snapshot.sort(Comparator.comparingLong(x -> x.getValue().accessedAt));
+			for (int i = 0; i < excess && i < snapshot.size(); i++) {
+				entries.remove(snapshot.get(i).getKey(), snapshot.get(i).getValue());
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void removeExpired(long now) {
+		entries.entrySet().removeIf(x -> x.getValue().isExpired(now));
+	}
+
+	private static class Entry<V> {
+		private final V value;
+		private final long expireAt;
+		private volatile long accessedAt;
+
+		private Entry(V value, long expireAt, long accessedAt) {
+			this.value = value;
+			this.expireAt = expireAt;
+			this.accessedAt = accessedAt;
+		}
+
+		private boolean isExpired(long now) {
+			return now >= expireAt;
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package grabit.grabit_backend.cache;
+
+import grabit.grabit_backend.dto.PendingVoteDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 유저별 투표 대기 목록 첫 페이지 캐시. 다음 페이지는 인덱스로 바로 조회하므로 캐시하지 않는다.
+ * 투표, 승인 요청 생성/삭제 시 관련 유저를 evict 하고, 다른 노드의 값은 TTL 이 지나면 갱신된다.
+ */
+@Component
+public class PendingVoteCache {
+
+	private final LocalCache<Integer, List<PendingVoteDTO>> cache;
+
+	public PendingVoteCache(@Value("${grabit.cache.pending-vote.size:10000}") int maximumSize,
+							@Value("${grabit.cache.pending-vote.ttl-seconds:30}") long ttlSeconds) {
+		this.cache = new LocalCache<>(maximumSize, Duration.ofSeconds(ttlSeconds));
+	}
+
+	/**
+	 * @param loader 캐시에 없을 때 첫 페이지를 조회
+	 */
+	public List<PendingVoteDTO> get(Integer userId, Function<Integer, List<PendingVoteDTO>> loader) {
+		return cache.get(userId, loader);
+	}
+
+	public void evict(Integer userId) {
+		cache.invalidate(userId);
+	}
+}
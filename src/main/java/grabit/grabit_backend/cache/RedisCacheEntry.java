@@ -0,0 +1,26 @@
+package grabit.grabit_backend.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 만료 정책이 적용된 Redis 캐시 값. negative 이면 조회 실패 결과이고 value 는 비어 있다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RedisCacheEntry<T> {
+
+	private T value;
+	private long softExpireAt;
+	private boolean negative;
+
+	public static <T> RedisCacheEntry<T> of(T value, long softExpireAt) {
+		return new RedisCacheEntry<>(value, softExpireAt, false);
+	}
+
+	public static <T> RedisCacheEntry<T> negative() {
+		return new RedisCacheEntry<>(null, 0, true);
+	}
+}
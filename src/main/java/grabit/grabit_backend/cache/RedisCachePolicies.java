@@ -0,0 +1,42 @@
+package grabit.grabit_backend.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * key prefix 별 Redis 캐시 정책 목록. 가장 길게 일치하는 prefix 의 정책을 사용한다.
+ */
+@Component
+public class RedisCachePolicies {
+
+	public static final String COMMIT_PREFIX = "commit:";
+
+	private final List<RedisCachePolicy> policies = new ArrayList<>();
+
+	public RedisCachePolicies(@Value("${grabit.cache.redis.commit.soft-ttl-seconds:3600}") long commitSoftTtlSeconds,
+							  @Value("${grabit.cache.redis.commit.hard-ttl-seconds:86400}") long commitHardTtlSeconds,
+							  @Value("${grabit.cache.redis.commit.negative-ttl-seconds:60}") long commitNegativeTtlSeconds) {
+		register(new RedisCachePolicy(COMMIT_PREFIX,
+				Duration.ofSeconds(commitSoftTtlSeconds),
+				Duration.ofSeconds(commitHardTtlSeconds),
+				Duration.ofSeconds(commitNegativeTtlSeconds)));
+	}
+
+	private void register(RedisCachePolicy policy) {
+		policies.removeIf(x -> x.getPrefix().equals(policy.getPrefix()));
+		policies.add(policy);
+		policies.sort(Comparator.comparingInt((RedisCachePolicy x) -> x.getPrefix().length()).reversed());
+	}
+
+	public Optional<RedisCachePolicy> find(String key) {
+		return policies.stream()
+				.filter(x -> key.startsWith(x.getPrefix()))
+				.findFirst();
+	}
+}
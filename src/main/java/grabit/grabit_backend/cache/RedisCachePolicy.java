@@ -0,0 +1,29 @@
+package grabit.grabit_backend.cache;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Redis 캐시 key prefix 별 만료 정책.
+ * softTtl 이 지나면 이전 값을 응답하면서 백그라운드로 갱신하고, hardTtl 이 지나면 Redis 에서 삭제된다.
+ * 조회 실패 결과는 negativeTtl 동안만 저장한다.
+ */
+@Getter
+public class RedisCachePolicy {
+
+	private final String prefix;
+	private final Duration softTtl;
+	private final Duration hardTtl;
+	private final Duration negativeTtl;
+
+	public RedisCachePolicy(String prefix, Duration softTtl, Duration hardTtl, Duration negativeTtl) {
+		if (softTtl.compareTo(hardTtl) > 0) {
+			throw new IllegalArgumentException("softTtl 은 hardTtl 보다 클 수 없습니다. : " + prefix);
+		}
+		this.prefix = prefix;
+		this.softTtl = softTtl;
+		this.hardTtl = hardTtl;
+		this.negativeTtl = negativeTtl;
+	}
+}
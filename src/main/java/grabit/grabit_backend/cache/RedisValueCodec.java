@@ -0,0 +1,80 @@
+package grabit.grabit_backend.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Redis 문자열 값 codec.
+ * 타입별 ObjectReader/ObjectWriter 를 한 번만 만들어 재사용하고, 큰 값은 gzip + base64 로 압축해 저장한다.
+ */
+@Component
+public class RedisValueCodec {
+
+	/** 압축된 값 표시. JSON 은 이 문자열로 시작할 수 없다. */
+	static final String COMPRESSED_PREFIX = "gz:";
+
+	private final ObjectMapper objectMapper;
+	private final int compressThreshold;
+	private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+	private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+	public RedisValueCodec(ObjectMapper objectMapper,
+						   @Value("${grabit.cache.redis.compress-threshold-bytes:2048}") int compressThreshold) {
+		this.objectMapper = objectMapper.copy()
+				.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		this.compressThreshold = compressThreshold;
+	}
+
+	public JavaType type(Class<?> classType) {
+		return objectMapper.constructType(classType);
+	}
+
+	public JavaType type(TypeReference<?> typeReference) {
+		return objectMapper.getTypeFactory().constructType(typeReference);
+	}
+
+	public JavaType parametricType(Class<?> parametrized, JavaType parameter) {
+		return objectMapper.getTypeFactory().constructParametricType(parametrized, parameter);
+	}
+
+	public String encode(Object value, JavaType type) throws IOException {
+		byte[] json = writers.computeIfAbsent(type, objectMapper::writerFor).writeValueAsBytes(value);
+		if (json.length < compressThreshold) {
+			return new String(json, StandardCharsets.UTF_8);
+		}
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+		try (OutputStream out = new GZIPOutputStream(compressed)) {
+			out.write(json);
+		}
+		return COMPRESSED_PREFIX + Base64.getEncoder().encodeToString(compressed.toByteArray());
+	}
+
+	public <T> T decode(String raw, JavaType type) throws IOException {
+		ObjectReader reader = readers.computeIfAbsent(type, objectMapper::readerFor);
+		if (!raw.startsWith(COMPRESSED_PREFIX)) {
+			return reader.readValue(raw);
+		}
+		byte[] compressed = Base64.getDecoder().decode(raw.substring(COMPRESSED_PREFIX.length()));
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			return reader.readValue(in);
+		}
+	}
+}
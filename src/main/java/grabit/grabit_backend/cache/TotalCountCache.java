@@ -0,0 +1,31 @@
+package grabit.grabit_backend.cache;
+
+import grabit.grabit_backend.enums.SearchType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 챌린지 검색 결과 전체 개수 캐시. (search type, content) 단위로 저장하고 챌린지 변경 시 비운다.
+ */
+@Component
+public class TotalCountCache {
+
+	private static final int MAXIMUM_SIZE = 1000;
+
+	private final LocalCache<String, Long> cache;
+
+	public TotalCountCache(@Value("${grabit.cache.total-count.ttl-seconds:60}") long ttlSeconds) {
+		this.cache = new LocalCache<>(MAXIMUM_SIZE, Duration.ofSeconds(ttlSeconds));
+	}
+
+	public long get(SearchType searchType, String content, LongSupplier counter) {
+		return cache.get(searchType.name() + ":" + content, key -> counter.getAsLong());
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+}
@@ -0,0 +1,65 @@
+package grabit.grabit_backend.cache;
+
+import grabit.grabit_backend.domain.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 인증 principal(User) 캐시. JWT 인증마다 user 테이블을 조회하지 않도록 user id 단위로 저장한다.
+ * 엔티티를 그대로 공유하지 않고 변경할 수 없는 snapshot 을 저장해, 조회할 때마다 새 User 를 만들어 반환한다.
+ * 유저 정보 수정 시 evict 하고, 다른 노드의 값은 TTL 이 지나면 갱신된다.
+ */
+@Component
+public class UserPrincipalCache {
+
+	private final LocalCache<Integer, Snapshot> cache;
+
+	public UserPrincipalCache(@Value("${grabit.cache.principal.size:10000}") int maximumSize,
+							  @Value("${grabit.cache.principal.ttl-seconds:60}") long ttlSeconds) {
+		this.cache = new LocalCache<>(maximumSize, Duration.ofSeconds(ttlSeconds));
+	}
+
+	/**
+	 * @return 호출마다 새로 만든 User. 없으면 null
+	 */
+	public User get(Integer id, Function<Integer, User> loader) {
+		Snapshot snapshot = cache.get(id, key -> {
+			User user = loader.apply(key);
+			return user == null ? null : new Snapshot(user);
+		});
+		return snapshot == null ? null : snapshot.toUser();
+	}
+
+	public void evict(Integer id) {
+		cache.invalidate(id);
+	}
+
+	private static final class Snapshot {
+		private final Integer id;
+		private final String userId;
+		private final String username;
+		private final String userEmail;
+		private final String bio;
+		private final String profileImg;
+		private final boolean enabled;
+
+		private Snapshot(User user) {
+			this.id = user.getId();
+			this.userId = user.getUserId();
+			this.username = user.getUsername();
+			this.userEmail = user.getUserEmail();
+			this.bio = user.getBio();
+			this.profileImg = user.getProfileImg();
+			this.enabled = user.isEnabled();
+		}
+
+		private User toUser() {
+			User user = new User(id, userId, username, userEmail, bio, profileImg);
+			user.setEnabled(enabled);
+			return user;
+		}
+	}
+}
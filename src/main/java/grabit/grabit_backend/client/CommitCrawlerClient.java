@@ -0,0 +1,131 @@
+package grabit.grabit_backend.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import grabit.grabit_backend.domain.UserCommit;
+import grabit.grabit_backend.exception.CommitCrawlerException;
+import grabit.grabit_backend.exception.TooManyRequestsException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 커밋 크롤러 호출 클라이언트.
+ * 요청 스레드를 막지 않도록 비동기로 호출하고, 같은 유저에 대한 동시 요청은 진행 중인 하나의 호출을 공유한다.
+ * 동시 호출 수는 bulkhead(semaphore)로 제한해 크롤러가 느려져도 서버 자원이 묶이지 않게 한다.
+ */
+@Component
+public class CommitCrawlerClient implements DisposableBean {
+
+	private final String crawlingUrl;
+	private final Duration requestTimeout;
+	private final Semaphore bulkhead;
+	private final ExecutorService executor;
+	private final HttpClient httpClient;
+	private final ObjectReader commitReader = new ObjectMapper().readerFor(new TypeReference<List<UserCommit>>() {});
+
+	private final Map<String, CompletableFuture<List<UserCommit>>> inFlight = new ConcurrentHashMap<>();
+
+	public CommitCrawlerClient(@Value("${grabit.crawling.url}") String crawlingUrl,
+							   @Value("${grabit.crawling.connect-timeout-millis:1000}") long connectTimeoutMillis,
+							   @Value("${grabit.crawling.request-timeout-millis:3000}") long requestTimeoutMillis,
+							   @Value("${grabit.crawling.max-concurrency:16}") int maxConcurrency) {
+		this.crawlingUrl = crawlingUrl;
+		this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+		this.bulkhead = new Semaphore(maxConcurrency);
+		// 동시 호출 수는 bulkhead 로 제한하므로 응답 처리용 스레드는 소수로 충분하다.
+		this.executor = Executors.newFixedThreadPool(2, new CrawlerThreadFactory());
+		this.httpClient = HttpClient.newBuilder()
+				.connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+				.executor(executor)
+				.build();
+	}
+
+	/**
+	 * 유저 커밋 조회. 같은 유저에 대한 호출이 진행 중이면 그 결과를 공유한다.
+	 * @param userId github id
+	 * @return 크롤러 호출 실패 시 CommitCrawlerException, 동시 요청 수 초과 시 TooManyRequestsException 으로 완료되는 future
+	 */
+	public CompletableFuture<List<UserCommit>> fetchCommits(String userId) {
+		CompletableFuture<List<UserCommit>> created = new CompletableFuture<>();
+		CompletableFuture<List<UserCommit>> existing = inFlight.putIfAbsent(userId, created);
+		if (existing != null) {
+			return existing;
+		}
+		created.whenComplete((commits, e) -> inFlight.remove(userId, created));
+
+		if (!bulkhead.tryAcquire()) {
+			created.completeExceptionally(new TooManyRequestsException("커밋 크롤러 동시 요청 수를 초과했습니다."));
+			return created;
+		}
+		try {
+			httpClient.sendAsync(buildRequest(userId), HttpResponse.BodyHandlers.ofByteArray())
+					.whenComplete((response, e) -> {
+						bulkhead.release();
+						if (e != null) {
+							created.completeExceptionally(new CommitCrawlerException("커밋 크롤러 호출 실패 : " + userId, e));
+							return;
+						}
+						complete(created, userId, response);
+					});
+		} catch (RuntimeException e) {
+			bulkhead.release();
+			created.completeExceptionally(new CommitCrawlerException("커밋 크롤러 호출 실패 : " + userId, e));
+		}
+		return created;
+	}
+
+	private HttpRequest buildRequest(String userId) {
+		return HttpRequest.newBuilder(URI.create(crawlingUrl + URLEncoder.encode(userId, StandardCharsets.UTF_8)))
+				.timeout(requestTimeout)
+				.GET()
+				.build();
+	}
+
+	private void complete(CompletableFuture<List<UserCommit>> future, String userId, HttpResponse<byte[]> response) {
+		if (response.statusCode() != 200) {
+			future.completeExceptionally(new CommitCrawlerException("커밋 크롤러 응답 오류 : " + userId + " (" + response.statusCode() + ")"));
+			return;
+		}
+		try {
+			future.complete(commitReader.readValue(response.body()));
+		} catch (IOException e) {
+			future.completeExceptionally(new CommitCrawlerException("커밋 크롤러 응답 파싱 실패 : " + userId, e));
+		}
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private static class CrawlerThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "commit-crawler-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -11,8 +11,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
-import javax.annotation.PostConstruct;
-
+/**
+ * LOCAL 프로필용 in-memory S3. S3Mock 서버를 띄우고 그 서버를 바라보는 AmazonS3 를 등록한다.
+ */
 @Profile("LOCAL")
 @Configuration
 public class S3MockService {
@@ -26,17 +27,28 @@ public class S3MockService {
 	@Value("${cloud.aws.s3.mock.port}")
 	private int port;
 
-	@PostConstruct
-	public AmazonS3 amazonS3() {
-		AwsClientBuilder.EndpointConfiguration endpoint = new AwsClientBuilder.EndpointConfiguration(getUri(), region);
-		AmazonS3 amazonS3 = AmazonS3ClientBuilder
+	@Bean(destroyMethod = "shutdown")
+	public S3Mock s3Mock() {
+		S3Mock s3Mock = new S3Mock.Builder().withPort(port).withInMemoryBackend().build();
+		s3Mock.start();
+		return s3Mock;
+	}
+
+	@Bean
+	public AmazonS3 amazonS3(S3Mock s3Mock) {
+		AmazonS3 amazonS3 = createClient(getUri(), region);
+		amazonS3.createBucket(bucket);
+		return amazonS3;
+	}
+
+	public static AmazonS3 createClient(String uri, String region) {
+		AwsClientBuilder.EndpointConfiguration endpoint = new AwsClientBuilder.EndpointConfiguration(uri, region);
+		return AmazonS3ClientBuilder
 				.standard()
 				.withPathStyleAccessEnabled(true)
 				.withEndpointConfiguration(endpoint)
 				.withCredentials(new AWSStaticCredentialsProvider(new AnonymousAWSCredentials()))
 				.build();
-		amazonS3.createBucket(bucket);
-		return amazonS3;
 	}
 
 	private String getUri() {
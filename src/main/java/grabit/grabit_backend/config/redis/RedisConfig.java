@@ -1,10 +1,21 @@
 package grabit.grabit_backend.config.redis;
 
+import grabit.grabit_backend.cache.ChallengeCacheInvalidationListener;
+import grabit.grabit_backend.cache.ChallengeDetailCache;
+import grabit.grabit_backend.service.ChatRelayService;
+import grabit.grabit_backend.service.NotificationService;
+import grabit.grabit_backend.service.PresenceService;
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.event.connection.ConnectionDeactivatedEvent;
+import io.lettuce.core.resource.ClientResources;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import reactor.core.Disposable;
 
 @Configuration
 public class RedisConfig {
@@ -17,4 +28,29 @@ public class RedisConfig {
 		redisTemplate.setConnectionFactory(redisConnectionFactory);
 		return redisTemplate;
 	}
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+																	   ChallengeCacheInvalidationListener challengeCacheInvalidationListener,
+																	   ChatRelayService chatRelayService,
+																	   PresenceService presenceService,
+																	   NotificationService notificationService) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(challengeCacheInvalidationListener, new ChannelTopic(ChallengeDetailCache.INVALIDATION_CHANNEL));
+		container.addMessageListener(chatRelayService, chatRelayService.getTopics());
+		container.addMessageListener(presenceService, new ChannelTopic(PresenceService.CHANGED_CHANNEL));
+		container.addMessageListener(notificationService, new ChannelTopic(NotificationService.CHANNEL));
+		return container;
+	}
+
+	/**
+	 * 구독 연결이 끊기거나 다시 연결되는 동안의 채팅 메시지는 이 노드에 전달되지 않으므로 채팅 이력의 링 버퍼를 불완전으로 표시
+	 */
+	@Bean(destroyMethod = "dispose")
+	public Disposable chatRelayConnectionWatcher(ClientResources clientResources, ChatRelayService chatRelayService) {
+		return clientResources.eventBus().get()
+				.filter(event -> event instanceof ConnectionActivatedEvent || event instanceof ConnectionDeactivatedEvent)
+				.subscribe(event -> chatRelayService.onConnectionChanged());
+	}
 }
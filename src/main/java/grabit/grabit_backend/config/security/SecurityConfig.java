@@ -5,6 +5,7 @@ import grabit.grabit_backend.Oauth2.handler.CustomOAuth2UserService;
 import grabit.grabit_backend.Oauth2.handler.OAuth2AuthenticationSuccessHandler;
 import grabit.grabit_backend.Oauth2.repository.CustomAuthorizationRequestRepository;
 import grabit.grabit_backend.repository.UserRefreshTokenRepository;
+import grabit.grabit_backend.auth.CustomUserDetailService;
 import grabit.grabit_backend.auth.JwtAuthenticationFilter;
 import grabit.grabit_backend.auth.JwtProvider;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,14 +37,17 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final CustomOAuth2UserService customOAuth2UserService;
     private final JwtProvider jwtProvider;
+    private final CustomUserDetailService customUserDetailService;
     private final UserRefreshTokenRepository userRefreshTokenRepository;
 
     @Autowired
     public SecurityConfig(CustomOAuth2UserService customOAuth2UserService,
                           JwtProvider jwtProvider,
+                          CustomUserDetailService customUserDetailService,
                           UserRefreshTokenRepository userRefreshTokenRepository) {
         this.customOAuth2UserService = customOAuth2UserService;
         this.jwtProvider = jwtProvider;
+        this.customUserDetailService = customUserDetailService;
         this.userRefreshTokenRepository = userRefreshTokenRepository;
     }
 
@@ -65,7 +69,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
      */
     @Bean
     public OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler() {
-        return new OAuth2AuthenticationSuccessHandler(jwtProvider, userRefreshTokenRepository, customAuthorizationRequestRepository());
+        return new OAuth2AuthenticationSuccessHandler(jwtProvider, customUserDetailService, userRefreshTokenRepository, customAuthorizationRequestRepository());
     }
 
     public CustomAuthorizationRequestRepository customAuthorizationRequestRepository() {
@@ -1,27 +1,172 @@
 package grabit.grabit_backend.config.stomp;
 
 import grabit.grabit_backend.auth.JwtProvider;
+import grabit.grabit_backend.cache.ChallengeMembershipCache;
+import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.exception.ForbiddenException;
+import grabit.grabit_backend.exception.UnauthorizedException;
+import grabit.grabit_backend.repository.UserChallengeRepository;
+import grabit.grabit_backend.service.ChatRelayService;
+import grabit.grabit_backend.service.NotificationService;
+import grabit.grabit_backend.service.PresenceService;
+import grabit.grabit_backend.utils.PrincipalUtil;
+import io.jsonwebtoken.Claims;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
-import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.StringUtils;
 
-import java.nio.file.AccessDeniedException;
-import java.rmi.AccessException;
+import java.security.Principal;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * STOMP 인증/인가.
+ * CONNECT 시 Authorization 헤더의 JWT 로 세션 user 를 설정하고,
+ * 채팅방, presence SUBSCRIBE 와 채팅 SEND 는 챌린지 멤버만 허용한다. 멤버 여부는 ChallengeMembershipCache 로 확인해 프레임마다 DB 를 조회하지 않는다.
+ * 유저 알림 SUBSCRIBE 는 본인 것만 허용하고, 그 밖의 /sub 구독과 wildcard 구독은 거절한다.
+ */
 @Configuration
 public class StompConfig implements ChannelInterceptor {
+	public static final String SEND_DESTINATION_PREFIX = "/pub/chat/message/";
+	private static final String BROKER_DESTINATION_PREFIX = "/sub";
+
+	private static final Pattern WILDCARD = Pattern.compile("[*?{]");
+	private static final Pattern SEND_DESTINATION = Pattern.compile(Pattern.quote(SEND_DESTINATION_PREFIX) + "(\\d+)");
+	private static final Pattern ROOM_DESTINATION = Pattern.compile(Pattern.quote(ChatRelayService.ROOM_DESTINATION_PREFIX) + "(\\d+)");
+	private static final Pattern PRESENCE_DESTINATION = Pattern.compile(Pattern.quote(PresenceService.PRESENCE_DESTINATION_PREFIX) + "(\\d+)");
+	private static final Pattern NOTIFICATION_DESTINATION = Pattern.compile(Pattern.quote(NotificationService.USER_DESTINATION_PREFIX)
+			+ "(\\d+)" + Pattern.quote(NotificationService.NOTIFICATION_DESTINATION_SUFFIX));
+
 	public JwtProvider jwtProvider;
+	private final ChallengeMembershipCache challengeMembershipCache;
+	private final UserChallengeRepository userChallengeRepository;
 
-	public StompConfig(JwtProvider jwtProvider) {
+	public StompConfig(JwtProvider jwtProvider,
+					   ChallengeMembershipCache challengeMembershipCache,
+					   UserChallengeRepository userChallengeRepository) {
 		this.jwtProvider = jwtProvider;
+		this.challengeMembershipCache = challengeMembershipCache;
+		this.userChallengeRepository = userChallengeRepository;
 	}
 
 	@Override
 	public Message<?> preSend(Message<?> message, MessageChannel channel) {
-		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+		if (accessor == null || accessor.getCommand() == null) {
+			return message;
+		}
+
+		switch (accessor.getCommand()) {
+			case CONNECT:
+				accessor.setUser(authenticate(accessor));
+				break;
+			case SUBSCRIBE:
+				checkSubscribe(accessor.getUser(), accessor.getDestination());
+				break;
+			case SEND:
+				checkSend(accessor.getUser(), accessor.getDestination());
+				break;
+			default:
+				break;
+		}
 		return message;
 	}
+
+	private Authentication authenticate(StompHeaderAccessor accessor) {
+		String bearerToken = accessor.getFirstNativeHeader("Authorization");
+		if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith("Bearer ")) {
+			throw new UnauthorizedException();
+		}
+		Optional<Claims> claims = jwtProvider.parseClaims(bearerToken.substring(7));
+		if (claims.isEmpty()) {
+			throw new UnauthorizedException("유효하지 않은 토큰입니다.");
+		}
+		return jwtProvider.getAuthentication(claims.get());
+	}
+
+	/**
+	 * simple broker 는 구독 destination 을 Ant pattern 으로 매칭하므로 wildcard 구독은 모두 거절하고,
+	 * /sub 아래는 허용한 형태만 구독할 수 있다. (/user 는 세션별 destination 으로 변환되어 본인 메시지만 받는다)
+	 */
+	private void checkSubscribe(Principal principal, String destination) {
+		checkPattern(destination);
+		if (!destination.startsWith(BROKER_DESTINATION_PREFIX)) {
+			return;
+		}
+		Matcher matcher = ROOM_DESTINATION.matcher(destination);
+		if (matcher.matches()) {
+			checkMember(principal, roomId(matcher.group(1)));
+			return;
+		}
+		matcher = PRESENCE_DESTINATION.matcher(destination);
+		if (matcher.matches()) {
+			checkMember(principal, roomId(matcher.group(1)));
+			return;
+		}
+		matcher = NOTIFICATION_DESTINATION.matcher(destination);
+		if (matcher.matches()) {
+			checkOwner(principal, matcher.group(1));
+			return;
+		}
+		throw new ForbiddenException("구독할 수 없는 경로입니다.");
+	}
+
+	/**
+	 * broker destination 으로 직접 보내는 SEND 는 거절한다. 다른 채팅방에 메시지를 끼워 넣을 수 있다.
+	 */
+	private void checkSend(Principal principal, String destination) {
+		checkPattern(destination);
+		if (destination.startsWith(BROKER_DESTINATION_PREFIX)) {
+			throw new ForbiddenException("보낼 수 없는 경로입니다.");
+		}
+		Matcher matcher = SEND_DESTINATION.matcher(destination);
+		if (matcher.matches()) {
+			checkMember(principal, roomId(matcher.group(1)));
+		} else if (destination.startsWith(SEND_DESTINATION_PREFIX)) {
+			throw new ForbiddenException("잘못된 채팅방입니다.");
+		}
+	}
+
+	private void checkPattern(String destination) {
+		if (destination == null || WILDCARD.matcher(destination).find()) {
+			throw new ForbiddenException("잘못된 경로입니다.");
+		}
+	}
+
+	private Long roomId(String digits) {
+		try {
+			return Long.valueOf(digits);
+		} catch (NumberFormatException e) {
+			throw new ForbiddenException("잘못된 채팅방입니다.");
+		}
+	}
+
+	private void checkOwner(Principal principal, String owner) {
+		User user = PrincipalUtil.getUser(principal);
+		if (user == null) {
+			throw new UnauthorizedException();
+		}
+		if (!owner.equals(String.valueOf(user.getId()))) {
+			throw new ForbiddenException("본인의 알림만 구독할 수 있습니다.");
+		}
+	}
+
+	private void checkMember(Principal principal, Long roomId) {
+		User user = PrincipalUtil.getUser(principal);
+		if (user == null) {
+			throw new UnauthorizedException();
+		}
+		if (!challengeMembershipCache.isMember(user.getId(), roomId,
+				userId -> Set.copyOf(userChallengeRepository.findChallengeIdsByUserId(userId)))) {
+			throw new ForbiddenException("챌린지 멤버만 참여할 수 있습니다.");
+		}
+	}
 }
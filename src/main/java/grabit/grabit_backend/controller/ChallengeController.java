@@ -1,5 +1,6 @@
 package grabit.grabit_backend.controller;
 
+import grabit.grabit_backend.cache.ChallengeSnapshot;
 import grabit.grabit_backend.domain.Challenge;
 import grabit.grabit_backend.domain.JoinChallengeRequest;
 import grabit.grabit_backend.domain.User;
@@ -14,23 +15,36 @@ import grabit.grabit_backend.repository.ChallengeSearchWithTitleAndDesc;
 import grabit.grabit_backend.dto.*;
 import grabit.grabit_backend.exception.DuplicateDataException;
 import grabit.grabit_backend.service.ChallengeService;
+import grabit.grabit_backend.service.ChallengeStatService;
+import grabit.grabit_backend.service.ChatHistoryService;
+import grabit.grabit_backend.service.PresenceService;
+import grabit.grabit_backend.utils.PagingUtil;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.List;
 
 @RestController
 @RequestMapping("challenges")
 public class ChallengeController {
 
     private final ChallengeService challengeService;
+    private final ChatHistoryService chatHistoryService;
+    private final PresenceService presenceService;
+    private final ChallengeStatService challengeStatService;
 
-	public ChallengeController(ChallengeService challengeService) {
+	public ChallengeController(ChallengeService challengeService, ChatHistoryService chatHistoryService, PresenceService presenceService,
+							   ChallengeStatService challengeStatService) {
 		this.challengeService = challengeService;
+		this.chatHistoryService = chatHistoryService;
+		this.presenceService = presenceService;
+		this.challengeStatService = challengeStatService;
 	}
 
     /**
@@ -41,18 +55,43 @@ public class ChallengeController {
      * @param title
      * @param description
      * @param leaderId
+     * @param count false 이면 전체 개수(totalPages, totalElements)를 계산하지 않음
      * @return
      */
     @GetMapping(value = "")
     public ResponseEntity<ResponsePagingDTO> findAllChallengesWithPageAPI(@RequestParam(defaultValue = "1") Integer page,
                                                                           @RequestParam(defaultValue = "5") Integer size,
                                                                           @RequestParam(defaultValue = "title") String type,
-                                                                          @RequestParam(defaultValue = "") String content) {
+                                                                          @RequestParam(defaultValue = "") String content,
+                                                                          @RequestParam(defaultValue = "true") Boolean count) {
         page = page - 1;
-        Page<Challenge> findChallengesWithPage = challengeService.findChallengeBySearchWithPage(type, content, page, size);
+        Slice<ChallengeSummaryDTO> findChallengesWithPage = challengeService.findChallengeBySearchWithPage(type, content, page, PagingUtil.pageSize(size), count);
         return ResponseEntity.status(HttpStatus.OK).body(ResponseChallengePagingDTO.convertDTO(findChallengesWithPage));
     }
 
+    /**
+     * 챌린지 목록 조회 (search) with Cursor API
+     *
+     * @param after 이 cursor 이후(더 오래된) 챌린지 조회
+     * @param before 이 cursor 이전(더 최신) 챌린지 조회
+     * @param size
+     * @param type
+     * @param content
+     * @return
+     */
+    @GetMapping(value = "", params = "paging=cursor")
+    public ResponseEntity<ResponseChallengeCursorDTO> findAllChallengesWithCursorAPI(@RequestParam(required = false) String after,
+                                                                                     @RequestParam(required = false) String before,
+                                                                                     @RequestParam(defaultValue = "5") Integer size,
+                                                                                     @RequestParam(defaultValue = "title") String type,
+                                                                                     @RequestParam(defaultValue = "") String content) {
+        ChallengeCursor afterCursor = ChallengeCursor.decode(after);
+        ChallengeCursor beforeCursor = ChallengeCursor.decode(before);
+        Slice<ChallengeSummaryDTO> challenges = challengeService.findChallengeBySearchWithCursor(type, content, afterCursor, beforeCursor, PagingUtil.pageSize(size));
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ResponseChallengeCursorDTO.convertDTO(challenges, beforeCursor != null, afterCursor != null || beforeCursor != null));
+    }
+
     /**
      * 챌린지 생성 API
      *
@@ -106,11 +145,59 @@ public class ChallengeController {
     @GetMapping(value = "{id}")
     public ResponseEntity<ResponseChallengeDTO> findChallengeAPI(@PathVariable(value = "id") Long id,
                                                                  @AuthenticationPrincipal User user) {
-        Challenge challenge = challengeService.findChallengeByIdWithAuth(id, user);
+        ChallengeSnapshot challenge = challengeService.findChallengeByIdWithAuth(id, user);
         return ResponseEntity.status(HttpStatus.OK).
                 body(ResponseChallengeDTO.convertDTO(challenge));
     }
 
+    /**
+     * 챌린지 채팅 이력 조회 API (최신순)
+     *
+     * @param id
+     * @param before 이 cursor 이전(더 오래된) 메시지 조회
+     * @param size
+     * @param user
+     * @return
+     */
+    @GetMapping(value = "{id}/chat")
+    public ResponseEntity<ResponseChatMessageListDTO> findChatMessagesAPI(@PathVariable(value = "id") Long id,
+                                                                          @RequestParam(required = false) String before,
+                                                                          @RequestParam(defaultValue = "30") Integer size,
+                                                                          @AuthenticationPrincipal User user) {
+        challengeService.findChallengeByIdWithAuth(id, user);
+        ChatCursor beforeCursor = ChatCursor.decode(before);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(chatHistoryService.findMessages(id, beforeCursor, Math.max(1, Math.min(size, 100))));
+    }
+
+    /**
+     * 챌린지 채팅방 접속 현황 조회 API
+     *
+     * @param id
+     * @param user
+     * @return
+     */
+    @GetMapping(value = "{id}/presence")
+    public ResponseEntity<ResponsePresenceDTO> findPresenceAPI(@PathVariable(value = "id") Long id,
+                                                               @AuthenticationPrincipal User user) {
+        challengeService.findChallengeByIdWithAuth(id, user);
+        return ResponseEntity.status(HttpStatus.OK).body(presenceService.getPresence(id));
+    }
+
+    /**
+     * 챌린지 멤버별 인증 통계 조회 API
+     *
+     * @param id
+     * @param user
+     * @return
+     */
+    @GetMapping(value = "{id}/stats")
+    public ResponseEntity<List<ResponseChallengeStatDTO>> findChallengeStatsAPI(@PathVariable(value = "id") Long id,
+                                                                                @AuthenticationPrincipal User user) {
+        challengeService.findChallengeByIdWithAuth(id, user);
+        return ResponseEntity.status(HttpStatus.OK).body(challengeStatService.findChallengeStats(id));
+    }
+
     /**
      * 챌린지 가입 요청 API
      *
@@ -152,7 +239,7 @@ public class ChallengeController {
     @PostMapping(value = "join/approve")
     public ResponseEntity<ResponseChallengeDTO> approveJoinChallengeAPI(@RequestParam() Long requestId,
                                         @AuthenticationPrincipal User user) {
-        Challenge challenge = challengeService.approveJoinChallengeRequest(requestId, user);
+        ChallengeSummaryDTO challenge = challengeService.approveJoinChallengeRequest(requestId, user);
         return ResponseEntity.status(HttpStatus.OK).body(ResponseChallengeDTO.convertDTO(challenge));
     }
 
@@ -174,8 +261,7 @@ public class ChallengeController {
                                                                      @RequestParam(defaultValue = "5") Integer size,
                                                                      @AuthenticationPrincipal User user) {
         page -= 1;
-        Page<JoinChallengeRequest> joinChallengeRequestListByChallengeWithPage = challengeService.findJoinChallengeRequestListByChallengeWithPage(user, challengeId, page, size);
+        Page<JoinChallengeRequest> joinChallengeRequestListByChallengeWithPage = challengeService.findJoinChallengeRequestListByChallengeWithPage(user, challengeId, page, PagingUtil.pageSize(size));
         return ResponseEntity.status(HttpStatus.OK).body(ResponseJoinChallengeRequestPagingDTO.convertDTO(joinChallengeRequestListByChallengeWithPage));
     }
 }
-
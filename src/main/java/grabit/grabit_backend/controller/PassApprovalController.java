@@ -4,6 +4,7 @@ import grabit.grabit_backend.domain.PassApproval;
 import grabit.grabit_backend.domain.User;
 import grabit.grabit_backend.dto.CreatePassApprovalDTO;
 import grabit.grabit_backend.dto.ResponsePassApprovalDTO;
+import grabit.grabit_backend.dto.ResponsePendingVoteListDTO;
 import grabit.grabit_backend.service.PassApprovalResultService;
 import grabit.grabit_backend.service.PassApprovalService;
 import org.springframework.http.HttpStatus;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
@@ -39,6 +41,21 @@ public class PassApprovalController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(ResponsePassApprovalDTO.convertDTO(createdPassApproval));
 	}
 
+	/**
+	 * 투표 대기 목록 조회 API (최신 요청순)
+	 * @param after 이 cursor 이후(더 오래된) 목록 조회
+	 * @param size
+	 * @param user
+	 * @return
+	 */
+	@GetMapping(value = "inbox")
+	public ResponseEntity<ResponsePendingVoteListDTO> findPendingVotesAPI(@RequestParam(required = false) Long after,
+																		  @RequestParam(defaultValue = "20") Integer size,
+																		  @AuthenticationPrincipal User user) {
+		int pageSize = Math.max(1, Math.min(size, PassApprovalResultService.MAX_PENDING_VOTE_SIZE));
+		return ResponseEntity.status(HttpStatus.OK).body(passApprovalResultService.findPendingVotes(user, after, pageSize));
+	}
+
 	@GetMapping(value = "{id}")
 	public ResponseEntity<ResponsePassApprovalDTO> readPassApprovalAPI (@PathVariable(value = "id") Long id) {
 		PassApproval readedPassApproval = passApprovalService.readPassApproval(id);
@@ -2,7 +2,7 @@ package grabit.grabit_backend.controller;
 
 import grabit.grabit_backend.domain.User;
 import grabit.grabit_backend.dto.ResponseImageURLDTO;
-import grabit.grabit_backend.service.S3Service;
+import grabit.grabit_backend.service.ImageVariantService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,25 +12,26 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("image")
 public class S3Controller {
 
-	private S3Service s3Service;
+	private ImageVariantService imageVariantService;
 
 	@Autowired
-	public S3Controller(S3Service s3Service){
-		this.s3Service = s3Service;
+	public S3Controller(ImageVariantService imageVariantService){
+		this.imageVariantService = imageVariantService;
 	}
 
+	/**
+	 * 이미지 업로드. 원본과 가로 크기별 축소본 url 을 응답한다.
+	 */
 	@PostMapping(value = "")
-	public ResponseEntity<ResponseImageURLDTO> execWrite(@AuthenticationPrincipal User user,
-											MultipartFile file) throws IOException {
-		String result = s3Service.upload(user, file);
-		ResponseImageURLDTO responseImageURLDTO = new ResponseImageURLDTO(result);
-
-		return ResponseEntity.status(HttpStatus.OK).body(responseImageURLDTO);
+	public CompletableFuture<ResponseEntity<ResponseImageURLDTO>> execWrite(@AuthenticationPrincipal User user,
+																			MultipartFile file) {
+		return imageVariantService.upload(user, file)
+				.thenApply(responseImageURLDTO -> ResponseEntity.status(HttpStatus.OK).body(responseImageURLDTO));
 	}
 }
@@ -2,22 +2,38 @@ package grabit.grabit_backend.controller;
 
 import grabit.grabit_backend.domain.User;
 import grabit.grabit_backend.dto.ChatMessageDTO;
+import grabit.grabit_backend.dto.ResponseChatErrorDTO;
+import grabit.grabit_backend.exception.TooManyRequestsException;
+import grabit.grabit_backend.ratelimit.ChatRateLimiter;
+import grabit.grabit_backend.service.ChatHistoryService;
+import grabit.grabit_backend.service.ChatRelayService;
+import grabit.grabit_backend.utils.PrincipalUtil;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.stereotype.Controller;
-import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.security.Principal;
+
 @RestController
 public class StompChatController {
 
-	private final SimpMessagingTemplate template;
+	private final ChatRelayService chatRelayService;
+	private final ChatHistoryService chatHistoryService;
+	private final ChatRateLimiter chatRateLimiter;
 
 	@Autowired
-	public StompChatController(SimpMessagingTemplate template){
-		this.template = template;
+	public StompChatController(ChatRelayService chatRelayService,
+							   ChatHistoryService chatHistoryService,
+							   ChatRateLimiter chatRateLimiter){
+		this.chatRelayService = chatRelayService;
+		this.chatHistoryService = chatHistoryService;
+		this.chatRateLimiter = chatRateLimiter;
 	}
 
 //	@MessageMapping(value = "/chat/enter/{id}")
@@ -28,10 +44,41 @@ public class StompChatController {
 //		template.convertAndSend("/sub/chat/room/"+id, message);
 //	}
 
+	/**
+	 * 채팅 메시지 전송. 이력 저장 대기열에 넣고 Redis 를 통해 모든 노드의 구독자에게 전달된다.
+	 * 전송량 제한을 넘으면 전달하지 않고 보낸 세션에 오류를 응답한다.
+	 */
 	@MessageMapping(value = "/chat/message/{id}")
-	public void message(@AuthenticationPrincipal User user,
-						@PathVariable(value = "id") String id,
-						ChatMessageDTO message){
-		template.convertAndSend("/sub/chat/room/"+id, message);
+	public void message(@DestinationVariable(value = "id") Long id,
+						ChatMessageDTO message,
+						Principal principal,
+						SimpMessageHeaderAccessor headerAccessor){
+		String sender = sender(principal);
+		if (!chatRateLimiter.tryAcquire(sender == null ? headerAccessor.getSessionId() : sender, id).isAllowed()) {
+			throw new TooManyRequestsException();
+		}
+		message.setId(new ObjectId().toHexString());
+		message.setChallengeId(id);
+		message.setSender(sender);
+		message.setTimestamp(System.currentTimeMillis());
+		chatHistoryService.record(message);
+		chatRelayService.publish(id, message);
+	}
+
+	@MessageExceptionHandler(TooManyRequestsException.class)
+	@SendToUser(destinations = "/queue/errors", broadcast = false)
+	public ResponseChatErrorDTO handleTooManyRequests(TooManyRequestsException e) {
+		return new ResponseChatErrorDTO(HttpStatus.TOO_MANY_REQUESTS.value(), e.getMessage());
+	}
+
+	/**
+	 * CONNECT 시 StompConfig 에서 설정한 인증 정보의 github id
+	 */
+	private String sender(Principal principal) {
+		User user = PrincipalUtil.getUser(principal);
+		if (user != null) {
+			return user.getUserId();
+		}
+		return principal == null ? null : principal.getName();
 	}
 }
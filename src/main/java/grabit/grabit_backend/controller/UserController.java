@@ -3,32 +3,42 @@ package grabit.grabit_backend.controller;
 import grabit.grabit_backend.domain.Challenge;
 import grabit.grabit_backend.domain.User;
 import grabit.grabit_backend.domain.UserCommit;
+import grabit.grabit_backend.dto.ChallengeCursor;
+import grabit.grabit_backend.dto.ChallengeSummaryDTO;
+import grabit.grabit_backend.dto.ResponseChallengeCursorDTO;
 import grabit.grabit_backend.dto.ResponseChallengePagingDTO;
 import grabit.grabit_backend.dto.ResponseUserDTO;
+import grabit.grabit_backend.dto.ResponseUserStatDTO;
 import grabit.grabit_backend.dto.UpdateUserDTO;
+import grabit.grabit_backend.service.ChallengeStatService;
 import grabit.grabit_backend.service.UserService;
+import grabit.grabit_backend.utils.PagingUtil;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import javax.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("users")
 public class UserController {
 
     private final UserService userService;
+    private final ChallengeStatService challengeStatService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ChallengeStatService challengeStatService) {
         this.userService = userService;
+        this.challengeStatService = challengeStatService;
     }
     @GetMapping("")
     public ResponseEntity<ResponseUserDTO> getUser(@AuthenticationPrincipal User user) {
-        ResponseUserDTO resDTO = new ResponseUserDTO(user);
+        ResponseUserDTO resDTO = new ResponseUserDTO(userService.findUserById(user.getId()));
         return ResponseEntity.status(HttpStatus.OK).body(resDTO);
     }
 
@@ -42,16 +52,43 @@ public class UserController {
     @GetMapping("challenges")
     public ResponseEntity<ResponseChallengePagingDTO> getJoinedChallengeList(@AuthenticationPrincipal User user,
                                                                              @RequestParam(defaultValue = "1") Integer page,
-                                                                             @RequestParam(defaultValue = "5") Integer size) {
+                                                                             @RequestParam(defaultValue = "5") Integer size,
+                                                                             @RequestParam(defaultValue = "true") Boolean count) {
         if (page < 1) page = 1;
         page = page - 1;
-        Page<Challenge> challenges = userService.findUserJoinedChallenges(user, page, size);
+        Slice<ChallengeSummaryDTO> challenges = userService.findUserJoinedChallenges(user, page, PagingUtil.pageSize(size), count);
         return ResponseEntity.status(HttpStatus.OK).body(ResponseChallengePagingDTO.convertDTO(challenges));
     }
 
+    @GetMapping(value = "challenges", params = "paging=cursor")
+    public ResponseEntity<ResponseChallengeCursorDTO> getJoinedChallengeListWithCursor(@AuthenticationPrincipal User user,
+                                                                                       @RequestParam(required = false) String after,
+                                                                                       @RequestParam(required = false) String before,
+                                                                                       @RequestParam(defaultValue = "5") Integer size) {
+        ChallengeCursor afterCursor = ChallengeCursor.decode(after);
+        ChallengeCursor beforeCursor = ChallengeCursor.decode(before);
+        Slice<ChallengeSummaryDTO> challenges = userService.findUserJoinedChallengesByCursor(user, afterCursor, beforeCursor, PagingUtil.pageSize(size));
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ResponseChallengeCursorDTO.convertDTO(challenges, beforeCursor != null, afterCursor != null || beforeCursor != null));
+    }
+
+    /**
+     * 유저 인증 통계 조회. 가입한 챌린지별 통계와 year 의 인증 달력
+     */
+    @GetMapping("stats")
+    public ResponseEntity<ResponseUserStatDTO> getUserStats(@AuthenticationPrincipal User user,
+                                                            @RequestParam(required = false) Integer year) {
+        int targetYear = year == null ? LocalDate.now().getYear() : year;
+        return ResponseEntity.status(HttpStatus.OK).body(challengeStatService.findUserStats(user, targetYear));
+    }
+
+    /**
+     * 유저 커밋 조회. 크롤러 응답을 기다리는 동안 요청 스레드를 점유하지 않도록 비동기로 응답한다.
+     */
     @GetMapping("commits")
-    public ResponseEntity<List<UserCommit>> getUserCommits(@AuthenticationPrincipal User user) {
-        return ResponseEntity.status(HttpStatus.OK).body(userService.getCommitData(user));
+    public CompletableFuture<ResponseEntity<List<UserCommit>>> getUserCommits(@AuthenticationPrincipal User user) {
+        return userService.getCommitData(user)
+                .thenApply(commits -> ResponseEntity.status(HttpStatus.OK).body(commits));
     }
 
 }
\ No newline at end of file
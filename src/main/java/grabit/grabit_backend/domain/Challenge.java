@@ -20,6 +20,7 @@ import javax.persistence.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name = "challenge")
+@Table(indexes = @Index(name = "idx_created_at_challenge", columnList = "createdAt, CHALLENGE_ID"))
 public class Challenge extends BaseEntity {
 
 	@Id
@@ -36,7 +37,7 @@ public class Challenge extends BaseEntity {
 	@Column(name = "IS_PRIVATE")
 	private Boolean isPrivate;
 
-	@OneToMany(mappedBy = "challenge", cascade = CascadeType.REMOVE, fetch = FetchType.EAGER)
+	@OneToMany(mappedBy = "challenge", cascade = CascadeType.REMOVE, fetch = FetchType.LAZY)
 	@JsonManagedReference
 	private List<UserChallenge> userChallengeList;
 
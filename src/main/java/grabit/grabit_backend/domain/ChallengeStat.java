@@ -0,0 +1,119 @@
+package grabit.grabit_backend.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 유저별 챌린지 인증 통계. Pass 가 생길 때마다 record 로 갱신해 Pass 이력을 다시 읽지 않는다.
+ * recentDays 는 lastPassDate 부터 과거 64일의 인증 여부 (bit i = lastPassDate - i 일) 로,
+ * 승인이 늦어 과거 날짜의 Pass 가 나중에 생겨도 64일 안이면 연속 기록을 정확히 다시 계산한다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity(name = "challenge_stat")
+@Table(indexes = @Index(name = "unique_idx_stat_user_challenge", columnList = "USER_ID, CHALLENGE_ID", unique = true))
+public class ChallengeStat {
+
+	private static final int WINDOW = Long.SIZE;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "CHALLENGE_STAT_ID")
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "USER_ID")
+	private User user;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "CHALLENGE_ID")
+	private Challenge challenge;
+
+	/** lastPassDate 에서 끝나는 연속 인증 일수 */
+	@Column(name = "CURRENT_STREAK", nullable = false)
+	private int currentStreak;
+
+	@Column(name = "LONGEST_STREAK", nullable = false)
+	private int longestStreak;
+
+	/** 인증한 날짜 수 (같은 날 중복 인증은 64일 안에서만 걸러진다) */
+	@Column(name = "PASS_COUNT", nullable = false)
+	private int passCount;
+
+	@Column(name = "RECENT_DAYS", nullable = false)
+	private long recentDays;
+
+	@Column(name = "FIRST_PASS_DATE")
+	private LocalDate firstPassDate;
+
+	@Column(name = "LAST_PASS_DATE")
+	private LocalDate lastPassDate;
+
+	/**
+	 * 인증 날짜 반영
+	 * @return 이미 반영된 날짜면 false
+	 */
+	public boolean record(LocalDate date) {
+		if (lastPassDate == null) {
+			recentDays = 1L;
+			currentStreak = 1;
+			longestStreak = Math.max(longestStreak, 1);
+			passCount++;
+			firstPassDate = date;
+			lastPassDate = date;
+			return true;
+		}
+
+		long gap = ChronoUnit.DAYS.between(date, lastPassDate);
+		if (gap < 0) {
+			long shift = -gap;
+			recentDays = shift >= WINDOW ? 1L : (recentDays << shift) | 1L;
+			currentStreak = shift == 1 ? currentStreak + 1 : 1;
+			lastPassDate = date;
+		} else if (gap < WINDOW) {
+			long bit = 1L << gap;
+			if ((recentDays & bit) != 0) {
+				return false;
+			}
+			recentDays |= bit;
+			int trailing = Long.numberOfTrailingZeros(~recentDays);
+			currentStreak = trailing == WINDOW ? Math.max(currentStreak, WINDOW) : trailing;
+			longestStreak = Math.max(longestStreak, runLength((int) gap));
+		}
+		// 64일보다 오래된 날짜는 연속 기록에 반영하지 않는다.
+
+		passCount++;
+		if (date.isBefore(firstPassDate)) {
+			firstPassDate = date;
+		}
+		longestStreak = Math.max(longestStreak, currentStreak);
+		return true;
+	}
+
+	/**
+	 * recentDays 에서 bit 를 포함한 연속 구간 길이
+	 */
+	private int runLength(int bit) {
+		int length = 1;
+		for (int i = bit - 1; i >= 0 && (recentDays & (1L << i)) != 0; i--) {
+			length++;
+		}
+		for (int i = bit + 1; i < WINDOW && (recentDays & (1L << i)) != 0; i++) {
+			length++;
+		}
+		return length;
+	}
+}
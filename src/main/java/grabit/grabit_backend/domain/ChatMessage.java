@@ -0,0 +1,29 @@
+package grabit.grabit_backend.domain;
+
+import grabit.grabit_backend.dto.ChatMessageDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * MongoDB 에 저장되는 채팅 메시지. (challengeId, timestamp) 복합 인덱스로 방 별 최신순 조회.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "chat_message")
+public class ChatMessage {
+
+	@Id
+	private String id;
+	private Long challengeId;
+	private String sender;
+	private String message;
+	private Long timestamp;
+
+	public static ChatMessage of(ChatMessageDTO dto) {
+		return new ChatMessage(dto.getId(), dto.getChallengeId(), dto.getSender(), dto.getMessage(), dto.getTimestamp());
+	}
+}
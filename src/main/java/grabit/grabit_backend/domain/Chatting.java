@@ -1,22 +1,24 @@
 package grabit.grabit_backend.domain;
 
+import grabit.grabit_backend.enums.ChattingType;
+
 public class Chatting {
 	private Long id;
 	private String name;
 	private String content;
 	private Long challengeId;
-	private String chattingType;
+	private ChattingType chattingType;
 
 	@Override
 	public String toString() {
 		return "Chating :" + id + ", name: " + name + ", content: " + content + ", challengeId: " + challengeId;
 	}
 
-	public String getChattingType() {
+	public ChattingType getChattingType() {
 		return chattingType;
 	}
 
-	public void setChattingType(String chattingType) {
+	public void setChattingType(ChattingType chattingType) {
 		this.chattingType = chattingType;
 	}
 
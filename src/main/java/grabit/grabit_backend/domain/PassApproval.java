@@ -33,6 +33,20 @@ public class PassApproval extends BaseEntity {
 	@Column(name = "CONTENT")
 	private String content;
 
+	/** 투표 대상 인원. 찬성/반대 수와 함께 PassApprovalRepository 의 조건부 UPDATE 로만 갱신한다. */
+	@Column(name = "TOTAL_COUNT", nullable = false, columnDefinition = "int default 0")
+	private int totalCount;
+
+	@Column(name = "APPROVED_COUNT", nullable = false, columnDefinition = "int default 0")
+	private int approvedCount;
+
+	@Column(name = "REJECTED_COUNT", nullable = false, columnDefinition = "int default 0")
+	private int rejectedCount;
+
+	/** 통과/거절이 결정되면 true. 결정은 한 트랜잭션에서만 일어난다. */
+	@Column(name = "CLOSED", nullable = false, columnDefinition = "bit default 0")
+	private boolean closed;
+
 	@OneToMany(mappedBy = "passApproval", cascade = CascadeType.REMOVE, fetch = FetchType.LAZY)
 	private List<PassApprovalResult> passApprovalResult;
 
@@ -14,8 +14,10 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 @Getter
 @Setter
@@ -23,6 +25,7 @@ import javax.persistence.ManyToOne;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name = "PASS_APPROVAL_RESULT")
+@Table(indexes = @Index(name = "idx_user_status_pass_approval", columnList = "USER_ID, STATUS, PASS_APPROVAL_ID"))
 public class PassApprovalResult {
 
 	@Id
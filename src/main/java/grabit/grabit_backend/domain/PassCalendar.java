@@ -0,0 +1,52 @@
+package grabit.grabit_backend.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+/**
+ * 유저의 연도별 인증 달력. 챌린지와 관계없이 인증한 날의 bit (1월 1일이 0번 bit) 를 켠 46 byte bitmap.
+ */
+@Getter
+@NoArgsConstructor
+@Entity(name = "pass_calendar")
+@Table(indexes = @Index(name = "unique_idx_calendar_user_year", columnList = "USER_ID, CALENDAR_YEAR", unique = true))
+public class PassCalendar {
+
+	public static final int SIZE = 46;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "PASS_CALENDAR_ID")
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "USER_ID")
+	private User user;
+
+	@Column(name = "CALENDAR_YEAR", nullable = false)
+	private int calendarYear;
+
+	@Column(name = "DAYS", nullable = false, columnDefinition = "binary(46)")
+	private byte[] days;
+
+	/**
+	 * dayOfYear 하나만 켠 bitmap
+	 */
+	public static byte[] mask(int dayOfYear) {
+		byte[] mask = new byte[SIZE];
+		int bit = dayOfYear - 1;
+		mask[bit / 8] = (byte) (1 << (bit % 8));
+		return mask;
+	}
+}
@@ -27,12 +27,12 @@ import javax.persistence.ManyToOne;
 public class UserChallenge extends BaseEntity{
 
 	@Id
-	@ManyToOne(fetch = FetchType.EAGER)
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "USER_ID")
 	private User user;
 
 	@Id
-	@ManyToOne(fetch = FetchType.EAGER)
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "CHALLENGE_ID")
 	@JsonBackReference
 	private Challenge challenge;
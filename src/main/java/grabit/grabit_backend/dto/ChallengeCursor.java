@@ -0,0 +1,44 @@
+package grabit.grabit_backend.dto;
+
+import grabit.grabit_backend.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 챌린지 목록 keyset 페이징 cursor. (createdAt, id) 를 base64 로 인코딩해 클라이언트에는 불투명한 문자열로 전달.
+ */
+@Getter
+@AllArgsConstructor
+public class ChallengeCursor {
+
+	private static final String DELIMITER = "_";
+
+	private final LocalDateTime createdAt;
+	private final Long id;
+
+	public static ChallengeCursor of(ChallengeSummaryDTO challenge) {
+		return new ChallengeCursor(challenge.getCreatedAt(), challenge.getId());
+	}
+
+	public String encode() {
+		String raw = createdAt + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static ChallengeCursor decode(String cursor) {
+		if (cursor == null || cursor.isEmpty()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int index = raw.lastIndexOf(DELIMITER);
+			return new ChallengeCursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+		} catch (RuntimeException e) {
+			throw new BadRequestException("잘못된 cursor 입니다.");
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package grabit.grabit_backend.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 챌린지 통계 조회용 projection. 인증 기록이 없으면 통계 값은 null.
+ */
+@Getter
+public class ChallengeStatDTO {
+
+	private final Long challengeId;
+	private final String challengeName;
+	private final String userId;
+	private final LocalDateTime joinedAt;
+	private final Integer currentStreak;
+	private final Integer longestStreak;
+	private final Integer passCount;
+	private final LocalDate firstPassDate;
+	private final LocalDate lastPassDate;
+
+	public ChallengeStatDTO(Long challengeId, String challengeName, String userId, LocalDateTime joinedAt,
+							Integer currentStreak, Integer longestStreak, Integer passCount,
+							LocalDate firstPassDate, LocalDate lastPassDate) {
+		this.challengeId = challengeId;
+		this.challengeName = challengeName;
+		this.userId = userId;
+		this.joinedAt = joinedAt;
+		this.currentStreak = currentStreak;
+		this.longestStreak = longestStreak;
+		this.passCount = passCount;
+		this.firstPassDate = firstPassDate;
+		this.lastPassDate = lastPassDate;
+	}
+}
@@ -0,0 +1,31 @@
+package grabit.grabit_backend.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 챌린지 목록 조회용 projection. 엔티티를 로딩하지 않고 필요한 컬럼과 멤버 userId 만 담는다.
+ */
+@Getter
+public class ChallengeSummaryDTO {
+
+	private final Long id;
+	private final String name;
+	private final String description;
+	private final String leader;
+	private final Boolean isPrivate;
+	private final LocalDateTime createdAt;
+	private final List<String> member = new ArrayList<>();
+
+	public ChallengeSummaryDTO(Long id, String name, String description, String leader, Boolean isPrivate, LocalDateTime createdAt) {
+		this.id = id;
+		this.name = name;
+		this.description = description;
+		this.leader = leader;
+		this.isPrivate = isPrivate;
+		this.createdAt = createdAt;
+	}
+}
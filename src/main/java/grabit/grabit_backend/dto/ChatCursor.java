@@ -0,0 +1,51 @@
+package grabit.grabit_backend.dto;
+
+import grabit.grabit_backend.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 채팅 이력 keyset 페이징 cursor. (timestamp, id) 를 base64 로 인코딩.
+ */
+@Getter
+@AllArgsConstructor
+public class ChatCursor {
+
+	private static final String DELIMITER = "_";
+
+	private final long timestamp;
+	private final String id;
+
+	public static ChatCursor of(ChatMessageDTO message) {
+		return new ChatCursor(message.getTimestamp(), message.getId());
+	}
+
+	public String encode() {
+		String raw = timestamp + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static ChatCursor decode(String cursor) {
+		if (cursor == null || cursor.isEmpty()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int index = raw.indexOf(DELIMITER);
+			return new ChatCursor(Long.parseLong(raw.substring(0, index)), raw.substring(index + 1));
+		} catch (RuntimeException e) {
+			throw new BadRequestException("잘못된 cursor 입니다.");
+		}
+	}
+
+	/**
+	 * 이 cursor 보다 이전(오래된) 메시지인지 여부
+	 */
+	public boolean isAfter(ChatMessageDTO message) {
+		return message.getTimestamp() < timestamp
+				|| (message.getTimestamp() == timestamp && message.getId().compareTo(id) < 0);
+	}
+}
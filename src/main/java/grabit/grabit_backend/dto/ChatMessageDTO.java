@@ -1,10 +1,32 @@
 package grabit.grabit_backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import grabit.grabit_backend.domain.ChatMessage;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * 채팅 메시지. 클라이언트는 message 만 보내고 id, challengeId, sender, timestamp 는 서버에서 채운다.
+ */
 @Getter
 @Setter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ChatMessageDTO {
+	private String id;
+	private Long challengeId;
+	private String sender;
 	private String message;
+	private Long timestamp;
+
+	public static ChatMessageDTO convertDTO(ChatMessage chatMessage) {
+		ChatMessageDTO dto = new ChatMessageDTO();
+		dto.setId(chatMessage.getId());
+		dto.setChallengeId(chatMessage.getChallengeId());
+		dto.setSender(chatMessage.getSender());
+		dto.setMessage(chatMessage.getMessage());
+		dto.setTimestamp(chatMessage.getTimestamp());
+		return dto;
+	}
 }
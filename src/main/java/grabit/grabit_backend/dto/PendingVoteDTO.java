@@ -0,0 +1,30 @@
+package grabit.grabit_backend.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 투표 대기 목록 projection. id 는 투표(accept/reject) 에 쓰는 승인 결과 id.
+ */
+@Getter
+public class PendingVoteDTO {
+
+	private final Long id;
+	private final Long passApprovalId;
+	private final Long challengeId;
+	private final String challengeName;
+	private final String writer;
+	private final LocalDate targetDate;
+	private final String content;
+
+	public PendingVoteDTO(Long id, Long passApprovalId, Long challengeId, String challengeName, String writer, LocalDate targetDate, String content) {
+		this.id = id;
+		this.passApprovalId = passApprovalId;
+		this.challengeId = challengeId;
+		this.challengeName = challengeName;
+		this.writer = writer;
+		this.targetDate = targetDate;
+		this.content = content;
+	}
+}
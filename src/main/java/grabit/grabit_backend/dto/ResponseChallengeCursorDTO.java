@@ -0,0 +1,59 @@
+package grabit.grabit_backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * cursor 페이징 응답. 최신순으로 정렬되며 다음(오래된) 페이지는 after=nextCursor, 이전(최신) 페이지는 before=prevCursor 로 조회.
+ * 더 조회할 데이터가 없는 방향의 cursor 는 null.
+ */
+@Getter
+@Builder
+public class ResponseChallengeCursorDTO {
+
+	private final List<ResponseChallengeDTO> content;
+	private final int size;
+	private final int numberOfElements;
+	private final String nextCursor;
+	private final String prevCursor;
+
+	/**
+	 * @param challengeSlice 최신순 정렬, hasNext 는 조회한 방향으로 데이터가 더 있는지 여부
+	 * @param before before cursor 로 조회했는지 여부
+	 * @param hasCursor cursor 를 사용해 조회했는지 여부
+	 */
+	public static ResponseChallengeCursorDTO convertDTO(Slice<ChallengeSummaryDTO> challengeSlice, boolean before, boolean hasCursor) {
+		if (challengeSlice == null) {
+			return null;
+		}
+		List<ChallengeSummaryDTO> challenges = challengeSlice.getContent();
+		List<ResponseChallengeDTO> challengeDTOList = new ArrayList<>();
+		challenges.forEach(x -> challengeDTOList.add(ResponseChallengeDTO.convertDTO(x)));
+
+		String nextCursor = null;
+		String prevCursor = null;
+		if (!challenges.isEmpty()) {
+			String first = ChallengeCursor.of(challenges.get(0)).encode();
+			String last = ChallengeCursor.of(challenges.get(challenges.size() - 1)).encode();
+			if (before) {
+				nextCursor = last;
+				prevCursor = challengeSlice.hasNext() ? first : null;
+			} else {
+				nextCursor = challengeSlice.hasNext() ? last : null;
+				prevCursor = hasCursor ? first : null;
+			}
+		}
+
+		return ResponseChallengeCursorDTO.builder()
+				.content(challengeDTOList)
+				.size(challengeSlice.getSize())
+				.numberOfElements(challengeSlice.getNumberOfElements())
+				.nextCursor(nextCursor)
+				.prevCursor(prevCursor)
+				.build();
+	}
+}
@@ -1,5 +1,6 @@
 package grabit.grabit_backend.dto;
 
+import grabit.grabit_backend.cache.ChallengeSnapshot;
 import grabit.grabit_backend.domain.Challenge;
 import lombok.Builder;
 import lombok.Getter;
@@ -36,4 +37,32 @@ public class ResponseChallengeDTO {
 				members
 		);
 	}
+
+	public static ResponseChallengeDTO convertDTO(ChallengeSummaryDTO challenge){
+		if (challenge == null) {
+			return null;
+		}
+		return new ResponseChallengeDTO(
+				challenge.getId(),
+				challenge.getName(),
+				challenge.getDescription(),
+				challenge.getLeader(),
+				challenge.getIsPrivate(),
+				challenge.getMember()
+		);
+	}
+
+	public static ResponseChallengeDTO convertDTO(ChallengeSnapshot challenge){
+		if (challenge == null) {
+			return null;
+		}
+		return new ResponseChallengeDTO(
+				challenge.getId(),
+				challenge.getName(),
+				challenge.getDescription(),
+				challenge.getLeader(),
+				challenge.getIsPrivate(),
+				challenge.getMember()
+		);
+	}
 }
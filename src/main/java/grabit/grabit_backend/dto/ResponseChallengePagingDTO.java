@@ -1,10 +1,10 @@
 package grabit.grabit_backend.dto;
 
-import grabit.grabit_backend.domain.Challenge;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,20 +15,30 @@ import java.util.List;
 public class ResponseChallengePagingDTO extends ResponsePagingDTO {
     public List<ResponseChallengeDTO> content;
 
-    public static ResponseChallengePagingDTO convertDTO(Page<Challenge> challengePage){
+    /**
+     * Page 가 아닌 Slice 인 경우 전체 개수를 모르므로 totalPages, totalElements 는 -1
+     */
+    public static ResponseChallengePagingDTO convertDTO(Slice<ChallengeSummaryDTO> challengePage){
         if (challengePage == null) {
             return null;
         }
         List<ResponseChallengeDTO> challengeDTOList = new ArrayList<>();
         challengePage.getContent().forEach(x -> challengeDTOList.add(ResponseChallengeDTO.convertDTO(x)));
 
+        int totalPages = -1;
+        long totalElements = -1;
+        if (challengePage instanceof Page) {
+            totalPages = ((Page<ChallengeSummaryDTO>) challengePage).getTotalPages();
+            totalElements = ((Page<ChallengeSummaryDTO>) challengePage).getTotalElements();
+        }
+
         return ResponseChallengePagingDTO.builder()
                 .content(challengeDTOList)
                 .pageable(challengePage.getPageable())
-                .totalPages(challengePage.getTotalPages())
-                .totalElements(challengePage.getTotalElements())
+                .totalPages(totalPages)
+                .totalElements(totalElements)
                 .first(challengePage.isFirst())
-                .last(challengePage.isLast())
+                .last(!challengePage.hasNext())
                 .numberOfElements(challengePage.getNumberOfElements())
                 .size(challengePage.getSize())
                 .number(challengePage.getNumber())
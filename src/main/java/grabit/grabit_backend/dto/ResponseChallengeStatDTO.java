@@ -0,0 +1,50 @@
+package grabit.grabit_backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+@Getter
+@Builder
+public class ResponseChallengeStatDTO {
+
+	private Long challengeId;
+	private String challengeName;
+	private String userId;
+	private int currentStreak;
+	private int longestStreak;
+	private int passCount;
+	/** 가입일(또는 더 이른 첫 인증일)부터 오늘까지 인증한 날의 비율 */
+	private double completionRate;
+	private LocalDate lastPassDate;
+
+	public static ResponseChallengeStatDTO convertDTO(ChallengeStatDTO stat, LocalDate today) {
+		if (stat == null) {
+			return null;
+		}
+		int passCount = stat.getPassCount() == null ? 0 : stat.getPassCount();
+		int currentStreak = 0;
+		if (stat.getLastPassDate() != null && !stat.getLastPassDate().isBefore(today.minusDays(1))) {
+			currentStreak = stat.getCurrentStreak();
+		}
+
+		LocalDate start = stat.getJoinedAt() == null ? today : stat.getJoinedAt().toLocalDate();
+		if (stat.getFirstPassDate() != null && stat.getFirstPassDate().isBefore(start)) {
+			start = stat.getFirstPassDate();
+		}
+		long days = Math.max(1, ChronoUnit.DAYS.between(start, today) + 1);
+
+		return ResponseChallengeStatDTO.builder()
+				.challengeId(stat.getChallengeId())
+				.challengeName(stat.getChallengeName())
+				.userId(stat.getUserId())
+				.currentStreak(currentStreak)
+				.longestStreak(stat.getLongestStreak() == null ? 0 : stat.getLongestStreak())
+				.passCount(passCount)
+				.completionRate(Math.min(1.0, (double) passCount / days))
+				.lastPassDate(stat.getLastPassDate())
+				.build();
+	}
+}
@@ -0,0 +1,15 @@
+package grabit.grabit_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * STOMP 채팅 오류 응답. 보낸 세션의 /user/queue/errors 로 전달된다.
+ */
+@Getter
+@AllArgsConstructor
+public class ResponseChatErrorDTO {
+
+	private final int status;
+	private final String message;
+}
@@ -0,0 +1,17 @@
+package grabit.grabit_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 채팅 이력 응답. 최신순으로 정렬되며 이전 메시지는 before=nextCursor 로 조회, 더 없으면 nextCursor 는 null.
+ */
+@Getter
+@AllArgsConstructor
+public class ResponseChatMessageListDTO {
+
+	private final List<ChatMessageDTO> content;
+	private final String nextCursor;
+}
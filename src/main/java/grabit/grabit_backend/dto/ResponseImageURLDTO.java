@@ -4,10 +4,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Map;
+
 @Getter
 @Builder
 @AllArgsConstructor
 public class ResponseImageURLDTO {
 
+	/** 원본 */
 	private final String url;
+	/** 가로 크기(px) -> 축소본 url. 원본보다 작은 크기만 포함 */
+	private final Map<Integer, String> variants;
 }
@@ -0,0 +1,33 @@
+package grabit.grabit_backend.dto;
+
+import grabit.grabit_backend.event.PassApprovalCreatedEvent;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 유저 알림. /sub/users/{id}/notifications 로 목록 단위로 전달된다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResponseNotificationDTO {
+
+	public static final String PASS_APPROVAL_CREATED = "PASS_APPROVAL_CREATED";
+
+	private String type;
+	private Long passApprovalId;
+	private Long challengeId;
+	private LocalDate targetDate;
+
+	public static ResponseNotificationDTO convertDTO(PassApprovalCreatedEvent event) {
+		ResponseNotificationDTO dto = new ResponseNotificationDTO();
+		dto.setType(PASS_APPROVAL_CREATED);
+		dto.setPassApprovalId(event.getPassApprovalId());
+		dto.setChallengeId(event.getChallengeId());
+		dto.setTargetDate(event.getTargetDate());
+		return dto;
+	}
+}
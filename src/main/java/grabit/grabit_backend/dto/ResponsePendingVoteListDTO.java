@@ -0,0 +1,17 @@
+package grabit.grabit_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 투표 대기 목록 응답. 최신 요청순으로 정렬되며 다음 페이지는 after=nextCursor 로 조회, 더 없으면 nextCursor 는 null.
+ */
+@Getter
+@AllArgsConstructor
+public class ResponsePendingVoteListDTO {
+
+	private final List<PendingVoteDTO> content;
+	private final Long nextCursor;
+}
@@ -0,0 +1,18 @@
+package grabit.grabit_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 챌린지 채팅방 접속 현황 (전체 노드 합산)
+ */
+@Getter
+@AllArgsConstructor
+public class ResponsePresenceDTO {
+
+	private final Long challengeId;
+	private final int onlineCount;
+	private final List<String> members;
+}
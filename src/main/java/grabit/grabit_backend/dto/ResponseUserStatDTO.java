@@ -0,0 +1,18 @@
+package grabit.grabit_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 유저 인증 통계. calendar 는 year 의 인증 bitmap (1월 1일이 첫 byte 의 0번 bit) 을 base64 로 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ResponseUserStatDTO {
+
+	private final int year;
+	private final byte[] calendar;
+	private final List<ResponseChallengeStatDTO> challenges;
+}
@@ -0,0 +1,19 @@
+package grabit.grabit_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 노드 간 중계용 유저별 알림 묶음
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserNotificationBatchDTO {
+
+	private Integer userId;
+	private List<ResponseNotificationDTO> notifications;
+}
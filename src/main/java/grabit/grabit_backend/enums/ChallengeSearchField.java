@@ -0,0 +1,6 @@
+package grabit.grabit_backend.enums;
+
+public enum ChallengeSearchField {
+	NAME,
+	DESCRIPTION
+}
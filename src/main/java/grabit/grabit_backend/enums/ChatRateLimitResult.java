@@ -0,0 +1,14 @@
+package grabit.grabit_backend.enums;
+
+/**
+ * 채팅 전송량 제한 결과
+ */
+public enum ChatRateLimitResult {
+	ALLOWED,
+	USER_LIMITED,
+	ROOM_LIMITED;
+
+	public boolean isAllowed() {
+		return this == ALLOWED;
+	}
+}
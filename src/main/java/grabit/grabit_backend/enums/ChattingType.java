@@ -0,0 +1,24 @@
+package grabit.grabit_backend.enums;
+
+import com.fasterxml.jackson.annotation.JsonEnumDefaultValue;
+
+/**
+ * 웹소켓 채팅 프레임 종류. 알 수 없는 값은 UNKNOWN 으로 읽는다.
+ */
+public enum ChattingType {
+	ENTER,
+	MESSAGE,
+	/** 서버 -> 클라이언트 오류 알림 */
+	ERROR,
+	@JsonEnumDefaultValue
+	UNKNOWN;
+
+	public static ChattingType from(String value) {
+		for (ChattingType type : values()) {
+			if (type.name().equals(value)) {
+				return type;
+			}
+		}
+		return UNKNOWN;
+	}
+}
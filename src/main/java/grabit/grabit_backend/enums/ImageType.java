@@ -0,0 +1,68 @@
+package grabit.grabit_backend.enums;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 업로드 가능한 이미지 형식. 확장자나 클라이언트가 보낸 Content-Type 이 아닌 파일 앞부분(magic bytes)으로 판별한다.
+ */
+public enum ImageType {
+	JPEG("image/jpeg", "jpg"),
+	PNG("image/png", "png"),
+	GIF("image/gif", "gif"),
+	WEBP("image/webp", "webp");
+
+	/** 판별에 필요한 최대 byte 수 */
+	public static final int SIGNATURE_LENGTH = 12;
+
+	private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+	private final String contentType;
+	private final String extension;
+
+	ImageType(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+	/**
+	 * @param header 파일 앞부분 (SIGNATURE_LENGTH byte 이상 권장)
+	 * @return 지원하지 않는 형식이면 null
+	 */
+	public static ImageType detect(byte[] header, int length) {
+		if (length >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+			return JPEG;
+		}
+		if (startsWith(header, length, PNG_SIGNATURE)) {
+			return PNG;
+		}
+		if (startsWith(header, length, "GIF87a".getBytes(StandardCharsets.US_ASCII))
+				|| startsWith(header, length, "GIF89a".getBytes(StandardCharsets.US_ASCII))) {
+			return GIF;
+		}
+		if (length >= 12 && startsWith(header, length, "RIFF".getBytes(StandardCharsets.US_ASCII))
+				&& header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+			return WEBP;
+		}
+		return null;
+	}
+
+	private static boolean startsWith(byte[] header, int length, byte[] signature) {
+		if (length < signature.length) {
+			return false;
+		}
+		for (int i = 0; i < signature.length; i++) {
+			if (header[i] != signature[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,9 @@
+package grabit.grabit_backend.enums;
+
+/**
+ * 세션 전송 대기열이 가득 찼을 때의 처리 방식
+ */
+public enum OutboundOverflowPolicy {
+	DROP_OLDEST,
+	DISCONNECT
+}
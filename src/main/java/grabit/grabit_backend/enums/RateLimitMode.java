@@ -0,0 +1,10 @@
+package grabit.grabit_backend.enums;
+
+/**
+ * 채팅 전송량 제한 방식.
+ * LOCAL 은 노드마다 따로 제한하고, REDIS 는 Lua script 로 전체 노드가 bucket 을 공유한다.
+ */
+public enum RateLimitMode {
+	LOCAL,
+	REDIS
+}
@@ -0,0 +1,22 @@
+package grabit.grabit_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 인증 승인 요청 생성. 커밋 이후 투표할 멤버들에게 알림을 보낸다.
+ */
+@Getter
+@AllArgsConstructor
+public class PassApprovalCreatedEvent {
+
+	private final Long passApprovalId;
+	private final Long challengeId;
+	private final Integer writerId;
+	private final LocalDate targetDate;
+	/** 투표 대상 멤버 user id (작성자 포함) */
+	private final List<Integer> memberIds;
+}
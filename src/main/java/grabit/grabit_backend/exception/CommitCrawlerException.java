@@ -0,0 +1,12 @@
+package grabit.grabit_backend.exception;
+
+public class CommitCrawlerException extends UpstreamFailureException {
+
+	public CommitCrawlerException(String message) {
+		super(message);
+	}
+
+	public CommitCrawlerException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
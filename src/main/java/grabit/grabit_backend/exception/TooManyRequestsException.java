@@ -0,0 +1,14 @@
+package grabit.grabit_backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+    public TooManyRequestsException() {
+        super("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
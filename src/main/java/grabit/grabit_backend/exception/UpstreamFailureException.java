@@ -0,0 +1,16 @@
+package grabit.grabit_backend.exception;
+
+/**
+ * 외부 서비스 호출이 실제로 실패한 경우(오류 응답, timeout, 파싱 실패).
+ * 캐시는 이 예외로 실패한 load 만 negative 캐싱하고, 요청 거절 같은 일시적인 실패는 저장하지 않는다.
+ */
+public class UpstreamFailureException extends RuntimeException {
+
+	public UpstreamFailureException(String message) {
+		super(message);
+	}
+
+	public UpstreamFailureException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,153 @@
+package grabit.grabit_backend.handler;
+
+import grabit.grabit_backend.enums.OutboundOverflowPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅방 메시지 비동기 전송.
+ * 보내는 스레드는 세션별 대기열에 넣기만 하고, 실제 전송은 전용 executor 에서 처리해
+ * 느린 클라이언트 하나가 방 전체를 막지 않게 한다.
+ */
+@Component
+public class ChatBroadcaster implements DisposableBean {
+
+	private final ChatRoomRegistry chatRoomRegistry;
+	private final int queueLimit;
+	private final OutboundOverflowPolicy overflowPolicy;
+	private final ExecutorService executor;
+
+	private final Map<String, OutboundSession> outboundSessions = new ConcurrentHashMap<>();
+	private final AtomicLong queuedMessages = new AtomicLong();
+	private final OutboundSession.Listener listener;
+
+	public ChatBroadcaster(ChatRoomRegistry chatRoomRegistry,
+						   MeterRegistry meterRegistry,
+						   @Value("${grabit.chat.outbound.queue-size:256}") int queueLimit,
+						   @Value("${grabit.chat.outbound.overflow-policy:DROP_OLDEST}") OutboundOverflowPolicy overflowPolicy,
+						   @Value("${grabit.chat.broadcast.threads:4}") int threads,
+						   @Value("${grabit.chat.broadcast.queue-size:10000}") int executorQueueSize) {
+		this.chatRoomRegistry = chatRoomRegistry;
+		this.queueLimit = queueLimit;
+		this.overflowPolicy = overflowPolicy;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(executorQueueSize), runnable -> {
+					Thread thread = new Thread(runnable, "chat-broadcast-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+
+		Gauge.builder("grabit.chat.outbound.queued", queuedMessages, AtomicLong::get)
+				.description("세션 전송 대기열에 쌓인 메시지 수")
+				.register(meterRegistry);
+		Gauge.builder("grabit.chat.outbound.sessions", outboundSessions, Map::size)
+				.register(meterRegistry);
+		Counter dropped = Counter.builder("grabit.chat.outbound.dropped")
+				.tag("policy", overflowPolicy.name())
+				.register(meterRegistry);
+		Counter disconnected = Counter.builder("grabit.chat.outbound.disconnected")
+				.register(meterRegistry);
+		Counter rejected = Counter.builder("grabit.chat.outbound.rejected")
+				.register(meterRegistry);
+		this.listener = new OutboundSession.Listener() {
+			@Override
+			public void onEnqueued() {
+				queuedMessages.incrementAndGet();
+			}
+
+			@Override
+			public void onDequeued(int count) {
+				queuedMessages.addAndGet(-count);
+			}
+
+			@Override
+			public void onDropped(int count) {
+				dropped.increment(count);
+			}
+
+			@Override
+			public void onDisconnected() {
+				disconnected.increment();
+			}
+
+			@Override
+			public void onRejected() {
+				rejected.increment();
+			}
+
+			@Override
+			public void onClosed(OutboundSession outboundSession) {
+				outboundSessions.remove(outboundSession.getId(), outboundSession);
+			}
+		};
+	}
+
+	/**
+	 * 채팅방의 모든 세션에 메시지 전송.
+	 * 호출한 스레드는 세션 대기열에 넣기만 하므로 방 안의 메시지 순서가 유지되고, 전송(I/O)은 기다리지 않는다.
+	 */
+	public void broadcast(Long roomId, WebSocketMessage<?> message) {
+		for (WebSocketSession session : chatRoomRegistry.getSessions(roomId)) {
+			offer(session, message);
+		}
+	}
+
+	/**
+	 * 한 세션에만 전송 (오류 응답 등). 같은 대기열을 거치므로 broadcast 와 동시에 보내도 안전하다.
+	 */
+	public void send(WebSocketSession session, WebSocketMessage<?> message) {
+		offer(session, message);
+	}
+
+	/**
+	 * 연결 종료 시 세션 대기열 정리
+	 */
+	public void remove(WebSocketSession session) {
+		OutboundSession outboundSession = outboundSessions.remove(session.getId());
+		if (outboundSession != null) {
+			outboundSession.discard();
+		}
+	}
+
+	int getQueueSize(WebSocketSession session) {
+		OutboundSession outboundSession = outboundSessions.get(session.getId());
+		return outboundSession == null ? 0 : outboundSession.getQueueSize();
+	}
+
+	int getSessionCount() {
+		return outboundSessions.size();
+	}
+
+	/**
+	 * 이미 닫힌 세션은 대기열을 만들지 않는다. 연결 종료 처리 이전에 읽은 세션 목록으로 broadcast 해도 remove 이후 다시 생기지 않는다.
+	 * 확인 직후 닫혀 생긴 대기열은 전송 시 닫힌 것을 보고 스스로 빠진다.
+	 */
+	private void offer(WebSocketSession session, WebSocketMessage<?> message) {
+		if (!session.isOpen()) {
+			return;
+		}
+		outboundSessions.computeIfAbsent(session.getId(),
+				key -> new OutboundSession(session, queueLimit, overflowPolicy, executor, listener)).offer(message);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,101 @@
+package grabit.grabit_backend.handler;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import grabit.grabit_backend.domain.Chatting;
+import grabit.grabit_backend.enums.ChattingType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 웹소켓 채팅 프레임 파싱.
+ * 라우팅에는 chattingType, challengeId 만 필요하므로 전체를 객체로 바인딩하지 않고 스트리밍으로 두 필드만 읽는다.
+ * ObjectMapper/ObjectReader 는 생성 비용이 크므로 한 번 만들어 공유한다. (둘 다 thread-safe)
+ */
+@Component
+public class ChatFrameCodec {
+
+	private static final String CHATTING_TYPE = "chattingType";
+	private static final String CHALLENGE_ID = "challengeId";
+
+	private final JsonFactory jsonFactory;
+	private final ObjectReader chattingReader;
+	private final ObjectWriter chattingWriter;
+
+	public ChatFrameCodec(ObjectMapper objectMapper) {
+		this.jsonFactory = objectMapper.getFactory();
+		this.chattingReader = objectMapper.readerFor(Chatting.class)
+				.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+				.with(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE);
+		this.chattingWriter = objectMapper.writerFor(Chatting.class);
+	}
+
+	/**
+	 * 최상위 chattingType, challengeId 필드만 읽는다. 나머지 값은 객체로 만들지 않고 건너뛰되,
+	 * 잘못된 JSON 이 그대로 전달되지 않도록 프레임 끝까지 토큰은 검사한다.
+	 * @throws IOException JSON 객체가 아니거나, 객체 뒤에 다른 내용이 있는 경우
+	 */
+	public ChatFrameHeader peek(String payload) throws IOException {
+		ChattingType chattingType = null;
+		Long challengeId = null;
+		try (JsonParser parser = jsonFactory.createParser(payload)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IOException("채팅 프레임이 JSON 객체가 아닙니다.");
+			}
+			JsonToken token;
+			while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+				String field = parser.getCurrentName();
+				JsonToken value = parser.nextToken();
+				if (CHATTING_TYPE.equals(field)) {
+					chattingType = ChattingType.from(value == JsonToken.VALUE_STRING ? parser.getText() : null);
+				} else if (CHALLENGE_ID.equals(field)) {
+					challengeId = readLong(parser, value);
+				} else {
+					parser.skipChildren();
+				}
+			}
+			if (token != JsonToken.END_OBJECT || parser.nextToken() != null) {
+				throw new IOException("채팅 프레임이 하나의 JSON 객체가 아닙니다.");
+			}
+		}
+		return new ChatFrameHeader(chattingType == null ? ChattingType.UNKNOWN : chattingType, challengeId);
+	}
+
+	/**
+	 * 프레임 전체를 Chatting 으로 바인딩
+	 */
+	public Chatting read(String payload) throws IOException {
+		return chattingReader.readValue(payload);
+	}
+
+	/**
+	 * 클라이언트에 보낼 오류 프레임
+	 */
+	public String writeError(Long challengeId, String content) throws IOException {
+		Chatting chatting = new Chatting();
+		chatting.setChattingType(ChattingType.ERROR);
+		chatting.setChallengeId(challengeId);
+		chatting.setContent(content);
+		return chattingWriter.writeValueAsString(chatting);
+	}
+
+	private static Long readLong(JsonParser parser, JsonToken value) throws IOException {
+		if (value == JsonToken.VALUE_NUMBER_INT) {
+			return parser.getLongValue();
+		}
+		if (value == JsonToken.VALUE_STRING) {
+			try {
+				return Long.valueOf(parser.getText());
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,16 @@
+package grabit.grabit_backend.handler;
+
+import grabit.grabit_backend.enums.ChattingType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 라우팅에 필요한 채팅 프레임 필드만 읽은 결과
+ */
+@Getter
+@AllArgsConstructor
+public class ChatFrameHeader {
+
+	private final ChattingType chattingType;
+	private final Long challengeId;
+}
@@ -0,0 +1,90 @@
+package grabit.grabit_backend.handler;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방(challengeId) 별 WebSocket 세션 목록.
+ * 방 -> 세션, 세션 -> 방 두 방향 색인을 ConcurrentHashMap 으로 관리해 연결 종료 시 참여한 방만 정리한다.
+ * 방/세션 단위 변경은 compute 로 원자적으로 처리하고, 빈 방과 빈 세션 항목은 바로 제거한다.
+ */
+@Component
+public class ChatRoomRegistry {
+
+	private final Map<Long, Set<WebSocketSession>> rooms = new ConcurrentHashMap<>();
+	private final Map<String, Set<Long>> sessionRooms = new ConcurrentHashMap<>();
+
+	/**
+	 * 채팅방 입장. 이미 입장한 세션이면 무시한다.
+	 */
+	public void join(Long roomId, WebSocketSession session) {
+		rooms.compute(roomId, (key, sessions) -> {
+			Set<WebSocketSession> result = sessions == null ? ConcurrentHashMap.newKeySet() : sessions;
+			result.add(session);
+			return result;
+		});
+		sessionRooms.compute(session.getId(), (key, roomIds) -> {
+			Set<Long> result = roomIds == null ? ConcurrentHashMap.newKeySet() : roomIds;
+			result.add(roomId);
+			return result;
+		});
+		// 입장 처리 중에 연결이 끊겨 leaveAll 이 먼저 실행된 경우 남은 항목 정리
+		if (!session.isOpen()) {
+			leave(roomId, session);
+		}
+	}
+
+	/**
+	 * 채팅방 퇴장
+	 */
+	public void leave(Long roomId, WebSocketSession session) {
+		removeSession(roomId, session);
+		sessionRooms.computeIfPresent(session.getId(), (key, roomIds) -> {
+			roomIds.remove(roomId);
+			return roomIds.isEmpty() ? null : roomIds;
+		});
+	}
+
+	/**
+	 * 연결 종료 시 세션이 참여한 모든 방에서 퇴장
+	 * @return 퇴장한 방 id 목록
+	 */
+	public Set<Long> leaveAll(WebSocketSession session) {
+		Set<Long> roomIds = sessionRooms.remove(session.getId());
+		if (roomIds == null) {
+			return Collections.emptySet();
+		}
+		for (Long roomId : roomIds) {
+			removeSession(roomId, session);
+		}
+		return roomIds;
+	}
+
+	public Collection<WebSocketSession> getSessions(Long roomId) {
+		Set<WebSocketSession> sessions = rooms.get(roomId);
+		return sessions == null ? Collections.emptySet() : Collections.unmodifiableSet(sessions);
+	}
+
+	public Set<Long> getRooms(WebSocketSession session) {
+		Set<Long> roomIds = sessionRooms.get(session.getId());
+		return roomIds == null ? Collections.emptySet() : Collections.unmodifiableSet(roomIds);
+	}
+
+	public int countSessions(Long roomId) {
+		Set<WebSocketSession> sessions = rooms.get(roomId);
+		return sessions == null ? 0 : sessions.size();
+	}
+
+	private void removeSession(Long roomId, WebSocketSession session) {
+		rooms.computeIfPresent(roomId, (key, sessions) -> {
+			sessions.remove(session);
+			return sessions.isEmpty() ? null : sessions;
+		});
+	}
+}
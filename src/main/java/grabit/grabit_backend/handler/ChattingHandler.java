@@ -1,7 +1,8 @@
 package grabit.grabit_backend.handler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import grabit.grabit_backend.domain.Chatting;
+import grabit.grabit_backend.enums.ChatRateLimitResult;
+import grabit.grabit_backend.exception.TooManyRequestsException;
+import grabit.grabit_backend.ratelimit.ChatRateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -10,50 +11,64 @@ import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
 
 @Component
 public class ChattingHandler extends TextWebSocketHandler {
 	private static final Logger logger = LoggerFactory.getLogger(TextWebSocketHandler.class);
 
-	private static Map<Long, List<WebSocketSession>> sessionList = new HashMap<>();
+	private final ChatRoomRegistry chatRoomRegistry;
+	private final ChatBroadcaster chatBroadcaster;
+	private final ChatFrameCodec chatFrameCodec;
+	private final ChatRateLimiter chatRateLimiter;
+
+	public ChattingHandler(ChatRoomRegistry chatRoomRegistry,
+						   ChatBroadcaster chatBroadcaster,
+						   ChatFrameCodec chatFrameCodec,
+						   ChatRateLimiter chatRateLimiter) {
+		this.chatRoomRegistry = chatRoomRegistry;
+		this.chatBroadcaster = chatBroadcaster;
+		this.chatFrameCodec = chatFrameCodec;
+		this.chatRateLimiter = chatRateLimiter;
+	}
 
 	@Override
 	protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
-		// 메세지 처리.
-		String payload = message.getPayload();
-
-		// Json to Chatting Object
-		ObjectMapper objectMapper = new ObjectMapper();
-		Chatting chatting = objectMapper.readValue(payload, Chatting.class);
-
-		if(chatting.getChattingType().equals("ENTER")){
-			if(!sessionList.containsKey(chatting.getChallengeId())){
-				List<WebSocketSession> sessList = new ArrayList<>();
-				sessList.add(session);
-				sessionList.put(chatting.getChallengeId(), sessList);
-			} else{
-				List<WebSocketSession> sessList = sessionList.get(chatting.getChallengeId());
-				sessList.add(session);
-			}
-		}else if(chatting.getChattingType().equals("MESSAGE")){
-			List<WebSocketSession> sessList = sessionList.get(chatting.getChallengeId());
-			for(WebSocketSession sess : sessList){
-				sess.sendMessage(message);
-			}
+		// 라우팅에 필요한 필드만 읽고, 전송은 받은 프레임을 그대로 재사용한다.
+		ChatFrameHeader header;
+		try {
+			header = chatFrameCodec.peek(message.getPayload());
+		} catch (IOException e) {
+			logger.warn("## Chat frame ignored ## : invalid json from " + session.getId());
+			return;
+		}
+		if (header.getChallengeId() == null) {
+			logger.warn("## Chat frame ignored ## : no challengeId from " + session.getId());
+			return;
+		}
+
+		switch (header.getChattingType()) {
+			case ENTER:
+				chatRoomRegistry.join(header.getChallengeId(), session);
+				break;
+			case MESSAGE:
+				// 인증 정보가 없는 raw 웹소켓이므로 세션 단위로 제한한다.
+				ChatRateLimitResult result = chatRateLimiter.tryAcquire(session.getId(), header.getChallengeId());
+				if (!result.isAllowed()) {
+					chatBroadcaster.send(session, new TextMessage(
+							chatFrameCodec.writeError(header.getChallengeId(), new TooManyRequestsException().getMessage())));
+					break;
+				}
+				chatBroadcaster.broadcast(header.getChallengeId(), message);
+				break;
+			default:
+				break;
 		}
 	}
 
 	@Override
 	public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
-		for(Long chattingId : sessionList.keySet()){
-			List<WebSocketSession> sessList = sessionList.get(chattingId);
-			if(sessList.contains(session)){
-				sessList.remove(session);
-			}
-		}
+		chatRoomRegistry.leaveAll(session);
+		chatBroadcaster.remove(session);
 	}
 }
@@ -0,0 +1,149 @@
+package grabit.grabit_backend.handler;
+
+import grabit.grabit_backend.enums.OutboundOverflowPolicy;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세션별 전송 대기열. 메시지는 executor 에서 한 번에 하나의 스레드만 순서대로 보낸다.
+ * 대기열이 가득 차면 정책에 따라 가장 오래된 메시지를 버리거나 연결을 끊는다.
+ */
+class OutboundSession {
+
+	private final WebSocketSession session;
+	private final int queueLimit;
+	private final OutboundOverflowPolicy overflowPolicy;
+	private final Executor executor;
+	private final Listener listener;
+
+	private final Queue<WebSocketMessage<?>> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queueSize = new AtomicInteger();
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private volatile boolean closed = false;
+
+	OutboundSession(WebSocketSession session, int queueLimit, OutboundOverflowPolicy overflowPolicy,
+					Executor executor, Listener listener) {
+		this.session = session;
+		this.queueLimit = queueLimit;
+		this.overflowPolicy = overflowPolicy;
+		this.executor = executor;
+		this.listener = listener;
+	}
+
+	void offer(WebSocketMessage<?> message) {
+		if (closed) {
+			return;
+		}
+		if (queueSize.get() >= queueLimit) {
+			if (overflowPolicy == OutboundOverflowPolicy.DISCONNECT) {
+				close(CloseStatus.SESSION_NOT_RELIABLE);
+				return;
+			}
+			if (queue.poll() != null) {
+				queueSize.decrementAndGet();
+				listener.onDequeued(1);
+				listener.onDropped(1);
+			}
+		}
+		queue.add(message);
+		queueSize.incrementAndGet();
+		listener.onEnqueued();
+		scheduleDrain();
+	}
+
+	String getId() {
+		return session.getId();
+	}
+
+	int getQueueSize() {
+		return queueSize.get();
+	}
+
+	/**
+	 * 연결 종료 시 남은 메시지 정리. 처음 닫힐 때 listener 에 알려 broadcaster 의 세션 목록에서도 빠진다.
+	 */
+	void discard() {
+		boolean wasClosed = closed;
+		closed = true;
+		int discarded = 0;
+		while (queue.poll() != null) {
+			discarded++;
+		}
+		queueSize.addAndGet(-discarded);
+		listener.onDequeued(discarded);
+		if (!wasClosed) {
+			listener.onClosed(this);
+		}
+	}
+
+	private void scheduleDrain() {
+		if (draining.compareAndSet(false, true)) {
+			try {
+				executor.execute(this::drain);
+			} catch (RejectedExecutionException e) {
+				// executor 가 가득 차면 다음 offer 때 다시 시도
+				draining.set(false);
+				listener.onRejected();
+			}
+		}
+	}
+
+	private void drain() {
+		try {
+			WebSocketMessage<?> message;
+			while (!closed && (message = queue.poll()) != null) {
+				queueSize.decrementAndGet();
+				listener.onDequeued(1);
+				if (!session.isOpen()) {
+					discard();
+					return;
+				}
+				session.sendMessage(message);
+			}
+		} catch (IOException | RuntimeException e) {
+			close(CloseStatus.SESSION_NOT_RELIABLE);
+		} finally {
+			draining.set(false);
+		}
+		// drain 종료 직전에 들어온 메시지가 남지 않도록 다시 확인
+		if (!closed && !queue.isEmpty()) {
+			scheduleDrain();
+		}
+	}
+
+	private void close(CloseStatus status) {
+		if (closed) {
+			return;
+		}
+		discard();
+		listener.onDisconnected();
+		try {
+			session.close(status);
+		} catch (IOException ignored) {
+			// 이미 끊긴 연결
+		}
+	}
+
+	interface Listener {
+		void onEnqueued();
+
+		void onDequeued(int count);
+
+		void onDropped(int count);
+
+		void onDisconnected();
+
+		void onRejected();
+
+		void onClosed(OutboundSession outboundSession);
+	}
+}
@@ -0,0 +1,49 @@
+package grabit.grabit_backend.handler;
+
+import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.service.ChatRelayService;
+import grabit.grabit_backend.service.PresenceService;
+import grabit.grabit_backend.utils.PrincipalUtil;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * STOMP 채팅방 구독/해제/연결 종료를 presence 에 반영.
+ * 구독 이벤트는 StompConfig 의 멤버 확인을 통과한 경우에만 발생한다.
+ */
+@Component
+public class StompPresenceListener {
+
+	private final PresenceService presenceService;
+
+	public StompPresenceListener(PresenceService presenceService) {
+		this.presenceService = presenceService;
+	}
+
+	@EventListener
+	public void onSubscribe(SessionSubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		String destination = accessor.getDestination();
+		User user = PrincipalUtil.getUser(event.getUser());
+		if (user == null || destination == null || !destination.startsWith(ChatRelayService.ROOM_DESTINATION_PREFIX)) {
+			return;
+		}
+		Long roomId = Long.valueOf(destination.substring(ChatRelayService.ROOM_DESTINATION_PREFIX.length()));
+		presenceService.join(accessor.getSessionId(), accessor.getSubscriptionId(), roomId, user.getUserId());
+	}
+
+	@EventListener
+	public void onUnsubscribe(SessionUnsubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		presenceService.leave(accessor.getSessionId(), accessor.getSubscriptionId());
+	}
+
+	@EventListener
+	public void onDisconnect(SessionDisconnectEvent event) {
+		presenceService.leaveAll(event.getSessionId());
+	}
+}
@@ -0,0 +1,168 @@
+package grabit.grabit_backend.ratelimit;
+
+import grabit.grabit_backend.enums.ChatRateLimitResult;
+import grabit.grabit_backend.enums.RateLimitMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 전송량 제한. 유저별, 채팅방별 token bucket 을 모두 통과해야 전송된다.
+ * REDIS 모드는 두 bucket 을 하나의 Lua script 로 확인/차감해 전체 노드가 같은 제한을 공유하고,
+ * Redis 장애 시에는 노드별(LOCAL) 제한으로 대신한다.
+ */
+@Component
+public class ChatRateLimiter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChatRateLimiter.class);
+
+	public static final String USER_KEY_PREFIX = "ratelimit:chat:user:";
+	public static final String ROOM_KEY_PREFIX = "ratelimit:chat:room:";
+
+	/**
+	 * KEYS = [user, room], ARGV = [user capacity, user refill/s, room capacity, room refill/s]
+	 * 0: 허용, 1: 유저 제한, 2: 채팅방 제한. 시각은 노드 간 시계 차이가 없도록 Redis TIME 을 사용한다.
+	 */
+	private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+			"redis.replicate_commands()\n" +
+			"local time = redis.call('TIME')\n" +
+			"local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)\n" +
+			"local function refill(key, capacity, rate)\n" +
+			"  local state = redis.call('HMGET', key, 'tokens', 'ts')\n" +
+			"  local tokens = tonumber(state[1])\n" +
+			"  local ts = tonumber(state[2])\n" +
+			"  if tokens == nil or ts == nil then return capacity end\n" +
+			"  return math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)\n" +
+			"end\n" +
+			"local function save(key, tokens, capacity, rate)\n" +
+			"  redis.call('HSET', key, 'tokens', tokens, 'ts', now)\n" +
+			"  redis.call('PEXPIRE', key, math.ceil(capacity / rate * 1000) + 1000)\n" +
+			"end\n" +
+			"local userCapacity, userRate = tonumber(ARGV[1]), tonumber(ARGV[2])\n" +
+			"local roomCapacity, roomRate = tonumber(ARGV[3]), tonumber(ARGV[4])\n" +
+			"local userTokens = refill(KEYS[1], userCapacity, userRate)\n" +
+			"if userTokens < 1 then return 1 end\n" +
+			"local roomTokens = refill(KEYS[2], roomCapacity, roomRate)\n" +
+			"if roomTokens < 1 then return 2 end\n" +
+			"save(KEYS[1], userTokens - 1, userCapacity, userRate)\n" +
+			"save(KEYS[2], roomTokens - 1, roomCapacity, roomRate)\n" +
+			"return 0",
+			Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RateLimitMode mode;
+	private final long userCapacity;
+	private final double userRefillPerSecond;
+	private final long roomCapacity;
+	private final double roomRefillPerSecond;
+
+	private final Map<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+	private final Map<Long, TokenBucket> roomBuckets = new ConcurrentHashMap<>();
+	private final Counter userThrottled;
+	private final Counter roomThrottled;
+	private final Counter fallback;
+
+	public ChatRateLimiter(RedisTemplate<String, String> redisTemplate,
+						   MeterRegistry meterRegistry,
+						   @Value("${grabit.chat.rate-limit.mode:LOCAL}") RateLimitMode mode,
+						   @Value("${grabit.chat.rate-limit.user.capacity:10}") long userCapacity,
+						   @Value("${grabit.chat.rate-limit.user.refill-per-second:2}") double userRefillPerSecond,
+						   @Value("${grabit.chat.rate-limit.room.capacity:100}") long roomCapacity,
+						   @Value("${grabit.chat.rate-limit.room.refill-per-second:50}") double roomRefillPerSecond) {
+		this.redisTemplate = redisTemplate;
+		this.mode = mode;
+		this.userCapacity = userCapacity;
+		this.userRefillPerSecond = userRefillPerSecond;
+		this.roomCapacity = roomCapacity;
+		this.roomRefillPerSecond = roomRefillPerSecond;
+
+		this.userThrottled = Counter.builder("grabit.chat.throttled")
+				.description("전송량 제한으로 거절된 채팅 메시지 수")
+				.tag("scope", "user")
+				.tag("mode", mode.name())
+				.register(meterRegistry);
+		this.roomThrottled = Counter.builder("grabit.chat.throttled")
+				.description("전송량 제한으로 거절된 채팅 메시지 수")
+				.tag("scope", "room")
+				.tag("mode", mode.name())
+				.register(meterRegistry);
+		this.fallback = Counter.builder("grabit.chat.rate-limit.fallback")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 메시지 1건 전송 허용 여부. 허용되면 유저, 채팅방 bucket 에서 token 을 하나씩 차감한다.
+	 * @param sender 유저 id (인증 정보가 없으면 세션 id)
+	 */
+	public ChatRateLimitResult tryAcquire(String sender, Long roomId) {
+		ChatRateLimitResult result = mode == RateLimitMode.REDIS
+				? tryAcquireRedis(sender, roomId)
+				: tryAcquireLocal(sender, roomId);
+		if (result == ChatRateLimitResult.USER_LIMITED) {
+			userThrottled.increment();
+		} else if (result == ChatRateLimitResult.ROOM_LIMITED) {
+			roomThrottled.increment();
+		}
+		return result;
+	}
+
+	/**
+	 * 다시 가득 찬(한동안 사용되지 않은) bucket 정리
+	 */
+	@Scheduled(fixedDelayString = "${grabit.chat.rate-limit.cleanup-interval-millis:60000}")
+	public void evictIdleBuckets() {
+		long now = System.nanoTime();
+		userBuckets.values().removeIf(bucket -> bucket.isFull(now));
+		roomBuckets.values().removeIf(bucket -> bucket.isFull(now));
+	}
+
+	private ChatRateLimitResult tryAcquireLocal(String sender, Long roomId) {
+		long now = System.nanoTime();
+		TokenBucket userBucket = bucket(userBuckets, sender, userCapacity, userRefillPerSecond, now);
+		if (!userBucket.tryAcquire(now)) {
+			return ChatRateLimitResult.USER_LIMITED;
+		}
+		if (!bucket(roomBuckets, roomId, roomCapacity, roomRefillPerSecond, now).tryAcquire(now)) {
+			userBucket.refund();
+			return ChatRateLimitResult.ROOM_LIMITED;
+		}
+		return ChatRateLimitResult.ALLOWED;
+	}
+
+	private ChatRateLimitResult tryAcquireRedis(String sender, Long roomId) {
+		Long result;
+		try {
+			result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT,
+					List.of(USER_KEY_PREFIX + sender, ROOM_KEY_PREFIX + roomId),
+					String.valueOf(userCapacity), String.valueOf(userRefillPerSecond),
+					String.valueOf(roomCapacity), String.valueOf(roomRefillPerSecond));
+		} catch (RuntimeException e) {
+			logger.warn("## Chat rate limit fallback ## : room " + roomId, e);
+			fallback.increment();
+			return tryAcquireLocal(sender, roomId);
+		}
+		if (result == null || result == 0) {
+			return ChatRateLimitResult.ALLOWED;
+		}
+		return result == 1 ? ChatRateLimitResult.USER_LIMITED : ChatRateLimitResult.ROOM_LIMITED;
+	}
+
+	private static <K> TokenBucket bucket(Map<K, TokenBucket> buckets, K key, long capacity, double refillPerSecond, long now) {
+		TokenBucket bucket = buckets.get(key);
+		if (bucket != null) {
+			return bucket;
+		}
+		return buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPerSecond, now));
+	}
+}
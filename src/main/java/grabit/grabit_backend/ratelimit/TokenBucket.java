@@ -0,0 +1,70 @@
+package grabit.grabit_backend.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * lock 없는 token bucket. 상태(남은 token, 마지막 갱신 시각)를 하나의 불변 객체로 두고 CAS 로 교체한다.
+ */
+public class TokenBucket {
+
+	private final double capacity;
+	private final double refillPerNano;
+	private final AtomicReference<State> state;
+
+	/**
+	 * @param capacity 한 번에 허용하는 최대 요청 수 (burst)
+	 * @param refillPerSecond 초당 채워지는 token 수
+	 */
+	public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+		this.capacity = capacity;
+		this.refillPerNano = refillPerSecond / 1_000_000_000d;
+		this.state = new AtomicReference<>(new State(capacity, nowNanos));
+	}
+
+	public boolean tryAcquire(long nowNanos) {
+		while (true) {
+			State current = state.get();
+			double tokens = refill(current, nowNanos);
+			if (tokens < 1) {
+				return false;
+			}
+			if (state.compareAndSet(current, new State(tokens - 1, Math.max(nowNanos, current.updatedAt)))) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * tryAcquire 로 가져간 token 반환 (다른 bucket 에서 거절된 경우)
+	 */
+	public void refund() {
+		while (true) {
+			State current = state.get();
+			if (state.compareAndSet(current, new State(Math.min(capacity, current.tokens + 1), current.updatedAt))) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 가득 찬 bucket 은 새로 만든 것과 같으므로 제거해도 된다.
+	 */
+	public boolean isFull(long nowNanos) {
+		return refill(state.get(), nowNanos) >= capacity;
+	}
+
+	private double refill(State current, long nowNanos) {
+		long elapsed = Math.max(0, nowNanos - current.updatedAt);
+		return Math.min(capacity, current.tokens + elapsed * refillPerNano);
+	}
+
+	private static class State {
+		private final double tokens;
+		private final long updatedAt;
+
+		State(double tokens, long updatedAt) {
+			this.tokens = tokens;
+			this.updatedAt = updatedAt;
+		}
+	}
+}
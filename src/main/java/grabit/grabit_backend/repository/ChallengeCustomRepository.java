@@ -2,14 +2,19 @@ package grabit.grabit_backend.repository;
 
 import grabit.grabit_backend.domain.Challenge;
 import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.dto.ChallengeCursor;
+import grabit.grabit_backend.dto.ChallengeSummaryDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ChallengeCustomRepository {
 
 	Optional<Challenge> findChallengeById(Long id);
 	Page<Challenge> findChallengeBySearchWithPaging(Pageable pageable, String title, String description, String leaderId);
-	Page<Challenge> findUserJoinedChallengeList(Pageable pageable, User user);
+	List<ChallengeSummaryDTO> findUserJoinedChallengeList(long offset, int limit, User user);
+	long countUserJoinedChallenge(User user);
+	List<ChallengeSummaryDTO> findUserJoinedChallengeListByCursor(ChallengeCursor cursor, boolean before, int limit, User user);
 }
@@ -1,9 +1,14 @@
 package grabit.grabit_backend.repository;
 
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import grabit.grabit_backend.domain.Challenge;
 import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.dto.ChallengeCursor;
+import grabit.grabit_backend.dto.ChallengeSummaryDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
@@ -20,9 +25,11 @@ import static grabit.grabit_backend.domain.QUserChallenge.userChallenge;
 public class ChallengeCustomRepositoryImpl implements ChallengeCustomRepository {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final ChallengeProjectionRepository challengeProjectionRepository;
 
-    public ChallengeCustomRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
+    public ChallengeCustomRepositoryImpl(JPAQueryFactory jpaQueryFactory, ChallengeProjectionRepository challengeProjectionRepository) {
         this.jpaQueryFactory = jpaQueryFactory;
+        this.challengeProjectionRepository = challengeProjectionRepository;
     }
 
     @Override
@@ -45,39 +52,56 @@ public class ChallengeCustomRepositoryImpl implements ChallengeCustomRepository
                 .orderBy(challenge.createdAt.desc())
                 .fetch();
 
-        JPAQuery<Challenge> countQuery = getChallengeJPAQuery(title, description, leaderId);
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(challenge.count())
+                .from(challenge)
+                .where(getSearchConditions(title, description, leaderId));
 
-        return PageableExecutionUtils.getPage(content, pageable, () -> countQuery.fetch().size());
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
     private JPAQuery<Challenge> getChallengeJPAQuery(String title, String description, String leaderId) {
-        JPAQuery<Challenge> findChallengeQuery = jpaQueryFactory.selectFrom(challenge);
-        if (title != null) {
-            findChallengeQuery = findChallengeQuery.where(challenge.name.contains(title));
-        }
-        if (description != null) {
-            findChallengeQuery = findChallengeQuery.where(challenge.description.contains(description));
-        }
-        if (leaderId != null) {
-            findChallengeQuery = findChallengeQuery.where(challenge.leader.userId.eq(leaderId));
-        }
-        return findChallengeQuery;
+        return jpaQueryFactory.selectFrom(challenge)
+                .where(getSearchConditions(title, description, leaderId));
+    }
+
+    private BooleanExpression[] getSearchConditions(String title, String description, String leaderId) {
+        return new BooleanExpression[]{
+                title != null ? challenge.name.contains(title) : null,
+                description != null ? challenge.description.contains(description) : null,
+                leaderId != null ? challenge.leader.userId.eq(leaderId) : null
+        };
     }
 
     @Override
-    public Page<Challenge> findUserJoinedChallengeList(Pageable pageable, User u) {
-        List<Challenge> challengeList = jpaQueryFactory
-                .selectFrom(challenge)
-                .join(challenge.userChallengeList, userChallenge).fetchJoin()
+    public List<ChallengeSummaryDTO> findUserJoinedChallengeList(long offset, int limit, User u) {
+        return challengeProjectionRepository.findSummaries(
+                new Predicate[]{joinedBy(u)},
+                ChallengeKeyset.order(false), offset, limit);
+    }
+
+    @Override
+    public long countUserJoinedChallenge(User u) {
+        Long count = jpaQueryFactory
+                .select(userChallenge.count())
+                .from(userChallenge)
                 .where(userChallenge.user.eq(u))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(challenge.createdAt.desc()).fetch();
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
 
-        JPAQuery<Challenge> query = jpaQueryFactory.selectFrom(challenge)
-                .join(challenge.userChallengeList, userChallenge).fetchJoin()
-                .where(userChallenge.user.eq(u));
+    @Override
+    public List<ChallengeSummaryDTO> findUserJoinedChallengeListByCursor(ChallengeCursor cursor, boolean before, int limit, User u) {
+        return challengeProjectionRepository.findSummaries(
+                new Predicate[]{joinedBy(u), ChallengeKeyset.condition(cursor, before)},
+                ChallengeKeyset.order(before), null, limit);
+    }
 
-        return PageableExecutionUtils.getPage(challengeList, pageable, () -> query.fetch().size());
+    // 멤버 목록이 u 로 필터링되지 않도록 join 대신 subquery 사용.
+    private BooleanExpression joinedBy(User u) {
+        return challenge.id.in(JPAExpressions
+                .select(userChallenge.challenge.id)
+                .from(userChallenge)
+                .where(userChallenge.user.eq(u)));
     }
 }
@@ -0,0 +1,89 @@
+package grabit.grabit_backend.repository;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import grabit.grabit_backend.dto.ChallengeCursor;
+import grabit.grabit_backend.dto.ChallengeSummaryDTO;
+import grabit.grabit_backend.enums.ChallengeSearchField;
+import grabit.grabit_backend.search.ChallengeSearchIndex;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static grabit.grabit_backend.domain.QChallenge.challenge;
+
+/**
+ * ChallengeSearchIndex 를 사용하는 검색 Repository.
+ * 색인이 아직 준비되지 않았다면 DB 검색으로 대체한다.
+ */
+public abstract class ChallengeIndexSearchRepository implements ChallengeSearchRepository {
+
+	protected final JPAQueryFactory jpaQueryFactory;
+	protected final ChallengeProjectionRepository challengeProjectionRepository;
+	protected final ChallengeSearchIndex challengeSearchIndex;
+
+	protected ChallengeIndexSearchRepository(JPAQueryFactory jpaQueryFactory,
+											 ChallengeProjectionRepository challengeProjectionRepository,
+											 ChallengeSearchIndex challengeSearchIndex) {
+		this.jpaQueryFactory = jpaQueryFactory;
+		this.challengeProjectionRepository = challengeProjectionRepository;
+		this.challengeSearchIndex = challengeSearchIndex;
+	}
+
+	protected abstract Set<ChallengeSearchField> searchFields();
+
+	protected abstract BooleanExpression databaseCondition(String content);
+
+	@Override
+	public List<ChallengeSummaryDTO> findChallengeList(long offset, int limit, String content) {
+		if (!useIndex(content)) {
+			return challengeProjectionRepository.findSummaries(
+					new Predicate[]{databaseConditionOrNull(content)},
+					ChallengeKeyset.order(false), offset, limit);
+		}
+
+		List<Long> pageIds = challengeSearchIndex.search(content, searchFields()).stream()
+				.skip(offset)
+				.limit(limit)
+				.collect(Collectors.toList());
+		return challengeProjectionRepository.findSummariesByIds(pageIds);
+	}
+
+	@Override
+	public long countChallenge(String content) {
+		if (!useIndex(content)) {
+			Long count = jpaQueryFactory
+					.select(challenge.count())
+					.from(challenge)
+					.where(databaseConditionOrNull(content))
+					.fetchOne();
+			return count == null ? 0 : count;
+		}
+		return challengeSearchIndex.search(content, searchFields()).size();
+	}
+
+	@Override
+	public List<ChallengeSummaryDTO> findChallengeListByCursor(ChallengeCursor cursor, boolean before, int limit, String content) {
+		if (!useIndex(content)) {
+			return challengeProjectionRepository.findSummaries(
+					new Predicate[]{databaseConditionOrNull(content), ChallengeKeyset.condition(cursor, before)},
+					ChallengeKeyset.order(before), null, limit);
+		}
+
+		List<Long> ids = cursor == null
+				? challengeSearchIndex.searchByCursor(content, searchFields(), null, null, before, limit)
+				: challengeSearchIndex.searchByCursor(content, searchFields(), cursor.getCreatedAt(), cursor.getId(), before, limit);
+		return challengeProjectionRepository.findSummariesByIds(ids);
+	}
+
+	private boolean useIndex(String content) {
+		return StringUtils.hasText(content) && challengeSearchIndex.isReady();
+	}
+
+	private BooleanExpression databaseConditionOrNull(String content) {
+		return StringUtils.hasText(content) ? databaseCondition(content) : null;
+	}
+}
@@ -0,0 +1,41 @@
+package grabit.grabit_backend.repository;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import grabit.grabit_backend.dto.ChallengeCursor;
+
+import static grabit.grabit_backend.domain.QChallenge.challenge;
+
+/**
+ * (createdAt, id) keyset 페이징 조건
+ */
+class ChallengeKeyset {
+
+	private ChallengeKeyset() {
+	}
+
+	/**
+	 * before 가 false 이면 cursor 보다 오래된 챌린지, true 이면 cursor 보다 최신 챌린지
+	 */
+	static BooleanExpression condition(ChallengeCursor cursor, boolean before) {
+		if (cursor == null) {
+			return null;
+		}
+		if (before) {
+			return challenge.createdAt.gt(cursor.getCreatedAt())
+					.or(challenge.createdAt.eq(cursor.getCreatedAt()).and(challenge.id.gt(cursor.getId())));
+		}
+		return challenge.createdAt.lt(cursor.getCreatedAt())
+				.or(challenge.createdAt.eq(cursor.getCreatedAt()).and(challenge.id.lt(cursor.getId())));
+	}
+
+	/**
+	 * before 조회는 cursor 에 가까운 순서(오래된 순)로 가져온 뒤 뒤집어서 사용
+	 */
+	static OrderSpecifier<?>[] order(boolean before) {
+		if (before) {
+			return new OrderSpecifier<?>[]{challenge.createdAt.asc(), challenge.id.asc()};
+		}
+		return new OrderSpecifier<?>[]{challenge.createdAt.desc(), challenge.id.desc()};
+	}
+}
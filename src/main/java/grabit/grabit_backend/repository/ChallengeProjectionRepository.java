@@ -0,0 +1,104 @@
+package grabit.grabit_backend.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import grabit.grabit_backend.dto.ChallengeSummaryDTO;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static grabit.grabit_backend.domain.QChallenge.challenge;
+import static grabit.grabit_backend.domain.QUser.user;
+import static grabit.grabit_backend.domain.QUserChallenge.userChallenge;
+
+/**
+ * 챌린지 목록 projection 조회. 페이지당 챌린지 1번, 멤버 1번 총 2번의 쿼리로 조회하며 엔티티를 로딩하지 않는다.
+ */
+@Repository
+public class ChallengeProjectionRepository {
+
+	private final JPAQueryFactory jpaQueryFactory;
+
+	public ChallengeProjectionRepository(JPAQueryFactory jpaQueryFactory) {
+		this.jpaQueryFactory = jpaQueryFactory;
+	}
+
+	/**
+	 * 조건에 맞는 챌린지 목록 조회
+	 * @param where
+	 * @param order
+	 * @param offset null 이면 offset 없이 조회 (cursor 페이징)
+	 * @param limit
+	 * @return
+	 */
+	public List<ChallengeSummaryDTO> findSummaries(Predicate[] where, OrderSpecifier<?>[] order, Long offset, int limit) {
+		JPAQuery<ChallengeSummaryDTO> query = jpaQueryFactory
+				.select(Projections.constructor(ChallengeSummaryDTO.class,
+						challenge.id,
+						challenge.name,
+						challenge.description,
+						user.userId,
+						challenge.isPrivate,
+						challenge.createdAt))
+				.from(challenge)
+				.join(challenge.leader, user)
+				.where(where)
+				.orderBy(order)
+				.limit(limit);
+		if (offset != null) {
+			query.offset(offset);
+		}
+		return fillMembers(query.fetch());
+	}
+
+	/**
+	 * id 목록의 순서를 유지하여 챌린지 목록 조회
+	 * @param ids
+	 * @return
+	 */
+	public List<ChallengeSummaryDTO> findSummariesByIds(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Map<Long, Integer> rank = new HashMap<>();
+		for (int i = 0; i < ids.size(); i++) {
+			rank.put(ids.get(i), i);
+		}
+
+		List<ChallengeSummaryDTO> summaries = findSummaries(new Predicate[]{challenge.id.in(ids)},
+				new OrderSpecifier<?>[]{challenge.id.desc()}, null, ids.size());
+		summaries.sort(Comparator.comparing(x -> rank.get(x.getId())));
+		return summaries;
+	}
+
+	private List<ChallengeSummaryDTO> fillMembers(List<ChallengeSummaryDTO> summaries) {
+		if (summaries.isEmpty()) {
+			return summaries;
+		}
+		Map<Long, ChallengeSummaryDTO> summaryById = summaries.stream()
+				.collect(Collectors.toMap(ChallengeSummaryDTO::getId, Function.identity()));
+
+		List<Tuple> members = jpaQueryFactory
+				.select(userChallenge.challenge.id, user.userId)
+				.from(userChallenge)
+				.join(userChallenge.user, user)
+				.where(userChallenge.challenge.id.in(summaryById.keySet()))
+				.orderBy(userChallenge.createdAt.asc())
+				.fetch();
+
+		for (Tuple member : members) {
+			summaryById.get(member.get(userChallenge.challenge.id)).getMember().add(member.get(user.userId));
+		}
+		return summaries;
+	}
+}
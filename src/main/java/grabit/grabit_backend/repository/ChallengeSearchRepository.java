@@ -1,9 +1,12 @@
 package grabit.grabit_backend.repository;
 
-import grabit.grabit_backend.domain.Challenge;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import grabit.grabit_backend.dto.ChallengeCursor;
+import grabit.grabit_backend.dto.ChallengeSummaryDTO;
+
+import java.util.List;
 
 public interface ChallengeSearchRepository {
-	Page<Challenge> findChallengeWithPaing(Pageable pageable, String content);
+	List<ChallengeSummaryDTO> findChallengeList(long offset, int limit, String content);
+	long countChallenge(String content);
+	List<ChallengeSummaryDTO> findChallengeListByCursor(ChallengeCursor cursor, boolean before, int limit, String content);
 }
@@ -1,11 +1,9 @@
 package grabit.grabit_backend.repository;
 
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import grabit.grabit_backend.domain.Challenge;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
+import grabit.grabit_backend.dto.ChallengeCursor;
+import grabit.grabit_backend.dto.ChallengeSummaryDTO;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,25 +14,34 @@ import static grabit.grabit_backend.domain.QChallenge.*;
 public class ChallengeSearchWithLeader implements ChallengeSearchRepository{
 
 	private final JPAQueryFactory jpaQueryFactory;
+	private final ChallengeProjectionRepository challengeProjectionRepository;
 
-	public ChallengeSearchWithLeader(JPAQueryFactory jpaQueryFactory){
+	public ChallengeSearchWithLeader(JPAQueryFactory jpaQueryFactory, ChallengeProjectionRepository challengeProjectionRepository){
 		this.jpaQueryFactory = jpaQueryFactory;
+		this.challengeProjectionRepository = challengeProjectionRepository;
 	}
 
 	@Override
-	public Page<Challenge> findChallengeWithPaing(Pageable pageable, String content) {
-		List<Challenge> challenges = jpaQueryFactory
-				.selectFrom(challenge)
-				.where(challenge.leader.userId.eq(content))
-				.offset(pageable.getOffset())
-				.limit(pageable.getPageSize())
-				.orderBy(challenge.createdAt.desc())
-				.fetch();
+	public List<ChallengeSummaryDTO> findChallengeList(long offset, int limit, String content) {
+		return challengeProjectionRepository.findSummaries(
+				new Predicate[]{challenge.leader.userId.eq(content)},
+				ChallengeKeyset.order(false), offset, limit);
+	}
 
-		JPAQuery<Challenge> countQuery = jpaQueryFactory
-				.selectFrom(challenge)
-				.where(challenge.leader.userId.eq(content));
+	@Override
+	public long countChallenge(String content) {
+		Long count = jpaQueryFactory
+				.select(challenge.count())
+				.from(challenge)
+				.where(challenge.leader.userId.eq(content))
+				.fetchOne();
+		return count == null ? 0 : count;
+	}
 
-		return PageableExecutionUtils.getPage(challenges, pageable, () -> countQuery.fetch().size());
+	@Override
+	public List<ChallengeSummaryDTO> findChallengeListByCursor(ChallengeCursor cursor, boolean before, int limit, String content) {
+		return challengeProjectionRepository.findSummaries(
+				new Predicate[]{challenge.leader.userId.eq(content), ChallengeKeyset.condition(cursor, before)},
+				ChallengeKeyset.order(before), null, limit);
 	}
 }
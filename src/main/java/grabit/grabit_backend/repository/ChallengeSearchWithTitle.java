@@ -1,40 +1,32 @@
 package grabit.grabit_backend.repository;
 
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import grabit.grabit_backend.domain.Challenge;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
+import grabit.grabit_backend.enums.ChallengeSearchField;
+import grabit.grabit_backend.search.ChallengeSearchIndex;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 import static grabit.grabit_backend.domain.QChallenge.*;
 
 @Repository
-public class ChallengeSearchWithTitle implements ChallengeSearchRepository{
+public class ChallengeSearchWithTitle extends ChallengeIndexSearchRepository {
 
-	private final JPAQueryFactory jpaQueryFactory;
-
-	public ChallengeSearchWithTitle(JPAQueryFactory jpaQueryFactory){
-		this.jpaQueryFactory = jpaQueryFactory;
+	public ChallengeSearchWithTitle(JPAQueryFactory jpaQueryFactory,
+							ChallengeProjectionRepository challengeProjectionRepository,
+							ChallengeSearchIndex challengeSearchIndex){
+		super(jpaQueryFactory, challengeProjectionRepository, challengeSearchIndex);
 	}
 
 	@Override
-	public Page<Challenge> findChallengeWithPaing(Pageable pageable, String content) {
-		List<Challenge> challenges = jpaQueryFactory
-				.selectFrom(challenge)
-				.where(challenge.name.contains(content))
-				.offset(pageable.getOffset())
-				.limit(pageable.getPageSize())
-				.orderBy(challenge.createdAt.desc())
-				.fetch();
-
-		JPAQuery<Challenge> countQuery = jpaQueryFactory
-				.selectFrom(challenge)
-				.where(challenge.name.contains(content));
+	protected Set<ChallengeSearchField> searchFields() {
+		return EnumSet.of(ChallengeSearchField.NAME);
+	}
 
-		return PageableExecutionUtils.getPage(challenges, pageable, () -> countQuery.fetch().size());
+	@Override
+	protected BooleanExpression databaseCondition(String content) {
+		return challenge.name.contains(content);
 	}
 }
@@ -0,0 +1,48 @@
+package grabit.grabit_backend.repository;
+
+import grabit.grabit_backend.domain.ChallengeStat;
+import grabit.grabit_backend.dto.ChallengeStatDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChallengeStatRepository extends JpaRepository<ChallengeStat, Long> {
+
+	/**
+	 * 통계 row 가 없으면 생성. 동시에 생성해도 unique index 로 하나만 남는다.
+	 */
+	@Modifying
+	@Query(value = "insert ignore into challenge_stat (user_id, challenge_id, current_streak, longest_streak, pass_count, recent_days) " +
+			"values (:userId, :challengeId, 0, 0, 0, 0)", nativeQuery = true)
+	int insertIfAbsent(@Param("userId") Integer userId, @Param("challengeId") Long challengeId);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select s from challenge_stat s where s.user.Id = :userId and s.challenge.id = :challengeId")
+	Optional<ChallengeStat> findForUpdate(@Param("userId") Integer userId, @Param("challengeId") Long challengeId);
+
+	/**
+	 * 챌린지 멤버별 통계. 인증이 없는 멤버도 포함한다.
+	 */
+	@Query("select new grabit.grabit_backend.dto.ChallengeStatDTO(c.id, c.name, u.userId, uc.createdAt, " +
+			"s.currentStreak, s.longestStreak, s.passCount, s.firstPassDate, s.lastPassDate) " +
+			"from UserChallenge uc join uc.challenge c join uc.user u " +
+			"left join challenge_stat s on s.user = u and s.challenge = c " +
+			"where c.id = :challengeId")
+	List<ChallengeStatDTO> findByChallengeId(@Param("challengeId") Long challengeId);
+
+	/**
+	 * 유저가 가입한 챌린지별 통계
+	 */
+	@Query("select new grabit.grabit_backend.dto.ChallengeStatDTO(c.id, c.name, u.userId, uc.createdAt, " +
+			"s.currentStreak, s.longestStreak, s.passCount, s.firstPassDate, s.lastPassDate) " +
+			"from UserChallenge uc join uc.challenge c join uc.user u " +
+			"left join challenge_stat s on s.user = u and s.challenge = c " +
+			"where u.Id = :userId")
+	List<ChallengeStatDTO> findByUserId(@Param("userId") Integer userId);
+}
@@ -0,0 +1,58 @@
+package grabit.grabit_backend.repository;
+
+import grabit.grabit_backend.domain.ChatMessage;
+import grabit.grabit_backend.dto.ChatCursor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class ChatMessageRepository {
+
+	private final MongoTemplate mongoTemplate;
+
+	public ChatMessageRepository(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	/**
+	 * 방 별 최신순 조회용 (challengeId, timestamp, _id) 복합 인덱스 생성
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureIndexes() {
+		mongoTemplate.indexOps(ChatMessage.class).ensureIndex(new Index()
+				.on("challengeId", Sort.Direction.ASC)
+				.on("timestamp", Sort.Direction.DESC)
+				.on("_id", Sort.Direction.DESC)
+				.named("challenge_timestamp"));
+	}
+
+	public void insertAll(Collection<ChatMessage> messages) {
+		mongoTemplate.insert(messages, ChatMessage.class);
+	}
+
+	/**
+	 * 채팅 이력 조회 (최신순)
+	 * @param before null 이면 가장 최근 메시지부터
+	 */
+	public List<ChatMessage> findByChallengeIdBefore(Long challengeId, ChatCursor before, int limit) {
+		Criteria criteria = Criteria.where("challengeId").is(challengeId);
+		if (before != null) {
+			criteria = criteria.orOperator(
+					Criteria.where("timestamp").lt(before.getTimestamp()),
+					Criteria.where("timestamp").is(before.getTimestamp()).and("_id").lt(before.getId()));
+		}
+		Query query = Query.query(criteria)
+				.with(Sort.by(Sort.Direction.DESC, "timestamp", "_id"))
+				.limit(limit);
+		return mongoTemplate.find(query, ChatMessage.class);
+	}
+}
@@ -30,9 +30,10 @@ public class JoinChallengeRequestCustomRepositoryImpl implements JoinChallengeRe
                 .limit(pageable.getPageSize())
                 .orderBy(joinChallengeRequest.createdAt.asc()).fetch(); // 오래된 순
 
-        JPAQuery<JoinChallengeRequest> countQuery = jpaQueryFactory
-                .selectFrom(joinChallengeRequest)
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(joinChallengeRequest.count())
+                .from(joinChallengeRequest)
                 .where(joinChallengeRequest.challenge.eq(c));
-        return PageableExecutionUtils.getPage(content, pageable, () -> countQuery.fetch().size());
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 }
@@ -1,8 +1,51 @@
 package grabit.grabit_backend.repository;
 
 import grabit.grabit_backend.domain.PassApproval;
+import grabit.grabit_backend.enums.PassApprovalResultStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PassApprovalRepository extends JpaRepository<PassApproval, Long> {
 
+	/**
+	 * 찬성 수 증가. 이미 결정된 요청이면 0
+	 */
+	@Modifying
+	@Query("update PASS_APPROVAL p set p.approvedCount = p.approvedCount + 1 where p.id = :id and p.closed = false")
+	int incrementApprovedCount(@Param("id") Long id);
+
+	/**
+	 * 반대 수 증가. 이미 결정된 요청이면 0
+	 */
+	@Modifying
+	@Query("update PASS_APPROVAL p set p.rejectedCount = p.rejectedCount + 1 where p.id = :id and p.closed = false")
+	int incrementRejectedCount(@Param("id") Long id);
+
+	/**
+	 * 찬성이 과반(50% 이상)이면 결정 처리. 동시에 호출되어도 한 트랜잭션만 1 을 받는다.
+	 * 투표 인원이 집계되지 않은(totalCount = 0) 요청은 결정하지 않는다.
+	 */
+	@Modifying
+	@Query("update PASS_APPROVAL p set p.closed = true where p.id = :id and p.closed = false and p.totalCount > 0 and p.approvedCount * 2 >= p.totalCount")
+	int closeIfApproved(@Param("id") Long id);
+
+	/**
+	 * 반대가 과반(50% 이상)이면 결정 처리. 동시에 호출되어도 한 트랜잭션만 1 을 받는다.
+	 */
+	@Modifying
+	@Query("update PASS_APPROVAL p set p.closed = true where p.id = :id and p.closed = false and p.totalCount > 0 and p.rejectedCount * 2 >= p.totalCount")
+	int closeIfRejected(@Param("id") Long id);
+
+	/**
+	 * counter 컬럼 추가 이전에 만든 요청의 투표 인원과 찬성/반대 수를 투표 결과로 채운다.
+	 */
+	@Modifying
+	@Query("update PASS_APPROVAL p set " +
+			"p.totalCount = (select count(r) from PASS_APPROVAL_RESULT r where r.passApproval = p), " +
+			"p.approvedCount = (select count(r) from PASS_APPROVAL_RESULT r where r.passApproval = p and r.status = :approved), " +
+			"p.rejectedCount = (select count(r) from PASS_APPROVAL_RESULT r where r.passApproval = p and r.status = :rejected) " +
+			"where p.totalCount = 0 and p.closed = false")
+	int backfillCounters(@Param("approved") PassApprovalResultStatus approved, @Param("rejected") PassApprovalResultStatus rejected);
 }
@@ -0,0 +1,59 @@
+package grabit.grabit_backend.repository;
+
+import grabit.grabit_backend.converter.PassApprovalResultStatusConverter;
+import grabit.grabit_backend.enums.PassApprovalResultStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 투표 결과 일괄 저장.
+ * PASS_APPROVAL_RESULT 는 IDENTITY 전략이라 Hibernate 가 insert 를 batch 로 묶지 못하므로
+ * multi-row insert 한 문장으로 저장해 멤버 수와 관계없이 왕복 횟수를 일정하게 유지한다.
+ */
+@Repository
+public class PassApprovalResultBulkRepository {
+
+	/** MySQL placeholder 제한(65535) 안에서 한 문장에 넣을 row 수 */
+	static final int ROWS_PER_STATEMENT = 1000;
+
+	private static final String INSERT_PREFIX =
+			"insert into pass_approval_result (pass_approval_id, challenge_id, user_id, status) values ";
+	private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final PassApprovalResultStatusConverter statusConverter = new PassApprovalResultStatusConverter();
+
+	public PassApprovalResultBulkRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 멤버별 투표 결과 저장
+	 * @return 저장된 row 수
+	 */
+	public int insertAll(Long passApprovalId, Long challengeId, List<Integer> userIds, PassApprovalResultStatus status) {
+		Integer statusValue = statusConverter.convertToDatabaseColumn(status);
+		int inserted = 0;
+		for (int from = 0; from < userIds.size(); from += ROWS_PER_STATEMENT) {
+			List<Integer> chunk = userIds.subList(from, Math.min(from + ROWS_PER_STATEMENT, userIds.size()));
+			StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + chunk.size() * (ROW_PLACEHOLDER.length() + 2))
+					.append(INSERT_PREFIX);
+			List<Object> args = new ArrayList<>(chunk.size() * 4);
+			for (int i = 0; i < chunk.size(); i++) {
+				if (i > 0) {
+					sql.append(", ");
+				}
+				sql.append(ROW_PLACEHOLDER);
+				args.add(passApprovalId);
+				args.add(challengeId);
+				args.add(chunk.get(i));
+				args.add(statusValue);
+			}
+			inserted += jdbcTemplate.update(sql.toString(), args.toArray());
+		}
+		return inserted;
+	}
+}
@@ -3,13 +3,23 @@ package grabit.grabit_backend.repository;
 import grabit.grabit_backend.domain.PassApproval;
 import grabit.grabit_backend.domain.PassApprovalResult;
 import grabit.grabit_backend.enums.PassApprovalResultStatus;
-import grabit.grabit_backend.domain.Pass;
-import grabit.grabit_backend.domain.PassApprovalResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PassApprovalResultRepository extends JpaRepository<PassApprovalResult, Long> {
 	Integer countByPassApproval(PassApproval passApproval);
 	Integer countByPassApprovalAndStatus(PassApproval passApproval, PassApprovalResultStatus status);
+
+	/**
+	 * 현재 상태가 expected 일 때만 변경 (중복 투표 방지)
+	 */
+	@Modifying
+	@Query("update PASS_APPROVAL_RESULT r set r.status = :status where r.id = :id and r.status = :expected")
+	int updateStatus(@Param("id") Long id,
+					 @Param("expected") PassApprovalResultStatus expected,
+					 @Param("status") PassApprovalResultStatus status);
 }
@@ -0,0 +1,26 @@
+package grabit.grabit_backend.repository;
+
+import grabit.grabit_backend.domain.PassCalendar;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PassCalendarRepository extends JpaRepository<PassCalendar, Long> {
+
+	@Modifying
+	@Query(value = "insert ignore into pass_calendar (user_id, calendar_year, days) values (:userId, :year, :days)", nativeQuery = true)
+	int insertIfAbsent(@Param("userId") Integer userId, @Param("year") int year, @Param("days") byte[] days);
+
+	/**
+	 * 날짜 bit 를 DB 에서 OR 로 켠다. 읽고 쓰지 않으므로 동시 인증끼리 덮어쓰지 않는다.
+	 */
+	@Modifying
+	@Query(value = "update pass_calendar set days = days | :mask where user_id = :userId and calendar_year = :year", nativeQuery = true)
+	int mark(@Param("userId") Integer userId, @Param("year") int year, @Param("mask") byte[] mask);
+
+	@Query("select p from pass_calendar p where p.user.Id = :userId and p.calendarYear = :year")
+	Optional<PassCalendar> findByUserIdAndYear(@Param("userId") Integer userId, @Param("year") int year);
+}
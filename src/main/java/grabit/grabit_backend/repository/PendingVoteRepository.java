@@ -0,0 +1,62 @@
+package grabit.grabit_backend.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import grabit.grabit_backend.domain.QUser;
+import grabit.grabit_backend.dto.PendingVoteDTO;
+import grabit.grabit_backend.enums.PassApprovalResultStatus;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static grabit.grabit_backend.domain.QChallenge.challenge;
+import static grabit.grabit_backend.domain.QPassApproval.passApproval;
+import static grabit.grabit_backend.domain.QPassApprovalResult.passApprovalResult;
+
+/**
+ * 유저의 투표 대기 목록 projection 조회.
+ * (USER_ID, STATUS, PASS_APPROVAL_ID) 인덱스 순서대로 읽고, 승인 요청 내용과 챌린지 이름은 같은 쿼리에서 join 한다.
+ */
+@Repository
+public class PendingVoteRepository {
+
+	private static final QUser writer = new QUser("writer");
+
+	private final JPAQueryFactory jpaQueryFactory;
+
+	public PendingVoteRepository(JPAQueryFactory jpaQueryFactory) {
+		this.jpaQueryFactory = jpaQueryFactory;
+	}
+
+	/**
+	 * 승인 요청 id 내림차순 조회
+	 * @param userId
+	 * @param after 이 승인 요청 id 보다 작은 것만 조회, null 이면 처음부터
+	 * @param limit
+	 * @return
+	 */
+	public List<PendingVoteDTO> findPendingVotes(Integer userId, Long after, int limit) {
+		JPAQuery<PendingVoteDTO> query = jpaQueryFactory
+				.select(Projections.constructor(PendingVoteDTO.class,
+						passApprovalResult.id,
+						passApproval.id,
+						challenge.id,
+						challenge.name,
+						writer.userId,
+						passApproval.targetDate,
+						passApproval.content))
+				.from(passApprovalResult)
+				.join(passApprovalResult.passApproval, passApproval)
+				.join(passApprovalResult.challenge, challenge)
+				.join(passApproval.user, writer)
+				.where(passApprovalResult.user.Id.eq(userId),
+						passApprovalResult.status.eq(PassApprovalResultStatus.PENDING))
+				.orderBy(passApprovalResult.passApproval.id.desc())
+				.limit(limit);
+		if (after != null) {
+			query.where(passApprovalResult.passApproval.id.lt(after));
+		}
+		return query.fetch();
+	}
+}
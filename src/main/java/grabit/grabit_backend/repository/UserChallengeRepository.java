@@ -7,8 +7,10 @@ import grabit.grabit_backend.domain.UserChallengePK;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserChallengeRepository extends JpaRepository<UserChallenge, UserChallengePK> {
@@ -16,4 +18,10 @@ public interface UserChallengeRepository extends JpaRepository<UserChallenge, Us
 	Optional<UserChallenge> findByUserAndChallenge(User user, Challenge challenge);
 	void deleteByUserAndChallenge(User user, Challenge challenge);
 	void deleteAllByUserAndChallenge(User user, Challenge challenge);
+
+	@Query("select uc.challenge.id from UserChallenge uc where uc.user.Id = :userId")
+	List<Long> findChallengeIdsByUserId(@Param("userId") Integer userId);
+
+	@Query("select uc.user.Id from UserChallenge uc where uc.challenge.id = :challengeId")
+	List<Integer> findUserIdsByChallengeId(@Param("challengeId") Long challengeId);
 }
@@ -0,0 +1,371 @@
+package grabit.grabit_backend.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import grabit.grabit_backend.domain.Challenge;
+import grabit.grabit_backend.enums.ChallengeSearchField;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static grabit.grabit_backend.domain.QChallenge.challenge;
+
+/**
+ * 챌린지 이름/설명에 대한 n-gram 역색인.
+ * 한글 부분 검색을 위해 1-gram, 2-gram 을 함께 색인하고, 후보를 교집합으로 좁힌 뒤 원문 포함 여부로 검증한다.
+ * 전체 재색인은 새 색인을 만든 뒤 교체하고, 재색인 중에 들어온 변경은 기록해 두었다가 새 색인에 다시 적용한다.
+ */
+@Component
+public class ChallengeSearchIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChallengeSearchIndex.class);
+
+	private static final int GRAM_SIZE = 2;
+	private static final double NAME_WEIGHT = 2.0;
+	private static final double DESCRIPTION_WEIGHT = 1.0;
+	private static final double PREFIX_BONUS = 1.0;
+
+	private final JPAQueryFactory jpaQueryFactory;
+
+	private volatile Index current = new Index();
+	private volatile boolean ready = false;
+
+	/** 재색인 중에 들어온 변경. 재색인 중이 아니면 null, this 로 동기화 */
+	private List<Change> pendingChanges;
+
+	public ChallengeSearchIndex(JPAQueryFactory jpaQueryFactory) {
+		this.jpaQueryFactory = jpaQueryFactory;
+	}
+
+	/**
+	 * 서버 시작 시 전체 챌린지 색인
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		synchronized (this) {
+			if (pendingChanges != null) {
+				return;
+			}
+			pendingChanges = new ArrayList<>();
+		}
+		List<Tuple> rows;
+		try {
+			rows = jpaQueryFactory
+					.select(challenge.id, challenge.name, challenge.description, challenge.createdAt)
+					.from(challenge)
+					.fetch();
+		} catch (RuntimeException e) {
+			synchronized (this) {
+				pendingChanges = null;
+			}
+			throw e;
+		}
+
+		Index rebuilt = new Index();
+		for (Tuple row : rows) {
+			rebuilt.add(document(row.get(challenge.id), row.get(challenge.name),
+					row.get(challenge.description), row.get(challenge.createdAt)));
+		}
+		synchronized (this) {
+			// 조회 이후의 변경이 조회 결과에 덮어써지지 않도록 순서대로 다시 적용
+			for (Change change : pendingChanges) {
+				rebuilt.apply(change);
+			}
+			pendingChanges = null;
+			current = rebuilt;
+			ready = true;
+		}
+		logger.info("## Challenge search index built ## : " + rows.size() + " challenges");
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 챌린지 색인 (생성/수정)
+	 * @param c
+	 */
+	public synchronized void index(Challenge c) {
+		if (c.getId() == null) {
+			return;
+		}
+		apply(new Change(c.getId(), document(c.getId(), c.getName(), c.getDescription(), c.getCreatedAt())));
+	}
+
+	/**
+	 * 챌린지 색인 삭제
+	 * @param id
+	 */
+	public synchronized void remove(Long id) {
+		if (id == null) {
+			return;
+		}
+		apply(new Change(id, null));
+	}
+
+	private void apply(Change change) {
+		current.apply(change);
+		if (pendingChanges != null) {
+			pendingChanges.add(change);
+		}
+	}
+
+	/**
+	 * 검색어를 포함하는 챌린지 id 를 관련도 순으로 반환
+	 * @param query
+	 * @param fields
+	 * @return challenge id list
+	 */
+	public List<Long> search(String query, Set<ChallengeSearchField> fields) {
+		List<ScoredChallenge> scored = match(query, fields);
+		scored.sort(Comparator.comparingDouble((ScoredChallenge x) -> x.score).reversed()
+				.thenComparing(x -> x.document.createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+				.thenComparing(x -> x.document.id, Comparator.<Long>reverseOrder()));
+		return toIds(scored, scored.size());
+	}
+
+	/**
+	 * 검색어를 포함하는 챌린지 id 를 (createdAt, id) keyset 순서로 반환
+	 * @param query
+	 * @param fields
+	 * @param createdAt cursor 의 createdAt (null 이면 처음부터)
+	 * @param id cursor 의 id
+	 * @param before false 이면 cursor 보다 오래된 순서대로, true 이면 cursor 보다 최신인 것을 cursor 에 가까운 순서대로
+	 * @param limit
+	 * @return challenge id list
+	 */
+	public List<Long> searchByCursor(String query, Set<ChallengeSearchField> fields,
+									 LocalDateTime createdAt, Long id, boolean before, int limit) {
+		Comparator<ScoredChallenge> recentFirst = Comparator
+				.comparing((ScoredChallenge x) -> x.document.createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+				.thenComparing(x -> x.document.id)
+				.reversed();
+
+		List<ScoredChallenge> scored = new ArrayList<>();
+		for (ScoredChallenge x : match(query, fields)) {
+			if (createdAt == null || x.document.createdAt == null) {
+				if (createdAt == null) {
+					scored.add(x);
+				}
+				continue;
+			}
+			int compare = x.document.createdAt.compareTo(createdAt);
+			if (compare == 0) {
+				compare = x.document.id.compareTo(id);
+			}
+			if (before ? compare > 0 : compare < 0) {
+				scored.add(x);
+			}
+		}
+		scored.sort(before ? recentFirst.reversed() : recentFirst);
+		return toIds(scored, limit);
+	}
+
+	private List<ScoredChallenge> match(String query, Set<ChallengeSearchField> fields) {
+		String normalized = normalize(query);
+		List<ScoredChallenge> scored = new ArrayList<>();
+		if (normalized.isEmpty()) {
+			return scored;
+		}
+
+		Index index = current;
+		Set<Long> candidates = new HashSet<>();
+		if (fields.contains(ChallengeSearchField.NAME)) {
+			candidates.addAll(findCandidates(index.nameIndex, normalized));
+		}
+		if (fields.contains(ChallengeSearchField.DESCRIPTION)) {
+			candidates.addAll(findCandidates(index.descriptionIndex, normalized));
+		}
+
+		for (Long id : candidates) {
+			IndexedChallenge document = index.documents.get(id);
+			if (document == null) {
+				continue;
+			}
+			double score = 0;
+			if (fields.contains(ChallengeSearchField.NAME)) {
+				score += score(document.name, normalized, NAME_WEIGHT);
+			}
+			if (fields.contains(ChallengeSearchField.DESCRIPTION)) {
+				score += score(document.description, normalized, DESCRIPTION_WEIGHT);
+			}
+			// n-gram 교집합은 후보일 뿐이므로 실제 포함 여부를 확인.
+			if (score > 0) {
+				scored.add(new ScoredChallenge(document, score));
+			}
+		}
+		return scored;
+	}
+
+	private List<Long> toIds(List<ScoredChallenge> scored, int limit) {
+		List<Long> result = new ArrayList<>(Math.min(scored.size(), limit));
+		for (int i = 0; i < scored.size() && i < limit; i++) {
+			result.add(scored.get(i).document.id);
+		}
+		return result;
+	}
+
+	private Set<Long> findCandidates(Map<String, Set<Long>> index, String normalized) {
+		Set<Long> candidates = null;
+		for (String gram : queryGrams(normalized)) {
+			Set<Long> posting = index.get(gram);
+			if (posting == null) {
+				return new HashSet<>();
+			}
+			if (candidates == null) {
+				candidates = new HashSet<>(posting);
+			} else {
+				candidates.retainAll(posting);
+			}
+			if (candidates.isEmpty()) {
+				break;
+			}
+		}
+		return candidates == null ? new HashSet<>() : candidates;
+	}
+
+	private double score(String text, String query, double weight) {
+		int count = 0;
+		int from = text.indexOf(query);
+		if (from < 0) {
+			return 0;
+		}
+		double bonus = from == 0 ? PREFIX_BONUS : 0;
+		while (from >= 0) {
+			count++;
+			from = text.indexOf(query, from + 1);
+		}
+		return weight * count + bonus;
+	}
+
+	private IndexedChallenge document(Long id, String name, String description, LocalDateTime createdAt) {
+		return new IndexedChallenge(id, normalize(name), normalize(description), createdAt);
+	}
+
+	static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+		return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+
+	// 문서는 1-gram 과 2-gram 모두 색인하여 한 글자 검색도 지원.
+	static Set<String> documentGrams(String text) {
+		Set<String> grams = new HashSet<>();
+		for (int size = 1; size <= GRAM_SIZE; size++) {
+			for (int i = 0; i + size <= text.length(); i++) {
+				grams.add(text.substring(i, i + size));
+			}
+		}
+		return grams;
+	}
+
+	static Set<String> queryGrams(String query) {
+		Set<String> grams = new HashSet<>();
+		if (query.length() < GRAM_SIZE) {
+			grams.add(query);
+			return grams;
+		}
+		for (int i = 0; i + GRAM_SIZE <= query.length(); i++) {
+			grams.add(query.substring(i, i + GRAM_SIZE));
+		}
+		return grams;
+	}
+
+	/**
+	 * 역색인과 문서. 변경은 ChallengeSearchIndex 의 lock 안에서만 하고, 검색은 lock 없이 읽는다.
+	 */
+	private static class Index {
+		private final Map<String, Set<Long>> nameIndex = new ConcurrentHashMap<>();
+		private final Map<String, Set<Long>> descriptionIndex = new ConcurrentHashMap<>();
+		private final Map<Long, IndexedChallenge> documents = new ConcurrentHashMap<>();
+
+		private void apply(Change change) {
+			remove(change.id);
+			if (change.document != null) {
+				add(change.document);
+			}
+		}
+
+		private void add(IndexedChallenge document) {
+			if (document.id == null) {
+				return;
+			}
+			documents.put(document.id, document);
+			for (String gram : documentGrams(document.name)) {
+				nameIndex.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(document.id);
+			}
+			for (String gram : documentGrams(document.description)) {
+				descriptionIndex.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(document.id);
+			}
+		}
+
+		private void remove(Long id) {
+			IndexedChallenge document = documents.remove(id);
+			if (document == null) {
+				return;
+			}
+			removePostings(nameIndex, documentGrams(document.name), id);
+			removePostings(descriptionIndex, documentGrams(document.description), id);
+		}
+
+		private void removePostings(Map<String, Set<Long>> index, Set<String> grams, Long id) {
+			for (String gram : grams) {
+				index.computeIfPresent(gram, (k, posting) -> {
+					posting.remove(id);
+					return posting.isEmpty() ? null : posting;
+				});
+			}
+		}
+	}
+
+	/**
+	 * 색인 변경. document 가 null 이면 삭제
+	 */
+	private static class Change {
+		private final Long id;
+		private final IndexedChallenge document;
+
+		private Change(Long id, IndexedChallenge document) {
+			this.id = id;
+			this.document = document;
+		}
+	}
+
+	private static class IndexedChallenge {
+		private final Long id;
+		private final String name;
+		private final String description;
+		private final LocalDateTime createdAt;
+
+		private IndexedChallenge(Long id, String name, String description, LocalDateTime createdAt) {
+			this.id = id;
+			this.name = name;
+			this.description = description;
+			this.createdAt = createdAt;
+		}
+	}
+
+	private static class ScoredChallenge {
+		private final IndexedChallenge document;
+		private final double score;
+
+		private ScoredChallenge(IndexedChallenge document, double score) {
+			this.document = document;
+			this.score = score;
+		}
+	}
+}
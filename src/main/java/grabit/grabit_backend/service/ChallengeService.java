@@ -1,9 +1,15 @@
 package grabit.grabit_backend.service;
 
+import grabit.grabit_backend.cache.ChallengeDetailCache;
+import grabit.grabit_backend.cache.ChallengeMembershipCache;
+import grabit.grabit_backend.cache.ChallengeSnapshot;
+import grabit.grabit_backend.cache.TotalCountCache;
 import grabit.grabit_backend.domain.Challenge;
 import grabit.grabit_backend.domain.JoinChallengeRequest;
 import grabit.grabit_backend.domain.User;
 import grabit.grabit_backend.domain.UserChallenge;
+import grabit.grabit_backend.dto.ChallengeCursor;
+import grabit.grabit_backend.dto.ChallengeSummaryDTO;
 import grabit.grabit_backend.dto.CreateChallengeDTO;
 import grabit.grabit_backend.dto.ModifyChallengeDTO;
 import grabit.grabit_backend.dto.SearchChallengeDTO;
@@ -13,8 +19,13 @@ import grabit.grabit_backend.exception.ForbiddenException;
 import grabit.grabit_backend.exception.NotFoundException;
 import grabit.grabit_backend.exception.UnauthorizedException;
 import grabit.grabit_backend.repository.*;
+import grabit.grabit_backend.search.ChallengeSearchIndex;
+import grabit.grabit_backend.utils.PagingUtil;
+import grabit.grabit_backend.utils.TransactionUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +44,11 @@ public class ChallengeService {
 	private final ChallengeSearchWithTitleAndDesc challengeSearchWithTitleAndDesc;
 	private final ChallengeSearchWithLeader challengeSearchWithLeader;
 	private final JoinChallengeRequestRepository joinChallengeRequestRepository;
+	private final ChallengeSearchIndex challengeSearchIndex;
+	private final TotalCountCache totalCountCache;
+	private final ChallengeDetailCache challengeDetailCache;
+	private final ChallengeMembershipCache challengeMembershipCache;
+	private final ChallengeProjectionRepository challengeProjectionRepository;
 
 	public ChallengeService(ChallengeRepository challengeRepository,
 							UserChallengeRepository userChallengeRepository,
@@ -41,7 +57,12 @@ public class ChallengeService {
 							ChallengeSearchWithDesc challengeSearchWithDesc,
 							ChallengeSearchWithTitleAndDesc challengeSearchWithTitleAndDesc,
 							ChallengeSearchWithLeader challengeSearchWithLeader,
-              JoinChallengeRequestRepository joinChallengeRequestRepository){
+              JoinChallengeRequestRepository joinChallengeRequestRepository,
+							ChallengeSearchIndex challengeSearchIndex,
+							TotalCountCache totalCountCache,
+							ChallengeDetailCache challengeDetailCache,
+							ChallengeMembershipCache challengeMembershipCache,
+							ChallengeProjectionRepository challengeProjectionRepository){
 		this.challengeRepository = challengeRepository;
 		this.userChallengeRepository = userChallengeRepository;
 		this.userRepository = userRepository;
@@ -50,6 +71,11 @@ public class ChallengeService {
 		this.challengeSearchWithTitleAndDesc = challengeSearchWithTitleAndDesc;
 		this.challengeSearchWithLeader = challengeSearchWithLeader;
     this.joinChallengeRequestRepository = joinChallengeRequestRepository;
+		this.challengeSearchIndex = challengeSearchIndex;
+		this.totalCountCache = totalCountCache;
+		this.challengeDetailCache = challengeDetailCache;
+		this.challengeMembershipCache = challengeMembershipCache;
+		this.challengeProjectionRepository = challengeProjectionRepository;
 	}
 
 	/**
@@ -69,28 +95,32 @@ public class ChallengeService {
 
 		challengeRepository.save(challenge);
 		userChallengeRepository.save(userChallenge);
+		TransactionUtil.afterCommit(() -> {
+			challengeSearchIndex.index(challenge);
+			totalCountCache.invalidateAll();
+			challengeDetailCache.invalidate(challenge.getId());
+			challengeMembershipCache.evict(user.getId());
+		});
 
 		return challenge;
 	}
 
 	/**
 	 * 챌린지 조회 (id)
+	 * 캐시에 있으면 DB 를 조회하지 않으므로 트랜잭션을 열지 않는다.
 	 * @param id
-	 * @return Challenge
+	 * @return ChallengeSnapshot
 	 */
-	@Transactional
-	public Challenge findChallengeByIdWithAuth(Long id, User user){
-		Challenge challenge = findChallengeById(id);
+	public ChallengeSnapshot findChallengeByIdWithAuth(Long id, User user){
+		ChallengeSnapshot challenge = challengeDetailCache.get(id, key -> ChallengeSnapshot.of(findChallengeById(key)));
 		if (!challenge.getIsPrivate())
 			return challenge;
 
 		if (user == null)
 			throw new UnauthorizedException();
 
-		for (UserChallenge userChallenge : challenge.getUserChallengeList()) {
-			if (userChallenge.getUser().getUserId().equals(user.getUserId()))
-				return challenge;
-		}
+		if (challenge.isMember(user.getUserId()))
+			return challenge;
 		throw new UnauthorizedException();
 	}
 
@@ -115,7 +145,14 @@ public class ChallengeService {
 			throw new UnauthorizedException();
 		}
 
+		List<Integer> memberIds = userChallengeRepository.findUserIdsByChallengeId(id);
 		challengeRepository.deleteById(id);
+		TransactionUtil.afterCommit(() -> {
+			challengeSearchIndex.remove(id);
+			totalCountCache.invalidateAll();
+			challengeDetailCache.invalidate(id);
+			challengeMembershipCache.evictAll(memberIds);
+		});
 	}
 
 	/**
@@ -141,6 +178,11 @@ public class ChallengeService {
 		User findLeader = leader.get();
 		findChallenge.modifyChallenge(modifyChallengeDTO, findLeader);
 		Challenge modifiedChallenge = challengeRepository.save(findChallenge);
+		TransactionUtil.afterCommit(() -> {
+			challengeSearchIndex.index(modifiedChallenge);
+			totalCountCache.invalidateAll();
+			challengeDetailCache.invalidate(id);
+		});
 
 		return modifiedChallenge;
 	}
@@ -149,27 +191,56 @@ public class ChallengeService {
 	 * 챌린지 조회 with Paging
 	 * @param page
 	 * @param size
+	 * @param withTotal false 이면 전체 개수를 계산하지 않고 Slice 로 반환
 	 * @return
 	 */
 	@Transactional
-	public Page<Challenge> findChallengeBySearchWithPage(String type, String content, Integer page, Integer size){
+	public Slice<ChallengeSummaryDTO> findChallengeBySearchWithPage(String type, String content, Integer page, Integer size, Boolean withTotal){
 		PageRequest pageRequest = PageRequest.of(page, size);
-		ChallengeSearchRepository challengeSearchRepository = null;
 		SearchType searchType = SearchType.valueOf(type);
+		ChallengeSearchRepository challengeSearchRepository = getChallengeSearchRepository(searchType);
 
+		if (!withTotal) {
+			List<ChallengeSummaryDTO> challenges = challengeSearchRepository.findChallengeList(pageRequest.getOffset(), size + 1, content);
+			return PagingUtil.toSlice(challenges, pageRequest);
+		}
+
+		List<ChallengeSummaryDTO> challenges = challengeSearchRepository.findChallengeList(pageRequest.getOffset(), size, content);
+		return PageableExecutionUtils.getPage(challenges, pageRequest,
+				() -> totalCountCache.get(searchType, content, () -> challengeSearchRepository.countChallenge(content)));
+	}
+
+	/**
+	 * 챌린지 조회 with Cursor (count 쿼리 없음)
+	 * @param after 이 cursor 보다 오래된 챌린지 조회
+	 * @param before 이 cursor 보다 최신 챌린지 조회
+	 * @param size
+	 * @return 최신순 Slice
+	 */
+	@Transactional
+	public Slice<ChallengeSummaryDTO> findChallengeBySearchWithCursor(String type, String content, ChallengeCursor after, ChallengeCursor before, Integer size){
+		if (after != null && before != null) {
+			throw new BadRequestException("after 와 before 는 함께 사용할 수 없습니다.");
+		}
+		ChallengeSearchRepository challengeSearchRepository = getChallengeSearchRepository(SearchType.valueOf(type));
+
+		boolean isBefore = before != null;
+		List<ChallengeSummaryDTO> challenges = challengeSearchRepository.findChallengeListByCursor(isBefore ? before : after, isBefore, size + 1, content);
+		return PagingUtil.toCursorSlice(challenges, size, isBefore);
+	}
+
+	private ChallengeSearchRepository getChallengeSearchRepository(SearchType searchType) {
 		if (searchType.equals(SearchType.title)) {
-			challengeSearchRepository = challengeSearchWithTitle;
+			return challengeSearchWithTitle;
 		} else if (searchType.equals(SearchType.desc)) {
-			challengeSearchRepository = challengeSearchWithDesc;
+			return challengeSearchWithDesc;
 		} else if (searchType.equals(SearchType.title_desc)) {
-			challengeSearchRepository = challengeSearchWithTitleAndDesc;
+			return challengeSearchWithTitleAndDesc;
 		} else if (searchType.equals(SearchType.leader)) {
-			challengeSearchRepository = challengeSearchWithLeader;
+			return challengeSearchWithLeader;
 		} else {
 			throw new IllegalStateException("잘못된 SearchType 입니다.");
 		}
-
-		return challengeSearchRepository.findChallengeWithPaing(pageRequest, content);
 	}
 
 	/**
@@ -200,13 +271,18 @@ public class ChallengeService {
 		UserChallenge userChallenge = UserChallenge.createUserChallenge(challenge, user);
 		this.userChallengeRepository.save(userChallenge);
 		challenge.getUserChallengeList().add(userChallenge);
+		TransactionUtil.afterCommit(() -> {
+			challengeDetailCache.invalidate(challenge.getId());
+			challengeMembershipCache.evict(user.getId());
+		});
 	}
 
 	/**
 	 * 챌린지 가입 승인
+	 * @return 승인된 멤버를 포함한 챌린지. 지연 로딩되는 멤버 목록을 순회하지 않도록 projection 으로 조회한다.
 	 */
 	@Transactional
-	public Challenge approveJoinChallengeRequest(Long joinChallengeRequestId, User leader) {
+	public ChallengeSummaryDTO approveJoinChallengeRequest(Long joinChallengeRequestId, User leader) {
 		JoinChallengeRequest joinChallengeRequest = findJoinChallengeRequestById(joinChallengeRequestId);
 		Challenge challenge = joinChallengeRequest.getChallenge();
 
@@ -215,7 +291,7 @@ public class ChallengeService {
 		this.joinChallengeRequestRepository.delete(joinChallengeRequest);
 
 		joinChallenge(challenge, joinChallengeRequest.getUser());
-		return challenge;
+		return challengeProjectionRepository.findSummariesByIds(List.of(challenge.getId())).get(0);
 	}
 
 	/**
@@ -242,6 +318,10 @@ public class ChallengeService {
 	public void leaveChallenge(Long id, User user){
 		Challenge findChallenge = findChallengeById(id);
 		userChallengeRepository.deleteByUserAndChallenge(user, findChallenge);
+		TransactionUtil.afterCommit(() -> {
+			challengeDetailCache.invalidate(id);
+			challengeMembershipCache.evict(user.getId());
+		});
 	}
 
 	/**
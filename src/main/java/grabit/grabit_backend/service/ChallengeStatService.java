@@ -0,0 +1,72 @@
+package grabit.grabit_backend.service;
+
+import grabit.grabit_backend.domain.ChallengeStat;
+import grabit.grabit_backend.domain.Pass;
+import grabit.grabit_backend.domain.PassCalendar;
+import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.dto.ResponseChallengeStatDTO;
+import grabit.grabit_backend.dto.ResponseUserStatDTO;
+import grabit.grabit_backend.exception.NotFoundException;
+import grabit.grabit_backend.repository.ChallengeStatRepository;
+import grabit.grabit_backend.repository.PassCalendarRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 챌린지 인증 통계. Pass 생성과 같은 트랜잭션에서 통계 row 와 달력 bitmap 을 갱신한다.
+ */
+@Service
+public class ChallengeStatService {
+
+	private final ChallengeStatRepository challengeStatRepository;
+	private final PassCalendarRepository passCalendarRepository;
+
+	public ChallengeStatService(ChallengeStatRepository challengeStatRepository, PassCalendarRepository passCalendarRepository) {
+		this.challengeStatRepository = challengeStatRepository;
+		this.passCalendarRepository = passCalendarRepository;
+	}
+
+	/**
+	 * Pass 반영. 통계 row 는 lock 을 잡고 갱신하고, 달력은 bit OR 로 갱신한다.
+	 */
+	@Transactional
+	public void record(Pass pass) {
+		Integer userId = pass.getUser().getId();
+		Long challengeId = pass.getChallenge().getId();
+		LocalDate date = pass.getDate();
+
+		challengeStatRepository.insertIfAbsent(userId, challengeId);
+		ChallengeStat stat = challengeStatRepository.findForUpdate(userId, challengeId)
+				.orElseThrow(() -> new NotFoundException("인증 통계를 찾을 수 없습니다."));
+		if (!stat.record(date)) {
+			return;
+		}
+
+		passCalendarRepository.insertIfAbsent(userId, date.getYear(), new byte[PassCalendar.SIZE]);
+		passCalendarRepository.mark(userId, date.getYear(), PassCalendar.mask(date.getDayOfYear()));
+	}
+
+	@Transactional(readOnly = true)
+	public List<ResponseChallengeStatDTO> findChallengeStats(Long challengeId) {
+		LocalDate today = LocalDate.now();
+		return challengeStatRepository.findByChallengeId(challengeId).stream()
+				.map(x -> ResponseChallengeStatDTO.convertDTO(x, today))
+				.collect(Collectors.toList());
+	}
+
+	@Transactional(readOnly = true)
+	public ResponseUserStatDTO findUserStats(User user, int year) {
+		LocalDate today = LocalDate.now();
+		List<ResponseChallengeStatDTO> challenges = challengeStatRepository.findByUserId(user.getId()).stream()
+				.map(x -> ResponseChallengeStatDTO.convertDTO(x, today))
+				.collect(Collectors.toList());
+		byte[] calendar = passCalendarRepository.findByUserIdAndYear(user.getId(), year)
+				.map(PassCalendar::getDays)
+				.orElseGet(() -> new byte[PassCalendar.SIZE]);
+		return new ResponseUserStatDTO(year, calendar, challenges);
+	}
+}
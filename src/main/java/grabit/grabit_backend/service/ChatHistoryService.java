@@ -0,0 +1,254 @@
+package grabit.grabit_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import grabit.grabit_backend.domain.ChatMessage;
+import grabit.grabit_backend.dto.ChatCursor;
+import grabit.grabit_backend.dto.ChatMessageDTO;
+import grabit.grabit_backend.dto.ResponseChatMessageListDTO;
+import grabit.grabit_backend.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 이력 저장/조회.
+ * 메시지는 메모리 버퍼에 넣고 주기적으로 MongoDB 에 일괄 저장(write-behind)해 전송 경로가 DB 를 기다리지 않게 한다.
+ * 방마다 중계받은 최근 메시지를 링 버퍼로 들고 있다가 첫 페이지는 DB 조회 없이 응답한다.
+ * 중계 장애(로컬 전달)나 Redis 재연결 동안의 메시지는 링 버퍼에 빠져 있을 수 있으므로 그 시각을 기록해 두고,
+ * 링 버퍼의 최신 메시지가 그 이후의 것으로 다시 채워질 때까지는 DB 조회 결과에 아직 저장되지 않은 메시지를 합친다.
+ */
+@Service
+public class ChatHistoryService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChatHistoryService.class);
+
+	/** 최신순: timestamp 내림차순, 같으면 id 내림차순 */
+	static final Comparator<ChatMessageDTO> LATEST_FIRST = Comparator
+			.comparing(ChatMessageDTO::getTimestamp)
+			.thenComparing(ChatMessageDTO::getId)
+			.reversed();
+
+	private final ChatMessageRepository chatMessageRepository;
+	private final ObjectReader messageReader;
+	private final BlockingQueue<ChatMessage> buffer;
+	private final int batchSize;
+	private final int ringSize;
+	private final Map<Long, RecentMessages> rings = new ConcurrentHashMap<>();
+	private final Counter dropped;
+	private final Counter failed;
+	/** 중계 연결이 마지막으로 끊기거나 다시 연결된 시각. 이 시각까지의 메시지는 모든 링 버퍼에 빠져 있을 수 있다. */
+	private volatile long relayGapAt;
+
+	public ChatHistoryService(ChatMessageRepository chatMessageRepository,
+							  ObjectMapper objectMapper,
+							  MeterRegistry meterRegistry,
+							  @Value("${grabit.chat.history.buffer-size:10000}") int bufferSize,
+							  @Value("${grabit.chat.history.batch-size:500}") int batchSize,
+							  @Value("${grabit.chat.history.ring-size:100}") int ringSize) {
+		this.chatMessageRepository = chatMessageRepository;
+		this.messageReader = objectMapper.readerFor(ChatMessageDTO.class);
+		this.buffer = new ArrayBlockingQueue<>(bufferSize);
+		this.batchSize = batchSize;
+		this.ringSize = ringSize;
+
+		Gauge.builder("grabit.chat.history.buffered", buffer, BlockingQueue::size)
+				.description("저장 대기 중인 채팅 메시지 수")
+				.register(meterRegistry);
+		this.dropped = Counter.builder("grabit.chat.history.dropped")
+				.register(meterRegistry);
+		this.failed = Counter.builder("grabit.chat.history.failed")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 저장 대기열에 추가. 대기열이 가득 차면 전송을 막지 않고 이력 저장만 포기한다.
+	 */
+	public void record(ChatMessageDTO message) {
+		if (!buffer.offer(ChatMessage.of(message))) {
+			dropped.increment();
+			logger.warn("## Chat history buffer full ## : room " + message.getChallengeId());
+		}
+	}
+
+	/**
+	 * 대기열의 메시지를 batch 단위로 저장
+	 */
+	@Scheduled(fixedDelayString = "${grabit.chat.history.flush-interval-millis:1000}")
+	public void flush() {
+		List<ChatMessage> batch = new ArrayList<>(batchSize);
+		while (buffer.drainTo(batch, batchSize) > 0) {
+			try {
+				chatMessageRepository.insertAll(batch);
+			} catch (RuntimeException e) {
+				failed.increment(batch.size());
+				logger.error("## Chat history flush failed ## : " + batch.size() + " messages", e);
+			}
+			batch.clear();
+		}
+	}
+
+	@PreDestroy
+	public void destroy() {
+		flush();
+	}
+
+	/**
+	 * 중계된 메시지를 방의 링 버퍼에 추가. 모든 노드가 모든 메시지를 받으므로 노드마다 같은 최근 이력을 가진다.
+	 */
+	public void remember(Long roomId, byte[] json) {
+		ChatMessageDTO message;
+		try {
+			message = messageReader.readValue(json);
+		} catch (IOException e) {
+			logger.warn("## Chat history message ignored ## : room " + roomId);
+			return;
+		}
+		if (message.getId() == null || message.getTimestamp() == null) {
+			return;
+		}
+		rings.computeIfAbsent(roomId, key -> new RecentMessages(ringSize)).add(message);
+	}
+
+	/**
+	 * 이 방의 메시지를 중계하지 못하고 이 노드에만 전달함. 같은 동안 다른 노드의 메시지는 이 노드의 링 버퍼에 없을 수 있다.
+	 */
+	public void markIncomplete(Long roomId) {
+		rings.computeIfAbsent(roomId, key -> new RecentMessages(ringSize)).markGap(System.currentTimeMillis());
+	}
+
+	/**
+	 * 중계 구독 연결이 끊기거나 다시 연결됨. 그 사이의 메시지는 모든 방의 링 버퍼에 없을 수 있다.
+	 */
+	public void markAllIncomplete() {
+		relayGapAt = System.currentTimeMillis();
+	}
+
+	/**
+	 * 채팅 이력 조회 (최신순)
+	 * @param before null 이면 가장 최근 메시지부터
+	 */
+	public ResponseChatMessageListDTO findMessages(Long roomId, ChatCursor before, int size) {
+		if (before == null) {
+			RecentMessages ring = rings.get(roomId);
+			List<ChatMessageDTO> recent = ring == null ? null : ring.latestAfterGap(relayGapAt, size + 1);
+			if (recent != null) {
+				return toResponse(recent, size);
+			}
+		}
+
+		// 두 쪽 모두 cursor 이전의 최신 size + 1 개씩 가져오므로, 합쳐서 정렬한 앞부분이 전체의 최신 size + 1 개다.
+		Map<String, ChatMessageDTO> merged = new LinkedHashMap<>();
+		chatMessageRepository.findByChallengeIdBefore(roomId, before, size + 1)
+				.forEach(message -> merged.put(message.getId(), ChatMessageDTO.convertDTO(message)));
+		recentMessages(roomId, before, size + 1).forEach(message -> merged.putIfAbsent(message.getId(), message));
+		List<ChatMessageDTO> messages = merged.values().stream()
+				.sorted(LATEST_FIRST)
+				.limit(size + 1)
+				.collect(Collectors.toList());
+		return toResponse(messages, size);
+	}
+
+	/**
+	 * @param messages 최신순 최대 size + 1 개. size 개를 넘으면 다음 페이지가 있다.
+	 */
+	private ResponseChatMessageListDTO toResponse(List<ChatMessageDTO> messages, int size) {
+		if (messages.size() <= size) {
+			return new ResponseChatMessageListDTO(messages, null);
+		}
+		List<ChatMessageDTO> content = new ArrayList<>(messages.subList(0, size));
+		return new ResponseChatMessageListDTO(content, ChatCursor.of(content.get(size - 1)).encode());
+	}
+
+	private List<ChatMessageDTO> recentMessages(Long roomId, ChatCursor before, int limit) {
+		RecentMessages ring = rings.get(roomId);
+		if (ring == null) {
+			return new ArrayList<>();
+		}
+		return ring.latest(before, limit);
+	}
+
+	/**
+	 * 방별 최근 메시지. 오래된 순으로 유지하며 가득 차면 가장 오래된 메시지를 버린다.
+	 */
+	static class RecentMessages {
+
+		private final ChatMessageDTO[] messages;
+		private int head;
+		private int count;
+		private long gapAt;
+
+		RecentMessages(int capacity) {
+			this.messages = new ChatMessageDTO[capacity];
+		}
+
+		synchronized void add(ChatMessageDTO message) {
+			if (count == messages.length) {
+				if (LATEST_FIRST.compare(message, get(0)) > 0) {
+					return;
+				}
+				head = (head + 1) % messages.length;
+				count--;
+			}
+			// 노드 간 도착 순서가 조금 어긋날 수 있어 뒤에서부터 자리를 찾는다.
+			int position = count;
+			while (position > 0 && LATEST_FIRST.compare(message, get(position - 1)) > 0) {
+				set(position, get(position - 1));
+				position--;
+			}
+			set(position, message);
+			count++;
+		}
+
+		synchronized void markGap(long at) {
+			gapAt = Math.max(gapAt, at);
+		}
+
+		/**
+		 * 최신 limit 개가 모두 마지막 누락 시각 이후의 메시지면, 그 사이에 빠진 메시지가 없으므로 방 전체의 최신 limit 개와 같다.
+		 * @return 메시지가 limit 개보다 적거나 누락 시각 이전의 메시지가 섞이면 null
+		 */
+		synchronized List<ChatMessageDTO> latestAfterGap(long relayGapAt, int limit) {
+			if (count < limit || get(count - limit).getTimestamp() <= Math.max(gapAt, relayGapAt)) {
+				return null;
+			}
+			return latest(null, limit);
+		}
+
+		synchronized List<ChatMessageDTO> latest(ChatCursor before, int limit) {
+			List<ChatMessageDTO> result = new ArrayList<>(Math.min(limit, count));
+			for (int i = count - 1; i >= 0 && result.size() < limit; i--) {
+				ChatMessageDTO message = get(i);
+				if (before == null || before.isAfter(message)) {
+					result.add(message);
+				}
+			}
+			return result;
+		}
+
+		private ChatMessageDTO get(int index) {
+			return messages[(head + index) % messages.length];
+		}
+
+		private void set(int index, ChatMessageDTO message) {
+			messages[(head + index) % messages.length] = message;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package grabit.grabit_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import grabit.grabit_backend.dto.ChatMessageDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 채팅 메시지 노드 간 중계.
+ * 메시지는 Redis 에 한 번만 publish 하고, 모든 노드(자기 자신 포함)가 구독해 로컬 STOMP 구독자에게 전달한다.
+ * 방마다 채널을 만들지 않고 roomId 를 고정된 수의 shard 채널로 나눠 구독 수를 제한한다.
+ * 메시지 형식은 "{roomId}:{json}" 이다.
+ */
+@Service
+public class ChatRelayService implements MessageListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChatRelayService.class);
+
+	public static final String CHANNEL_PREFIX = "chat:room:";
+	public static final String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final SimpMessagingTemplate template;
+	private final ChatHistoryService chatHistoryService;
+	private final ObjectWriter messageWriter;
+	private final int shards;
+
+	public ChatRelayService(RedisTemplate<String, String> redisTemplate,
+							SimpMessagingTemplate template,
+							ChatHistoryService chatHistoryService,
+							ObjectMapper objectMapper,
+							@Value("${grabit.chat.relay.shards:16}") int shards) {
+		this.redisTemplate = redisTemplate;
+		this.template = template;
+		this.chatHistoryService = chatHistoryService;
+		this.messageWriter = objectMapper.writerFor(ChatMessageDTO.class);
+		this.shards = shards;
+	}
+
+	/**
+	 * 구독할 shard 채널 목록
+	 */
+	public List<Topic> getTopics() {
+		List<Topic> topics = new ArrayList<>(shards);
+		for (int shard = 0; shard < shards; shard++) {
+			topics.add(new ChannelTopic(CHANNEL_PREFIX + shard));
+		}
+		return topics;
+	}
+
+	/**
+	 * 채팅방 메시지 전송. Redis 장애 시에는 이 노드의 구독자에게만 전달하고, 이 방의 최근 이력을 불완전으로 표시한다.
+	 */
+	public void publish(Long roomId, ChatMessageDTO message) {
+		String json;
+		try {
+			json = messageWriter.writeValueAsString(message);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("채팅 메시지를 변환할 수 없습니다.", e);
+		}
+		publishRaw(roomId, json);
+	}
+
+	/**
+	 * 이미 JSON 으로 직렬화된 메시지 전송
+	 */
+	public void publishRaw(Long roomId, String json) {
+		try {
+			redisTemplate.convertAndSend(channel(roomId), roomId + ":" + json);
+		} catch (RuntimeException e) {
+			logger.warn("## Chat relay publish failed ## : room " + roomId, e);
+			chatHistoryService.markIncomplete(roomId);
+			deliver(roomId, json.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		byte[] body = message.getBody();
+		int separator = indexOf(body, (byte) ':');
+		if (separator <= 0) {
+			logger.warn("## Chat relay message ignored ## : invalid format");
+			return;
+		}
+		try {
+			Long roomId = Long.valueOf(new String(body, 0, separator, StandardCharsets.US_ASCII));
+			deliver(roomId, Arrays.copyOfRange(body, separator + 1, body.length));
+		} catch (NumberFormatException e) {
+			logger.warn("## Chat relay message ignored ## : invalid room id");
+		}
+	}
+
+	/**
+	 * Redis 연결이 끊기거나 다시 연결됨. 그 사이 다른 노드가 보낸 메시지는 받지 못했을 수 있다.
+	 */
+	public void onConnectionChanged() {
+		logger.info("## Chat relay connection changed ##");
+		chatHistoryService.markAllIncomplete();
+	}
+
+	String channel(Long roomId) {
+		return CHANNEL_PREFIX + Math.floorMod(roomId.hashCode(), shards);
+	}
+
+	private void deliver(Long roomId, byte[] json) {
+		chatHistoryService.remember(roomId, json);
+		// convertAndSend 는 header Map 을 STOMP native header 로 바꾸고 byte[] 를 octet-stream 으로 보내므로,
+		// content-type 을 실제 header 로 둔 메시지를 직접 만들어 변환 없이 보낸다.
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+		accessor.setLeaveMutable(true);
+		template.send(ROOM_DESTINATION_PREFIX + roomId, MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+	}
+
+	private static int indexOf(byte[] body, byte target) {
+		for (int i = 0; i < body.length; i++) {
+			if (body[i] == target) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
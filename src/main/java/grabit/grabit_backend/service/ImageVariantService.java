@@ -0,0 +1,223 @@
+package grabit.grabit_backend.service;
+
+import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.dto.ResponseImageURLDTO;
+import grabit.grabit_backend.exception.BadRequestException;
+import grabit.grabit_backend.exception.TooManyRequestsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 업로드 + 가로 크기별 축소본 생성.
+ * 원본은 한 번만 decode 하고, 축소/인코딩/업로드는 크기별로 전용 worker pool 에서 동시에 처리한다.
+ * pool 대기열이 가득 차면 429 로 거절한다.
+ */
+@Service
+public class ImageVariantService implements DisposableBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(ImageVariantService.class);
+
+	private final S3Service s3Service;
+	private final List<Integer> widths;
+	private final float jpegQuality;
+	private final long maxPixels;
+	private final ExecutorService executor;
+
+	public ImageVariantService(S3Service s3Service,
+							   @Value("${grabit.image.variant-widths:64,256,1024}") List<Integer> widths,
+							   @Value("${grabit.image.jpeg-quality:0.8}") float jpegQuality,
+							   @Value("${grabit.image.max-pixels:40000000}") long maxPixels,
+							   @Value("${grabit.image.threads:4}") int threads,
+							   @Value("${grabit.image.queue-size:100}") int queueSize) {
+		this.s3Service = s3Service;
+		this.widths = widths;
+		this.jpegQuality = jpegQuality;
+		this.maxPixels = maxPixels;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(queueSize), runnable -> {
+					Thread thread = new Thread(runnable, "image-variant-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	/**
+	 * 원본을 decode 해 크기를 확인한 뒤 원본과, 원본보다 작은 크기의 축소본을 업로드한다.
+	 * 거절(해상도 초과, 429)되는 요청은 S3 에 아무것도 올리지 않는다.
+	 * ImageIO 로 읽을 수 없는 형식(WebP, CMYK JPEG 등)은 원본만 올리고, 실패한 축소본은 응답에서 뺀다.
+	 */
+	public CompletableFuture<ResponseImageURLDTO> upload(User user, MultipartFile file) {
+		String baseName = s3Service.newFileName(user);
+		CompletableFuture<BufferedImage> decoded;
+		try {
+			decoded = CompletableFuture.supplyAsync(() -> decode(baseName, file), executor);
+		} catch (RejectedExecutionException e) {
+			throw new TooManyRequestsException();
+		}
+		return decoded.thenCompose(image -> {
+			String url = uploadOriginal(baseName, file);
+			CompletableFuture<Map<Integer, String>> variants = image == null
+					? CompletableFuture.completedFuture(new TreeMap<>())
+					: uploadVariants(baseName, image);
+			return variants.thenApply(x -> new ResponseImageURLDTO(url, x));
+		});
+	}
+
+	private String uploadOriginal(String baseName, MultipartFile file) {
+		try {
+			return s3Service.upload(baseName, file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private CompletableFuture<Map<Integer, String>> uploadVariants(String baseName, BufferedImage image) {
+		Map<Integer, CompletableFuture<String>> uploads = new TreeMap<>();
+		try {
+			for (Integer width : widths) {
+				if (width < image.getWidth()) {
+					uploads.put(width, CompletableFuture.supplyAsync(() -> uploadVariant(baseName, image, width), executor)
+							.exceptionally(e -> {
+								logger.warn("## Image variant failed ## : " + baseName + "_w" + width, e);
+								return null;
+							}));
+				}
+			}
+		} catch (RejectedExecutionException e) {
+			// 일부 크기만 만들어진 경우에도 원본은 올라갔으므로 만든 것까지만 응답한다.
+			logger.warn("## Image variant rejected ## : " + baseName);
+		}
+		return CompletableFuture.allOf(uploads.values().toArray(new CompletableFuture[0]))
+				.thenApply(ignored -> {
+					Map<Integer, String> variants = new TreeMap<>();
+					uploads.forEach((width, upload) -> {
+						String url = upload.join();
+						if (url != null) {
+							variants.put(width, url);
+						}
+					});
+					return variants;
+				});
+	}
+
+	/**
+	 * @return ImageIO 로 읽을 수 없으면 null
+	 */
+	private BufferedImage decode(String baseName, MultipartFile file) {
+		try (InputStream inputStream = file.getInputStream();
+			 ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+			if (!readers.hasNext()) {
+				return null;
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(imageInputStream, true, true);
+				// 압축 해제 후 크기가 매우 큰 이미지로 메모리를 소진하지 않도록 크기부터 확인
+				if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+					throw new BadRequestException("이미지 해상도가 너무 큽니다.");
+				}
+				return reader.read(0);
+			} finally {
+				reader.dispose();
+			}
+		} catch (IOException e) {
+			logger.warn("## Image decode failed ## : " + baseName, e);
+			return null;
+		}
+	}
+
+	private String uploadVariant(String baseName, BufferedImage image, int width) {
+		BufferedImage resized = resize(image, width);
+		try {
+			if (resized.getColorModel().hasAlpha()) {
+				return s3Service.upload(baseName + "_w" + width + ".png", encodePng(resized), "image/png");
+			}
+			return s3Service.upload(baseName + "_w" + width + ".jpg", encodeJpeg(resized), "image/jpeg");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 목표 크기로 맞춘다.
+	 */
+	static BufferedImage resize(BufferedImage image, int width) {
+		int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+		int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+		BufferedImage current = image;
+		int currentWidth = image.getWidth();
+		int currentHeight = image.getHeight();
+		do {
+			currentWidth = Math.max(width, currentWidth / 2);
+			currentHeight = Math.max(height, currentHeight / 2);
+			BufferedImage next = new BufferedImage(currentWidth, currentHeight, type);
+			Graphics2D graphics = next.createGraphics();
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+			graphics.dispose();
+			current = next;
+		} while (currentWidth != width || currentHeight != height);
+		return current;
+	}
+
+	private byte[] encodeJpeg(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+			writer.setOutput(imageOutputStream);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(jpegQuality);
+			param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return outputStream.toByteArray();
+	}
+
+	private byte[] encodePng(BufferedImage image) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", outputStream);
+		return outputStream.toByteArray();
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
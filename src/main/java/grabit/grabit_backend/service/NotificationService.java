@@ -0,0 +1,137 @@
+package grabit.grabit_backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import grabit.grabit_backend.dto.ResponseNotificationDTO;
+import grabit.grabit_backend.dto.UserNotificationBatchDTO;
+import grabit.grabit_backend.event.PassApprovalCreatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저 알림 전송.
+ * 이벤트가 오면 바로 보내지 않고 유저별로 모아 두었다가 주기마다 한 번에 보내, 짧은 시간에 여러 요청이 생겨도 유저당 메시지는 하나다.
+ * 유저가 어느 노드에 접속해 있는지 모르므로 Redis 로 모든 노드에 중계하고, 각 노드가 자신의 STOMP 구독자에게 전달한다.
+ */
+@Service
+public class NotificationService implements MessageListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+
+	public static final String CHANNEL = "notification:users";
+	public static final String USER_DESTINATION_PREFIX = "/sub/users/";
+	public static final String NOTIFICATION_DESTINATION_SUFFIX = "/notifications";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final SimpMessagingTemplate template;
+	private final ObjectWriter batchWriter;
+	private final ObjectReader batchReader;
+	private final int maxPendingPerUser;
+
+	private final Map<Integer, List<ResponseNotificationDTO>> pending = new ConcurrentHashMap<>();
+
+	public NotificationService(RedisTemplate<String, String> redisTemplate,
+							   SimpMessagingTemplate template,
+							   ObjectMapper objectMapper,
+							   @Value("${grabit.notification.max-pending-per-user:100}") int maxPendingPerUser) {
+		this.redisTemplate = redisTemplate;
+		this.template = template;
+		TypeReference<List<UserNotificationBatchDTO>> type = new TypeReference<>() {};
+		this.batchWriter = objectMapper.writerFor(type);
+		this.batchReader = objectMapper.readerFor(type);
+		this.maxPendingPerUser = maxPendingPerUser;
+	}
+
+	/**
+	 * 승인 요청이 커밋되면 작성자를 제외한 멤버에게 투표 알림 예약
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onPassApprovalCreated(PassApprovalCreatedEvent event) {
+		ResponseNotificationDTO notification = ResponseNotificationDTO.convertDTO(event);
+		for (Integer memberId : event.getMemberIds()) {
+			if (!memberId.equals(event.getWriterId())) {
+				enqueue(memberId, notification);
+			}
+		}
+	}
+
+	/**
+	 * 모아 둔 알림 전송
+	 */
+	@Scheduled(fixedDelayString = "${grabit.notification.batch-window-millis:500}")
+	public void flush() {
+		if (pending.isEmpty()) {
+			return;
+		}
+		List<UserNotificationBatchDTO> batches = new ArrayList<>();
+		for (Integer userId : pending.keySet()) {
+			List<ResponseNotificationDTO> notifications = pending.remove(userId);
+			if (notifications != null) {
+				batches.add(new UserNotificationBatchDTO(userId, notifications));
+			}
+		}
+
+		String json;
+		try {
+			json = batchWriter.writeValueAsString(batches);
+		} catch (IOException e) {
+			logger.error("## Notification serialize failed ## : " + batches.size() + " users", e);
+			return;
+		}
+		try {
+			redisTemplate.convertAndSend(CHANNEL, json);
+		} catch (RuntimeException e) {
+			logger.warn("## Notification relay failed ## : " + batches.size() + " users", e);
+			deliver(batches);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			deliver(batchReader.readValue(message.getBody()));
+		} catch (IOException e) {
+			logger.warn("## Notification message ignored ## : invalid format");
+		}
+	}
+
+	private void enqueue(Integer userId, ResponseNotificationDTO notification) {
+		pending.compute(userId, (key, notifications) -> {
+			if (notifications == null) {
+				notifications = new ArrayList<>();
+			}
+			if (notifications.size() >= maxPendingPerUser) {
+				notifications.remove(0);
+			}
+			notifications.add(notification);
+			return notifications;
+		});
+	}
+
+	/**
+	 * 이 노드에 구독자가 없는 유저의 알림은 broker 에서 버려진다.
+	 */
+	private void deliver(List<UserNotificationBatchDTO> batches) {
+		for (UserNotificationBatchDTO batch : batches) {
+			template.convertAndSend(USER_DESTINATION_PREFIX + batch.getUserId() + NOTIFICATION_DESTINATION_SUFFIX,
+					batch.getNotifications());
+		}
+	}
+}
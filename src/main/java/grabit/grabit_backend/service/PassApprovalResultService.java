@@ -1,66 +1,147 @@
 package grabit.grabit_backend.service;
 
+import grabit.grabit_backend.cache.PendingVoteCache;
 import grabit.grabit_backend.domain.Pass;
 import grabit.grabit_backend.domain.PassApproval;
 import grabit.grabit_backend.domain.PassApprovalResult;
 import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.dto.PendingVoteDTO;
+import grabit.grabit_backend.dto.ResponsePendingVoteListDTO;
 import grabit.grabit_backend.enums.PassApprovalResultStatus;
+import grabit.grabit_backend.exception.BadRequestException;
 import grabit.grabit_backend.exception.ForbiddenException;
 import grabit.grabit_backend.exception.NotFoundException;
 import grabit.grabit_backend.repository.PassApprovalRepository;
 import grabit.grabit_backend.repository.PassApprovalResultRepository;
 import grabit.grabit_backend.repository.PassRepository;
+import grabit.grabit_backend.repository.PendingVoteRepository;
+import grabit.grabit_backend.utils.TransactionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class PassApprovalResultService {
 
+	private static final Logger logger = LoggerFactory.getLogger(PassApprovalResultService.class);
+
+	public static final int MAX_PENDING_VOTE_SIZE = 50;
+
 	private final PassApprovalResultRepository passApprovalResultRepository;
 	private final PassApprovalRepository passApprovalRepository;
 	private final PassRepository passRepository;
+	private final PendingVoteRepository pendingVoteRepository;
+	private final PendingVoteCache pendingVoteCache;
+	private final ChallengeStatService challengeStatService;
 
-	public PassApprovalResultService(PassApprovalResultRepository passApprovalResultRepository, PassApprovalRepository passApprovalRepository, PassRepository passRepository) {
+	public PassApprovalResultService(PassApprovalResultRepository passApprovalResultRepository, PassApprovalRepository passApprovalRepository, PassRepository passRepository,
+									 PendingVoteRepository pendingVoteRepository, PendingVoteCache pendingVoteCache, ChallengeStatService challengeStatService) {
 		this.passApprovalResultRepository = passApprovalResultRepository;
 		this.passApprovalRepository = passApprovalRepository;
 		this.passRepository = passRepository;
+		this.pendingVoteRepository = pendingVoteRepository;
+		this.pendingVoteCache = pendingVoteCache;
+		this.challengeStatService = challengeStatService;
+	}
+
+	/**
+	 * 시작 시 counter 가 비어 있는 기존 승인 요청을 채운다. 채우기 전에는 close 조건에서 제외된다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void backfillCounters() {
+		int updated = passApprovalRepository.backfillCounters(PassApprovalResultStatus.APPROVED, PassApprovalResultStatus.REJECT);
+		if (updated > 0) {
+			logger.info("## Pass approval counters backfilled ## : " + updated);
+		}
+	}
+
+	/**
+	 * 투표 대기 목록 조회 (최신 요청순). 첫 페이지는 최대 크기로 조회해 유저별로 캐시한다.
+	 * @param after 이 승인 요청 id 이후(더 오래된) 목록 조회, null 이면 첫 페이지
+	 * @param size MAX_PENDING_VOTE_SIZE 이하
+	 */
+	public ResponsePendingVoteListDTO findPendingVotes(User user, Long after, int size) {
+		if (after == null) {
+			List<PendingVoteDTO> firstPage = pendingVoteCache.get(user.getId(),
+					userId -> pendingVoteRepository.findPendingVotes(userId, null, MAX_PENDING_VOTE_SIZE + 1));
+			return page(firstPage, size);
+		}
+		return page(pendingVoteRepository.findPendingVotes(user.getId(), after, size + 1), size);
 	}
 
+	private ResponsePendingVoteListDTO page(List<PendingVoteDTO> votes, int size) {
+		if (votes.size() <= size) {
+			return new ResponsePendingVoteListDTO(votes, null);
+		}
+		List<PendingVoteDTO> content = new ArrayList<>(votes.subList(0, size));
+		return new ResponsePendingVoteListDTO(content, content.get(size - 1).getPassApprovalId());
+	}
+
+	/**
+	 * 찬성 투표. 찬성이 과반이 되면 Pass 를 만들어 통계에 반영하고 승인 요청을 삭제한다.
+	 * 집계는 PASS_APPROVAL 의 counter 로 하고, 결정은 조건부 UPDATE 로 한 트랜잭션에서만 일어난다.
+	 */
 	@Transactional
 	public void acceptPassApproval(Long id, User user) {
 		PassApprovalResult passApprovalList = readPassApproval(id, user);
-		Integer allCount = passApprovalResultRepository.countByPassApproval(passApprovalList.getPassApproval());
-		Integer acceptCount = passApprovalResultRepository.countByPassApprovalAndStatus(passApprovalList.getPassApproval(), PassApprovalResultStatus.APPROVED);
+		PassApproval passApproval = passApprovalList.getPassApproval();
+		vote(passApprovalList, PassApprovalResultStatus.APPROVED, passApprovalRepository.incrementApprovedCount(passApproval.getId()));
 
-		if ((acceptCount+1)/(double)allCount >= 0.5) {
-			PassApproval passApproval = passApprovalList.getPassApproval();
+		if (passApprovalRepository.closeIfApproved(passApproval.getId()) == 1) {
 			Pass pass = Pass.builder()
 					.user(passApproval.getUser())
 					.challenge(passApprovalList.getChallenge())
 					.date(passApproval.getTargetDate()).build();
 			passRepository.save(pass);
-			passApprovalRepository.delete(passApproval);
-		}else{
-			passApprovalList.setStatus(PassApprovalResultStatus.APPROVED);
-			passApprovalResultRepository.save(passApprovalList);
+			challengeStatService.record(pass);
+			close(passApproval);
 		}
-
+		TransactionUtil.afterCommit(() -> pendingVoteCache.evict(user.getId()));
 	}
 
+	/**
+	 * 반대 투표. 반대가 과반이 되면 승인 요청을 삭제한다.
+	 */
 	@Transactional
 	public void rejectPassApproval(Long id, User user) {
 		PassApprovalResult passApprovalList = readPassApproval(id, user);
-		Integer allCount = passApprovalResultRepository.countByPassApproval(passApprovalList.getPassApproval());
-		Integer rejectCount = passApprovalResultRepository.countByPassApprovalAndStatus(passApprovalList.getPassApproval(), grabit.grabit_backend.enums.PassApprovalResultStatus.REJECT);
-
-		if ((rejectCount+1)/(double)allCount >= 0.5) {
-			PassApproval passApproval = passApprovalList.getPassApproval();
-			passApprovalRepository.delete(passApproval);
-		}else{
-			passApprovalList.setStatus(PassApprovalResultStatus.REJECT);
-			passApprovalResultRepository.save(passApprovalList);
+		PassApproval passApproval = passApprovalList.getPassApproval();
+		vote(passApprovalList, PassApprovalResultStatus.REJECT, passApprovalRepository.incrementRejectedCount(passApproval.getId()));
+
+		if (passApprovalRepository.closeIfRejected(passApproval.getId()) == 1) {
+			close(passApproval);
 		}
+		TransactionUtil.afterCommit(() -> pendingVoteCache.evict(user.getId()));
+	}
+
+	/**
+	 * 승인 요청 삭제. 남은 투표도 함께 삭제되므로 투표 대상 멤버의 대기 목록 캐시를 비운다.
+	 */
+	private void close(PassApproval passApproval) {
+		List<Integer> userIds = new ArrayList<>();
+		passApproval.getPassApprovalResult().forEach(x -> userIds.add(x.getUser().getId()));
+		passApprovalRepository.delete(passApproval);
+		TransactionUtil.afterCommit(() -> userIds.forEach(pendingVoteCache::evict));
+	}
 
+	/**
+	 * counter 갱신(승인 요청 row lock) 후 투표 결과를 바꾼다. 항상 같은 순서로 lock 을 잡아 동시 투표끼리 deadlock 이 생기지 않는다.
+	 * 예외 시 트랜잭션이 롤백되어 counter 증가도 취소된다.
+	 */
+	private void vote(PassApprovalResult passApprovalResult, PassApprovalResultStatus status, int incremented) {
+		if (incremented == 0) {
+			throw new BadRequestException("이미 처리된 승인 요청입니다.");
+		}
+		if (passApprovalResultRepository.updateStatus(passApprovalResult.getId(), PassApprovalResultStatus.PENDING, status) == 0) {
+			throw new BadRequestException("이미 투표했습니다.");
+		}
 	}
 
 	public PassApprovalResult readPassApproval(Long id, User user) {
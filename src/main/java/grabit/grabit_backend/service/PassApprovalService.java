@@ -1,17 +1,21 @@
 package grabit.grabit_backend.service;
 
-import grabit.grabit_backend.domain.Challenge;
+import grabit.grabit_backend.cache.PendingVoteCache;
 import grabit.grabit_backend.domain.PassApproval;
-import grabit.grabit_backend.domain.PassApprovalResult;
 import grabit.grabit_backend.domain.User;
 import grabit.grabit_backend.dto.CreatePassApprovalDTO;
 import grabit.grabit_backend.enums.PassApprovalResultStatus;
+import grabit.grabit_backend.event.PassApprovalCreatedEvent;
 import grabit.grabit_backend.exception.ForbiddenException;
 import grabit.grabit_backend.exception.NotFoundChallengeException;
 import grabit.grabit_backend.exception.NotFoundPassApprovalException;
 import grabit.grabit_backend.repository.ChallengeRepository;
 import grabit.grabit_backend.repository.PassApprovalResultRepository;
 import grabit.grabit_backend.repository.PassApprovalRepository;
+import grabit.grabit_backend.repository.PassApprovalResultBulkRepository;
+import grabit.grabit_backend.repository.UserChallengeRepository;
+import grabit.grabit_backend.utils.TransactionUtil;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,35 +28,52 @@ public class PassApprovalService {
 	private final PassApprovalRepository passApprovalRepository;
 	private final PassApprovalResultRepository passApprovalResultRepository;
 	private final ChallengeRepository challengeRepository;
-
-	public PassApprovalService(PassApprovalRepository passApprovalRepository, ChallengeRepository challengeRepository, PassApprovalResultRepository passApprovalResultRepository) {
+	private final UserChallengeRepository userChallengeRepository;
+	private final PassApprovalResultBulkRepository passApprovalResultBulkRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PendingVoteCache pendingVoteCache;
+
+	public PassApprovalService(PassApprovalRepository passApprovalRepository,
+							   ChallengeRepository challengeRepository,
+							   PassApprovalResultRepository passApprovalResultRepository,
+							   UserChallengeRepository userChallengeRepository,
+							   PassApprovalResultBulkRepository passApprovalResultBulkRepository,
+							   ApplicationEventPublisher eventPublisher,
+							   PendingVoteCache pendingVoteCache) {
 		this.passApprovalRepository = passApprovalRepository;
 		this.passApprovalResultRepository = passApprovalResultRepository;
 		this.challengeRepository = challengeRepository;
+		this.userChallengeRepository = userChallengeRepository;
+		this.passApprovalResultBulkRepository = passApprovalResultBulkRepository;
+		this.eventPublisher = eventPublisher;
+		this.pendingVoteCache = pendingVoteCache;
 	}
 
+	/**
+	 * 인증 승인 요청 생성. 챌린지 멤버마다 PENDING 투표를 만든다.
+	 * 멤버 엔티티를 불러오지 않고 id 만 조회해 한 문장으로 일괄 저장한다.
+	 * 멤버 알림은 커밋 이후 NotificationService 가 비동기로 보낸다.
+	 */
 	@Transactional
 	public PassApproval createPassApproval(CreatePassApprovalDTO createPassApprovalDTO, User user) throws NotFoundChallengeException {
+		Long challengeId = createPassApprovalDTO.getChallengeId();
+		if (!challengeRepository.existsById(challengeId)) {
+			throw new NotFoundChallengeException();
+		}
+		List<Integer> memberIds = userChallengeRepository.findUserIdsByChallengeId(challengeId);
+
 		PassApproval passApproval = PassApproval.builder()
 				.targetDate(createPassApprovalDTO.getTargetDate())
 				.content(createPassApprovalDTO.getContent())
+				.totalCount(memberIds.size())
 				.user(user).build();
 
-		List<PassApprovalResult> passApprovalResults = new ArrayList<>();
-		Challenge challenge = challengeRepository.findChallengeById(createPassApprovalDTO.getChallengeId())
-						.orElseThrow(() -> new NotFoundChallengeException());
-
-		challenge.getUserChallengeList().forEach(
-				x -> passApprovalResults.add(PassApprovalResult.builder()
-						.passApproval(passApproval)
-						.challenge(challenge)
-						.user(x.getUser())
-						.status(PassApprovalResultStatus.PENDING)
-						.build())
-		);
-
 		passApprovalRepository.save(passApproval);
-		passApprovalResultRepository.saveAll(passApprovalResults);
+		passApprovalResultBulkRepository.insertAll(passApproval.getId(), challengeId, memberIds, PassApprovalResultStatus.PENDING);
+		eventPublisher.publishEvent(new PassApprovalCreatedEvent(passApproval.getId(), challengeId, user.getId(),
+				passApproval.getTargetDate(), memberIds));
+		// 커밋 전에 비우면 다른 요청이 이전 투표 대기 목록을 다시 캐시할 수 있다.
+		TransactionUtil.afterCommit(() -> memberIds.forEach(pendingVoteCache::evict));
 
 		return passApproval;
 	}
@@ -73,7 +94,10 @@ public class PassApprovalService {
 			throw new ForbiddenException();
 		}
 
+		List<Integer> userIds = new ArrayList<>();
+		passApproval.getPassApprovalResult().forEach(x -> userIds.add(x.getUser().getId()));
 		passApprovalRepository.delete(passApproval);
+		TransactionUtil.afterCommit(() -> userIds.forEach(pendingVoteCache::evict));
 	}
 
 }
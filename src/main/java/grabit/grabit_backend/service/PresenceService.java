@@ -0,0 +1,296 @@
+package grabit.grabit_backend.service;
+
+import grabit.grabit_backend.dto.ResponsePresenceDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 챌린지 채팅방 접속 현황.
+ * 노드는 자신의 STOMP 구독을 메모리에 들고 있고, heartbeat 마다 Redis sorted set(score = 마지막 heartbeat 시각)에 갱신한다.
+ * sorted set 의 member 는 "nodeId:userId" 로, 각 노드는 자기가 추가한 항목만 지운다. 같은 유저가 여러 노드에 접속해 있으면 중복 없이 합산한다.
+ * heartbeat 가 끊긴 항목(노드 장애, 처리 순서가 뒤바뀐 추가 등)은 ttl 이 지나면 정리된다.
+ * 입장/퇴장 시 바로 알리지 않고 방을 변경됨으로 표시만 해두고, 주기적으로 실제 인원이 바뀐 방만 presence 이벤트를 보낸다.
+ */
+@Service
+public class PresenceService implements MessageListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(PresenceService.class);
+
+	public static final String KEY_PREFIX = "presence:room:";
+	public static final String CHANGED_CHANNEL = "presence:changed";
+	public static final String PRESENCE_DESTINATION_PREFIX = "/sub/presence/room/";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final SimpMessagingTemplate template;
+	private final long ttlMillis;
+	private final String nodeId = UUID.randomUUID().toString();
+
+	/** sessionId -> (subscriptionId -> 구독). 같은 세션의 변경은 compute 안에서 순서대로 처리한다. */
+	private final Map<String, Map<String, Subscription>> sessions = new ConcurrentHashMap<>();
+	/** 종료된 sessionId -> 종료 시각. 종료 이후에 처리되는 구독을 무시하기 위해 ttl 동안 유지한다. */
+	private final Map<String, Long> closedSessions = new ConcurrentHashMap<>();
+	/** roomId -> (userId -> 이 노드의 구독 수) */
+	private final Map<Long, Map<String, Integer>> localMembers = new ConcurrentHashMap<>();
+	private final Set<Long> changedRooms = ConcurrentHashMap.newKeySet();
+	private final Map<Long, Set<String>> lastPublished = new ConcurrentHashMap<>();
+
+	public PresenceService(RedisTemplate<String, String> redisTemplate,
+						   SimpMessagingTemplate template,
+						   @Value("${grabit.presence.ttl-seconds:30}") long ttlSeconds) {
+		this.redisTemplate = redisTemplate;
+		this.template = template;
+		this.ttlMillis = ttlSeconds * 1000;
+	}
+
+	/**
+	 * 채팅방 구독. 연결 종료가 구독보다 먼저 처리된 세션이면 무시한다.
+	 */
+	public void join(String sessionId, String subscriptionId, Long roomId, String userId) {
+		Subscription subscription = new Subscription(roomId, userId);
+		List<Subscription> removed = new ArrayList<>(1);
+		boolean[] first = new boolean[1];
+		sessions.compute(sessionId, (key, subscriptions) -> {
+			if (closedSessions.containsKey(key)) {
+				return subscriptions;
+			}
+			Map<String, Subscription> result = subscriptions == null ? new HashMap<>() : subscriptions;
+			Subscription previous = result.put(subscriptionId, subscription);
+			if (previous != null && removeLocal(previous)) {
+				removed.add(previous);
+			}
+			first[0] = addLocal(roomId, userId);
+			return result;
+		});
+		removed.forEach(this::removeRemote);
+		if (first[0]) {
+			addRemote(subscription);
+		}
+	}
+
+	/**
+	 * 채팅방 구독 해제
+	 */
+	public void leave(String sessionId, String subscriptionId) {
+		List<Subscription> removed = new ArrayList<>(1);
+		sessions.computeIfPresent(sessionId, (key, subscriptions) -> {
+			Subscription subscription = subscriptions.remove(subscriptionId);
+			if (subscription != null && removeLocal(subscription)) {
+				removed.add(subscription);
+			}
+			return subscriptions.isEmpty() ? null : subscriptions;
+		});
+		removed.forEach(this::removeRemote);
+	}
+
+	/**
+	 * 세션 종료 시 모든 구독 해제
+	 */
+	public void leaveAll(String sessionId) {
+		closedSessions.put(sessionId, System.currentTimeMillis());
+		List<Subscription> removed = new ArrayList<>();
+		sessions.computeIfPresent(sessionId, (key, subscriptions) -> {
+			for (Subscription subscription : subscriptions.values()) {
+				if (removeLocal(subscription)) {
+					removed.add(subscription);
+				}
+			}
+			return null;
+		});
+		removed.forEach(this::removeRemote);
+	}
+
+	/**
+	 * 이 노드의 접속 인원
+	 */
+	public int getLocalCount(Long roomId) {
+		Map<String, Integer> members = localMembers.get(roomId);
+		return members == null ? 0 : members.size();
+	}
+
+	/**
+	 * 전체 노드의 접속 현황. heartbeat 가 ttl 안에 갱신된 유저만 포함한다.
+	 */
+	public ResponsePresenceDTO getPresence(Long roomId) {
+		Set<String> members = findOnlineMembers(roomId);
+		return new ResponsePresenceDTO(roomId, members.size(), new ArrayList<>(members));
+	}
+
+	/**
+	 * 이 노드에 접속한 유저의 heartbeat 갱신, 만료된 유저 정리
+	 */
+	@Scheduled(fixedDelayString = "${grabit.presence.heartbeat-interval-millis:10000}")
+	public void heartbeat() {
+		long now = System.currentTimeMillis();
+		closedSessions.values().removeIf(closedAt -> closedAt < now - ttlMillis);
+		if (localMembers.isEmpty()) {
+			return;
+		}
+		Map<Long, List<String>> snapshot = new HashMap<>();
+		localMembers.forEach((roomId, members) -> snapshot.put(roomId, new ArrayList<>(members.keySet())));
+		try {
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations operations) throws DataAccessException {
+					snapshot.forEach((roomId, members) -> {
+						String key = KEY_PREFIX + roomId;
+						for (String userId : members) {
+							operations.opsForZSet().add(key, member(userId), now);
+						}
+						operations.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, now - ttlMillis);
+						operations.expire(key, Duration.ofMillis(ttlMillis * 2));
+					});
+					return null;
+				}
+			});
+		} catch (RuntimeException e) {
+			logger.warn("## Presence heartbeat failed ## : " + snapshot.size() + " rooms", e);
+		}
+		// heartbeat 가 끊겨 정리된 유저도 반영되도록 이 노드의 방은 모두 다시 확인
+		changedRooms.addAll(snapshot.keySet());
+	}
+
+	/**
+	 * 변경된 방 중 실제 접속 유저가 바뀐 방에만 presence 이벤트 전송.
+	 * 짧은 간격으로 접속/해제를 반복하는 클라이언트는 주기 안에서 합쳐져 이벤트가 가지 않는다.
+	 */
+	@Scheduled(fixedDelayString = "${grabit.presence.event-interval-millis:1000}")
+	public void publishChanges() {
+		Iterator<Long> iterator = changedRooms.iterator();
+		while (iterator.hasNext()) {
+			Long roomId = iterator.next();
+			iterator.remove();
+			if (getLocalCount(roomId) == 0) {
+				// 이 노드에 채팅방 구독자가 없으면 보낼 대상도 없다.
+				lastPublished.remove(roomId);
+				continue;
+			}
+			try {
+				Set<String> members = findOnlineMembers(roomId);
+				if (members.equals(lastPublished.put(roomId, members))) {
+					continue;
+				}
+				template.convertAndSend(PRESENCE_DESTINATION_PREFIX + roomId,
+						new ResponsePresenceDTO(roomId, members.size(), new ArrayList<>(members)));
+			} catch (RuntimeException e) {
+				logger.warn("## Presence publish failed ## : room " + roomId, e);
+			}
+		}
+	}
+
+	/**
+	 * 다른 노드의 입장/퇴장 알림
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			changedRooms.add(Long.valueOf(new String(message.getBody(), StandardCharsets.US_ASCII)));
+		} catch (NumberFormatException e) {
+			logger.warn("## Presence message ignored ## : invalid room id");
+		}
+	}
+
+	private Set<String> findOnlineMembers(Long roomId) {
+		Set<String> members = redisTemplate.opsForZSet()
+				.rangeByScore(KEY_PREFIX + roomId, System.currentTimeMillis() - ttlMillis, Double.POSITIVE_INFINITY);
+		Set<String> userIds = new HashSet<>();
+		if (members != null) {
+			members.forEach(member -> userIds.add(member.substring(member.indexOf(':') + 1)));
+		}
+		return userIds;
+	}
+
+	private void addRemote(Subscription subscription) {
+		try {
+			redisTemplate.opsForZSet().add(KEY_PREFIX + subscription.roomId, member(subscription.userId), System.currentTimeMillis());
+		} catch (RuntimeException e) {
+			logger.warn("## Presence update failed ## : room " + subscription.roomId, e);
+		}
+		notifyChanged(subscription.roomId);
+	}
+
+	/**
+	 * 이 노드의 항목만 지운다. 같은 유저가 다른 노드에 접속해 있으면 그 노드의 항목은 남는다.
+	 */
+	private void removeRemote(Subscription subscription) {
+		try {
+			redisTemplate.opsForZSet().remove(KEY_PREFIX + subscription.roomId, member(subscription.userId));
+		} catch (RuntimeException e) {
+			logger.warn("## Presence update failed ## : room " + subscription.roomId, e);
+		}
+		notifyChanged(subscription.roomId);
+	}
+
+	private String member(String userId) {
+		return nodeId + ":" + userId;
+	}
+
+	private void notifyChanged(Long roomId) {
+		changedRooms.add(roomId);
+		try {
+			redisTemplate.convertAndSend(CHANGED_CHANNEL, String.valueOf(roomId));
+		} catch (RuntimeException e) {
+			logger.warn("## Presence notify failed ## : room " + roomId, e);
+		}
+	}
+
+	/**
+	 * @return 이 노드에서 해당 유저의 첫 구독이면 true
+	 */
+	private boolean addLocal(Long roomId, String userId) {
+		boolean[] first = new boolean[1];
+		localMembers.compute(roomId, (key, members) -> {
+			if (members == null) {
+				members = new ConcurrentHashMap<>();
+			}
+			first[0] = members.merge(userId, 1, Integer::sum) == 1;
+			return members;
+		});
+		return first[0];
+	}
+
+	/**
+	 * @return 이 노드에서 해당 유저의 마지막 구독이 해제되면 true
+	 */
+	private boolean removeLocal(Subscription subscription) {
+		boolean[] last = new boolean[1];
+		localMembers.computeIfPresent(subscription.roomId, (key, members) -> {
+			Integer count = members.computeIfPresent(subscription.userId, (userId, value) -> value == 1 ? null : value - 1);
+			last[0] = count == null;
+			return members.isEmpty() ? null : members;
+		});
+		return last[0];
+	}
+
+	private static class Subscription {
+		private final Long roomId;
+		private final String userId;
+
+		Subscription(Long roomId, String userId) {
+			this.roomId = roomId;
+			this.userId = userId;
+		}
+	}
+}
@@ -1,29 +1,40 @@
 package grabit.grabit_backend.service;
 
-import com.amazonaws.auth.AWSCredentials;
-import com.amazonaws.auth.AWSStaticCredentialsProvider;
-import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.enums.ImageType;
+import grabit.grabit_backend.exception.BadRequestException;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 이미지 업로드.
+ * 작은 파일은 content length 를 지정해 스트림 그대로 올려 SDK 가 메모리에 버퍼링하지 않게 하고,
+ * multipart-threshold 이상인 파일은 임시 파일로 받아 TransferManager 로 part 를 병렬 업로드한다.
+ */
 @Service
 public class S3Service {
-	private AmazonS3 amazonS3;
-	private ObjectMetadata md = new ObjectMetadata();
+	private final AmazonS3 amazonS3;
+	private final TransferManager transferManager;
+	private final long multipartThreshold;
 
 	@Value("${cloud.aws.s3.bucket}")
 	private String bucket;
@@ -31,17 +42,105 @@ public class S3Service {
 	@Value("${cloud.aws.cdn}")
 	private String cdn;
 
-	public S3Service(AmazonS3 amazonS3) {
+	public S3Service(AmazonS3 amazonS3,
+					 @Value("${grabit.storage.multipart-threshold-bytes:16777216}") long multipartThreshold,
+					 @Value("${grabit.storage.part-size-bytes:8388608}") long partSize,
+					 @Value("${grabit.storage.upload-threads:4}") int uploadThreads) {
 		this.amazonS3 = amazonS3;
+		this.multipartThreshold = multipartThreshold;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.transferManager = TransferManagerBuilder.standard()
+				.withS3Client(amazonS3)
+				.withMultipartUploadThreshold(multipartThreshold)
+				.withMinimumUploadPartSize(partSize)
+				.withExecutorFactory(() -> Executors.newFixedThreadPool(uploadThreads, runnable -> {
+					Thread thread = new Thread(runnable, "s3-upload-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}))
+				.build();
 	}
 
 	public String upload(User user, MultipartFile file) throws IOException {
-		String fileName = user.getUserId() + "_" + UUID.randomUUID().toString();
-		md.setContentType("image/jpeg");
+		return upload(newFileName(user), file);
+	}
+
+	/**
+	 * 업로드할 파일 이름 (확장자 제외)
+	 */
+	public String newFileName(User user) {
+		return user.getUserId() + "_" + UUID.randomUUID();
+	}
+
+	/**
+	 * @param baseName 확장자는 파일 내용으로 판별해 붙인다.
+	 */
+	public String upload(String baseName, MultipartFile file) throws IOException {
+		try (InputStream inputStream = new BufferedInputStream(file.getInputStream())) {
+			ImageType imageType = detectImageType(inputStream);
+			String fileName = baseName + "." + imageType.getExtension();
+
+			// 요청마다 새로 만든다. (공유하면 동시 업로드끼리 content type, length 가 섞인다)
+			ObjectMetadata metadata = new ObjectMetadata();
+			metadata.setContentType(imageType.getContentType());
+			metadata.setContentLength(file.getSize());
+
+			if (file.getSize() >= multipartThreshold) {
+				uploadMultipart(file, fileName, metadata);
+			} else {
+				amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, metadata)
+						.withCannedAcl(CannedAccessControlList.PublicRead));
+			}
+			return cdn + fileName;
+		}
+	}
 
-		amazonS3.putObject(new PutObjectRequest(bucket, fileName, file.getInputStream(), md)
+	/**
+	 * 서버에서 만든 이미지(썸네일 등) 업로드
+	 */
+	public String upload(String fileName, byte[] bytes, String contentType) {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentType(contentType);
+		metadata.setContentLength(bytes.length);
+		amazonS3.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(bytes), metadata)
 				.withCannedAcl(CannedAccessControlList.PublicRead));
-		return cdn+fileName;
+		return cdn + fileName;
 	}
 
+	private ImageType detectImageType(InputStream inputStream) throws IOException {
+		byte[] header = new byte[ImageType.SIGNATURE_LENGTH];
+		inputStream.mark(header.length);
+		int length = inputStream.readNBytes(header, 0, header.length);
+		inputStream.reset();
+
+		ImageType imageType = ImageType.detect(header, length);
+		if (imageType == null) {
+			throw new BadRequestException("지원하지 않는 이미지 형식입니다.");
+		}
+		return imageType;
+	}
+
+	/**
+	 * 스트림은 순서대로만 읽을 수 있어 part 를 병렬로 올릴 수 없으므로 임시 파일을 거친다.
+	 */
+	private void uploadMultipart(MultipartFile file, String fileName, ObjectMetadata metadata) throws IOException {
+		File tempFile = Files.createTempFile("grabit-upload-", null).toFile();
+		try {
+			file.transferTo(tempFile);
+			transferManager.upload(new PutObjectRequest(bucket, fileName, tempFile)
+							.withMetadata(metadata)
+							.withCannedAcl(CannedAccessControlList.PublicRead))
+					.waitForCompletion();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("이미지 업로드가 중단되었습니다.");
+		} finally {
+			Files.deleteIfExists(tempFile.toPath());
+		}
+	}
+
+	@PreDestroy
+	public void destroy() {
+		transferManager.shutdownNow(false);
+	}
 }
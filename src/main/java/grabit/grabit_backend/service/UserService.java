@@ -1,114 +1,117 @@
 package grabit.grabit_backend.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import grabit.grabit_backend.cache.RedisCachePolicies;
+import grabit.grabit_backend.cache.UserPrincipalCache;
+import grabit.grabit_backend.client.CommitCrawlerClient;
 import grabit.grabit_backend.domain.Challenge;
 import grabit.grabit_backend.domain.User;
 import grabit.grabit_backend.domain.UserCommit;
+import grabit.grabit_backend.dto.ChallengeCursor;
+import grabit.grabit_backend.dto.ChallengeSummaryDTO;
 import grabit.grabit_backend.dto.UpdateUserDTO;
+import grabit.grabit_backend.exception.BadRequestException;
+import grabit.grabit_backend.exception.NotFoundException;
 import grabit.grabit_backend.repository.ChallengeRepository;
 import grabit.grabit_backend.repository.UserRepository;
+import grabit.grabit_backend.utils.PagingUtil;
 import grabit.grabit_backend.utils.RedisUtil;
+import grabit.grabit_backend.utils.TransactionUtil;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.ProtocolException;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class UserService {
 
+    private static final TypeReference<List<UserCommit>> USER_COMMITS_TYPE = new TypeReference<>() {};
+
     private final UserRepository userRepository;
     private final ChallengeRepository challengeRepository;
     private final RedisUtil redisUtil;
-
-    @Value("${grabit.crawling.url}")
-    private String CrawlingURL;
+    private final UserPrincipalCache userPrincipalCache;
+    private final CommitCrawlerClient commitCrawlerClient;
 
     @Autowired
-    public UserService(UserRepository userRepository, ChallengeRepository challengeRepository, RedisUtil redisUtil) {
+    public UserService(UserRepository userRepository, ChallengeRepository challengeRepository, RedisUtil redisUtil,
+                       UserPrincipalCache userPrincipalCache, CommitCrawlerClient commitCrawlerClient) {
         this.userRepository=userRepository;
         this.challengeRepository = challengeRepository;
         this.redisUtil = redisUtil;
+        this.userPrincipalCache = userPrincipalCache;
+        this.commitCrawlerClient = commitCrawlerClient;
+    }
+
+    /**
+     * 유저 조회
+     * claims-only 인증의 principal 에는 일부 필드만 있으므로 전체 정보가 필요하면 이 메서드로 조회한다.
+     */
+    public User findUserById(Integer id) {
+        User user = userPrincipalCache.get(id, key -> userRepository.findById(key).orElse(null));
+        if (user == null) {
+            throw new NotFoundException("존재하지 않는 유저입니다.");
+        }
+        return user;
     }
 
+    /**
+     * 유저 정보 수정
+     * principal 은 영속 상태가 아닌 캐시 사본이므로 DB 에서 다시 조회해 수정한다.
+     */
     @Transactional
     public User updateUser(UpdateUserDTO updateUserDTO, User user) {
-        if (updateUserDTO.getUsername() != null) user.setUsername(updateUserDTO.getUsername());
-        if (updateUserDTO.getBio() != null) user.setBio(updateUserDTO.getBio());
-        if (updateUserDTO.getProfileImg() != null) user.setProfileImg(updateUserDTO.getProfileImg());
-
-        return userRepository.save(user);
+        User findUser = userRepository.findById(user.getId())
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 유저입니다."));
+        if (updateUserDTO.getUsername() != null) findUser.setUsername(updateUserDTO.getUsername());
+        if (updateUserDTO.getBio() != null) findUser.setBio(updateUserDTO.getBio());
+        if (updateUserDTO.getProfileImg() != null) findUser.setProfileImg(updateUserDTO.getProfileImg());
+
+        User savedUser = userRepository.save(findUser);
+        evictPrincipalAfterCommit(findUser.getId());
+        return savedUser;
     }
 
-    public Page<Challenge> findUserJoinedChallenges(User user, Integer page, Integer size) {
-        PageRequest pageRequest = PageRequest.of(page, size);
-        return challengeRepository.findUserJoinedChallengeList(pageRequest, user);
+    private void evictPrincipalAfterCommit(Integer id) {
+        userPrincipalCache.evict(id);
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐싱했을 수 있으므로 커밋 후 한 번 더 제거
+        TransactionUtil.afterCommit(() -> userPrincipalCache.evict(id));
     }
 
-    public List<UserCommit> getCommitData(User user) {
-        String key = "commit:" + user.getUserId();
-        Optional<List> result = redisUtil.getData(key, List.class);
-
-        if (result.isEmpty()) {
-            String commitResult = getUserCommitForHttp(user.getUserId());
-
-            List<UserCommit> commits = parsingUserCommit(commitResult);
-            redisUtil.saveData(key, commits);
-            return commits;
+    public Slice<ChallengeSummaryDTO> findUserJoinedChallenges(User user, Integer page, Integer size, Boolean withTotal) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (!withTotal) {
+            List<ChallengeSummaryDTO> challenges = challengeRepository.findUserJoinedChallengeList(pageRequest.getOffset(), size + 1, user);
+            return PagingUtil.toSlice(challenges, pageRequest);
         }
 
-        return result.get();
+        List<ChallengeSummaryDTO> challenges = challengeRepository.findUserJoinedChallengeList(pageRequest.getOffset(), size, user);
+        return PageableExecutionUtils.getPage(challenges, pageRequest, () -> challengeRepository.countUserJoinedChallenge(user));
     }
 
-    public String getUserCommitForHttp(String userId) {
-        try {
-            URL url = new URL(CrawlingURL+userId);
-
-            HttpURLConnection con = (HttpURLConnection) url.openConnection();
-            con.setRequestMethod("GET"); // optional default is GET
-
-            BufferedReader in = new BufferedReader(
-                    new InputStreamReader(con.getInputStream())
-            );
-
-            String inputLine;
-            StringBuffer content = new StringBuffer();
-            while((inputLine = in.readLine()) != null) {
-                content.append(inputLine);
-            }
-
-            in.close();
-            con.disconnect();
-
-            return content.toString();
-        } catch (Exception e) {
-            System.out.println("http get Error");
-            e.printStackTrace();
+    public Slice<ChallengeSummaryDTO> findUserJoinedChallengesByCursor(User user, ChallengeCursor after, ChallengeCursor before, Integer size) {
+        if (after != null && before != null) {
+            throw new BadRequestException("after 와 before 는 함께 사용할 수 없습니다.");
         }
-        return "empty";
+        boolean isBefore = before != null;
+        List<ChallengeSummaryDTO> challenges = challengeRepository.findUserJoinedChallengeListByCursor(isBefore ? before : after, isBefore, size + 1, user);
+        return PagingUtil.toCursorSlice(challenges, size, isBefore);
     }
 
-    public List<UserCommit> parsingUserCommit(String commits) {
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        try {
-            List<UserCommit> userCommits = objectMapper.readValue(commits, List.class);
-            return userCommits;
-        } catch (Exception e) {
-            System.out.println("Json Parsing Error for commits");
-            e.printStackTrace();
-            return new ArrayList<>();
-        }
+    /**
+     * 유저 커밋 조회
+     * commit: prefix 캐시 정책에 따라 만료된 값은 백그라운드로 갱신하고, 크롤링 실패는 짧게 negative 캐싱한다.
+     */
+    public CompletableFuture<List<UserCommit>> getCommitData(User user) {
+        String key = RedisCachePolicies.COMMIT_PREFIX + user.getUserId();
+        return redisUtil.getOrLoad(key, USER_COMMITS_TYPE,
+                () -> commitCrawlerClient.fetchCommits(user.getUserId()), new ArrayList<>());
     }
 
 }
@@ -0,0 +1,55 @@
+package grabit.grabit_backend.utils;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class PagingUtil {
+
+	public static final int MAX_PAGE_SIZE = 50;
+
+	/**
+	 * 목록 조회 size 를 1 ~ MAX_PAGE_SIZE 로 제한
+	 * @param size 요청 size
+	 * @return 제한된 size
+	 */
+	public static int pageSize(int size) {
+		return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+	}
+
+	/**
+	 * size + 1 개를 조회한 결과로 다음 페이지 존재 여부를 판단 (count 쿼리 없음)
+	 * @param contentWithNext
+	 * @param pageable
+	 * @return Slice
+	 */
+	public static <T> Slice<T> toSlice(List<T> contentWithNext, Pageable pageable) {
+		boolean hasNext = contentWithNext.size() > pageable.getPageSize();
+		List<T> content = hasNext
+				? new ArrayList<>(contentWithNext.subList(0, pageable.getPageSize()))
+				: contentWithNext;
+		return new SliceImpl<>(content, pageable, hasNext);
+	}
+
+	/**
+	 * cursor 방향으로 size + 1 개를 조회한 결과를 최신순 Slice 로 변환
+	 * @param contentWithNext
+	 * @param size
+	 * @param before cursor 에 가까운 순서(오래된 순)로 조회했다면 true
+	 * @return Slice (hasNext 는 조회한 방향으로 데이터가 더 있는지 여부)
+	 */
+	public static <T> Slice<T> toCursorSlice(List<T> contentWithNext, int size, boolean before) {
+		Slice<T> slice = toSlice(contentWithNext, PageRequest.of(0, size));
+		if (!before) {
+			return slice;
+		}
+		List<T> content = new ArrayList<>(slice.getContent());
+		Collections.reverse(content);
+		return new SliceImpl<>(content, slice.getPageable(), slice.hasNext());
+	}
+}
@@ -0,0 +1,22 @@
+package grabit.grabit_backend.utils;
+
+import grabit.grabit_backend.domain.User;
+import org.springframework.security.core.Authentication;
+
+import java.security.Principal;
+
+public class PrincipalUtil {
+
+	private PrincipalUtil() {
+	}
+
+	/**
+	 * STOMP 세션 principal 에서 User 추출. CONNECT 시 StompConfig 가 설정한 Authentication 이 아니면 null
+	 */
+	public static User getUser(Principal principal) {
+		if (principal instanceof Authentication && ((Authentication) principal).getPrincipal() instanceof User) {
+			return (User) ((Authentication) principal).getPrincipal();
+		}
+		return null;
+	}
+}
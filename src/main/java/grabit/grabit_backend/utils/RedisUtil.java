@@ -1,35 +1,104 @@
 package grabit.grabit_backend.utils;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import grabit.grabit_backend.cache.RedisCacheEntry;
+import grabit.grabit_backend.cache.RedisCachePolicies;
+import grabit.grabit_backend.cache.RedisCachePolicy;
+import grabit.grabit_backend.cache.RedisValueCodec;
+import grabit.grabit_backend.exception.UpstreamFailureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+/**
+ * Redis 값 저장/조회와 key prefix 정책 기반 캐시.
+ * 캐시 저장은 loader 를 완료한 스레드(HTTP client 등)를 쓰지 않고 전용 스레드에서 처리한다.
+ */
 @Component
-public class RedisUtil {
+public class RedisUtil implements DisposableBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(RedisUtil.class);
+
+	private static final String REFRESH_LOCK_PREFIX = "refresh:";
+	private static final Duration REFRESH_LOCK_TTL = Duration.ofSeconds(30);
+
+	/**
+	 * lock 을 잡을 때 저장한 token 과 같을 때만 삭제. TTL 이 지나 다른 노드가 잡은 lock 은 지우지 않는다.
+	 * KEYS = [lock], ARGV = [token]
+	 */
+	private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end\n" +
+			"return 0",
+			Long.class);
 
 	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisCachePolicies redisCachePolicies;
+	private final RedisValueCodec redisValueCodec;
+	private final MeterRegistry meterRegistry;
+	private final ExecutorService writeExecutor;
+
+	/** key -> 진행 중인 load. 같은 key 의 동시 miss 는 하나의 load 와 한 번의 저장을 공유한다. */
+	private final Map<String, CompletableFuture<?>> loading = new ConcurrentHashMap<>();
 
-	public RedisUtil(RedisTemplate redisTemplate) {
+	public RedisUtil(RedisTemplate redisTemplate, RedisCachePolicies redisCachePolicies, RedisValueCodec redisValueCodec,
+					 MeterRegistry meterRegistry, @Value("${grabit.cache.redis.write-threads:2}") int writeThreads) {
 		this.redisTemplate = redisTemplate;
+		this.redisCachePolicies = redisCachePolicies;
+		this.redisValueCodec = redisValueCodec;
+		this.meterRegistry = meterRegistry;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.writeExecutor = Executors.newFixedThreadPool(writeThreads, runnable -> {
+			Thread thread = new Thread(runnable, "redis-cache-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
 	}
 
 	public <T> boolean saveData(String key, T data) {
 		try {
-			ObjectMapper objectMapper = new ObjectMapper();
-			String value = objectMapper.writeValueAsString(data);
-			redisTemplate.opsForValue().set(key, value);
+			redisTemplate.opsForValue().set(key, redisValueCodec.encode(data, redisValueCodec.type(data.getClass())));
 			return true;
 		} catch (Exception e) {
-			System.out.println("Redis save Error!!");
-			e.printStackTrace();
+			logger.warn("## Redis save failed ## : " + key, e);
 			return false;
 		}
 	}
 
 	public <T> Optional<T> getData(String key, Class<T> classType) {
+		return getData(key, redisValueCodec.type(classType));
+	}
+
+	public <T> Optional<T> getData(String key, TypeReference<T> typeReference) {
+		return getData(key, redisValueCodec.type(typeReference));
+	}
+
+	private <T> Optional<T> getData(String key, JavaType type) {
 		String value = redisTemplate.opsForValue().get(key);
 
 		if (value == null) {
@@ -37,12 +106,213 @@ public class RedisUtil {
 		}
 
 		try {
-			ObjectMapper objectMapper = new ObjectMapper();
-			return Optional.of(objectMapper.readValue(value, classType));
+			return Optional.of(redisValueCodec.decode(value, type));
 		} catch (Exception e) {
-			System.out.println("Redis get Error!!");
-			e.printStackTrace();
+			logger.warn("## Redis get failed ## : " + key, e);
 			return Optional.empty();
 		}
 	}
+
+	/**
+	 * 여러 key 를 MGET 한 번으로 조회
+	 * @return keys 와 같은 순서. 없거나 읽을 수 없는 값은 null
+	 */
+	public <T> List<T> multiGet(List<String> keys, TypeReference<T> typeReference) {
+		if (keys.isEmpty()) {
+			return Collections.emptyList();
+		}
+		JavaType type = redisValueCodec.type(typeReference);
+		List<String> values = redisTemplate.opsForValue().multiGet(keys);
+		List<T> result = new ArrayList<>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			String value = values == null ? null : values.get(i);
+			result.add(value == null ? null : decodeOrNull(keys.get(i), value, type));
+		}
+		return result;
+	}
+
+	/**
+	 * 여러 값을 pipeline 으로 한 번에 저장
+	 */
+	public <T> void multiSave(Map<String, T> data, TypeReference<T> typeReference, Duration ttl) {
+		if (data.isEmpty()) {
+			return;
+		}
+		JavaType type = redisValueCodec.type(typeReference);
+		List<String[]> encoded = new ArrayList<>(data.size());
+		for (Map.Entry<String, T> entry : data.entrySet()) {
+			try {
+				encoded.add(new String[]{entry.getKey(), redisValueCodec.encode(entry.getValue(), type)});
+			} catch (Exception e) {
+				logger.warn("## Redis save failed ## : " + entry.getKey(), e);
+			}
+		}
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				for (String[] keyValue : encoded) {
+					operations.opsForValue().set(keyValue[0], keyValue[1], ttl);
+				}
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * key prefix 정책에 따라 캐시 조회, 없으면 loader 로 불러와 저장.
+	 * soft 만료된 값은 그대로 응답하고 백그라운드로 갱신한다.
+	 * loader 가 UpstreamFailureException 으로 실패하면 fallback 을 negative 로 짧게 저장하고, 그 외의 실패(요청 거절 등)는 저장하지 않는다.
+	 * @param key 정책이 등록된 prefix 로 시작해야 한다.
+	 * @param typeReference
+	 * @param loader
+	 * @param fallback loader 실패 또는 negative 캐시 hit 시 반환할 값
+	 * @return
+	 */
+	public <T> CompletableFuture<T> getOrLoad(String key, TypeReference<T> typeReference, Supplier<CompletableFuture<T>> loader, T fallback) {
+		RedisCachePolicy policy = redisCachePolicies.find(key)
+				.orElseThrow(() -> new IllegalArgumentException("캐시 정책이 없는 key 입니다. : " + key));
+		JavaType entryType = redisValueCodec.parametricType(RedisCacheEntry.class, redisValueCodec.type(typeReference));
+
+		// 정책 적용 이전에 저장된 값(envelope 없음)은 읽지 못하므로 miss 로 보고 다시 저장
+		RedisCacheEntry<T> entry = readEntry(key, entryType);
+		if (entry == null) {
+			count(policy, "miss");
+			return load(key, policy, entryType, loader, fallback);
+		}
+		if (entry.isNegative()) {
+			count(policy, "negative_hit");
+			return CompletableFuture.completedFuture(fallback);
+		}
+
+		if (System.currentTimeMillis() < entry.getSoftExpireAt()) {
+			count(policy, "hit");
+		} else {
+			count(policy, "stale_hit");
+			refresh(key, policy, entryType, loader);
+		}
+		return CompletableFuture.completedFuture(entry.getValue());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> CompletableFuture<T> load(String key, RedisCachePolicy policy, JavaType entryType,
+										  Supplier<CompletableFuture<T>> loader, T fallback) {
+		CompletableFuture<T> created = new CompletableFuture<>();
+		CompletableFuture<T> existing = (CompletableFuture<T>) loading.putIfAbsent(key, created);
+		if (existing != null) {
+			return existing;
+		}
+		created.whenComplete((value, e) -> loading.remove(key, created));
+
+		CompletableFuture<T> source;
+		try {
+			source = loader.get();
+		} catch (RuntimeException e) {
+			source = CompletableFuture.failedFuture(e);
+		}
+		source.handleAsync((value, e) -> {
+			if (e == null) {
+				writeEntry(key, entryType, RedisCacheEntry.of(value, softExpireAt(policy)), policy.getHardTtl());
+				return value;
+			}
+			logger.warn("## Redis cache load failed ## : " + key, e);
+			if (isUpstreamFailure(e)) {
+				writeEntry(key, entryType, RedisCacheEntry.negative(), policy.getNegativeTtl());
+				count(policy, "negative_store");
+			}
+			return fallback;
+		}, writeExecutor).whenComplete((value, e) -> {
+			if (e != null) {
+				created.completeExceptionally(e);
+			} else {
+				created.complete(value);
+			}
+		});
+		return created;
+	}
+
+	/**
+	 * soft 만료된 값 갱신. 여러 노드가 동시에 갱신하지 않도록 짧은 lock key 를 잡은 노드만 loader 를 호출한다.
+	 * 갱신에 실패하면 이전 값을 hard 만료 시점까지 유지한다.
+	 */
+	private <T> void refresh(String key, RedisCachePolicy policy, JavaType entryType, Supplier<CompletableFuture<T>> loader) {
+		String lockKey = REFRESH_LOCK_PREFIX + key;
+		String token = UUID.randomUUID().toString();
+		try {
+			Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, token, REFRESH_LOCK_TTL);
+			if (!Boolean.TRUE.equals(locked)) {
+				return;
+			}
+			loader.get().whenCompleteAsync((value, e) -> {
+				if (e != null) {
+					logger.warn("## Redis cache refresh failed ## : " + key, e);
+					count(policy, "refresh_failure");
+				} else {
+					writeEntry(key, entryType, RedisCacheEntry.of(value, softExpireAt(policy)), policy.getHardTtl());
+					count(policy, "refresh_success");
+				}
+				releaseLock(lockKey, token);
+			}, writeExecutor);
+		} catch (RuntimeException e) {
+			logger.warn("## Redis cache refresh failed ## : " + key, e);
+			count(policy, "refresh_failure");
+		}
+	}
+
+	private void releaseLock(String lockKey, String token) {
+		try {
+			redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), token);
+		} catch (RuntimeException e) {
+			logger.warn("## Redis lock release failed ## : " + lockKey, e);
+		}
+	}
+
+	private boolean isUpstreamFailure(Throwable e) {
+		Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+		return cause instanceof UpstreamFailureException;
+	}
+
+	private long softExpireAt(RedisCachePolicy policy) {
+		return System.currentTimeMillis() + policy.getSoftTtl().toMillis();
+	}
+
+	private <T> RedisCacheEntry<T> readEntry(String key, JavaType entryType) {
+		try {
+			String value = redisTemplate.opsForValue().get(key);
+			return value == null ? null : redisValueCodec.decode(value, entryType);
+		} catch (Exception e) {
+			logger.warn("## Redis cache read failed ## : " + key, e);
+			return null;
+		}
+	}
+
+	private <T> void writeEntry(String key, JavaType entryType, RedisCacheEntry<T> entry, Duration ttl) {
+		try {
+			redisTemplate.opsForValue().set(key, redisValueCodec.encode(entry, entryType), ttl);
+		} catch (Exception e) {
+			logger.warn("## Redis cache write failed ## : " + key, e);
+		}
+	}
+
+	private <T> T decodeOrNull(String key, String value, JavaType type) {
+		try {
+			return redisValueCodec.decode(value, type);
+		} catch (Exception e) {
+			logger.warn("## Redis get failed ## : " + key, e);
+			return null;
+		}
+	}
+
+	private void count(RedisCachePolicy policy, String result) {
+		Counter.builder("grabit.cache.redis")
+				.tag("prefix", policy.getPrefix())
+				.tag("result", result)
+				.register(meterRegistry)
+				.increment();
+	}
+
+	@Override
+	public void destroy() {
+		writeExecutor.shutdown();
+	}
 }
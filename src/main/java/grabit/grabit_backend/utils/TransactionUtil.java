@@ -0,0 +1,24 @@
+package grabit.grabit_backend.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+	/**
+	 * 트랜잭션 커밋 이후 실행 (롤백된 변경이 색인, 캐시에 반영되지 않도록). 트랜잭션 밖이면 바로 실행한다.
+	 * @param task
+	 */
+	public static void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+}
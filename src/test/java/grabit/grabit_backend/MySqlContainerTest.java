@@ -0,0 +1,28 @@
+package grabit.grabit_backend;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * MySQL Testcontainers 를 사용하는 JPA 테스트의 공통 설정.
+ * 컨테이너는 테스트 클래스마다 띄우지 않고 JVM 에서 한 번만 시작해 공유한다. (종료는 Testcontainers 가 처리)
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public abstract class MySqlContainerTest {
+
+	protected static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+	static {
+		mysql.start();
+	}
+
+	@DynamicPropertySource
+	static void mysqlProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysql::getJdbcUrl);
+		registry.add("spring.datasource.username", mysql::getUsername);
+		registry.add("spring.datasource.password", mysql::getPassword);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+	}
+}
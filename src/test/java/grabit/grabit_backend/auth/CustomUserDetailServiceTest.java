@@ -0,0 +1,67 @@
+package grabit.grabit_backend.auth;
+
+import grabit.grabit_backend.cache.UserPrincipalCache;
+import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailServiceTest {
+	@Mock
+	UserRepository userRepository;
+
+	@Test
+	void 유저_조회_캐시() {
+		//given
+		UserPrincipalCache userPrincipalCache = new UserPrincipalCache(100, 60);
+		CustomUserDetailService customUserDetailService = new CustomUserDetailService(userRepository, userPrincipalCache);
+		User user = new User(1, "testId", "testName", "test@grabit.com", null, null);
+		doReturn(Optional.of(user)).when(userRepository).findById(1);
+
+		//when
+		customUserDetailService.loadUserByUsername("1");
+		customUserDetailService.loadUserByUsername("1");
+		userPrincipalCache.evict(1);
+		customUserDetailService.loadUserByUsername("1");
+
+		//then
+		verify(userRepository, times(2)).findById(1);
+	}
+
+	@Test
+	void 캐시된_유저는_요청마다_다른_객체() {
+		//given
+		CustomUserDetailService customUserDetailService = new CustomUserDetailService(userRepository, new UserPrincipalCache(100, 60));
+		doReturn(Optional.of(new User(1, "testId", "testName", "test@grabit.com", "bio", null))).when(userRepository).findById(1);
+
+		//when
+		User first = (User) customUserDetailService.loadUserByUsername("1");
+		first.setBio("changed");
+		User second = (User) customUserDetailService.loadUserByUsername("1");
+
+		//then
+		assertNotSame(first, second);
+		assertEquals("bio", second.getBio());
+		assertEquals("testId", second.getUserId());
+		verify(userRepository, times(1)).findById(1);
+	}
+
+	@Test
+	void 유저_조회_없음_에러() {
+		//given
+		CustomUserDetailService customUserDetailService = new CustomUserDetailService(userRepository, new UserPrincipalCache(100, 60));
+		doReturn(Optional.empty()).when(userRepository).findById(1);
+
+		//when, then
+		assertThrows(UsernameNotFoundException.class, () -> customUserDetailService.loadUserByUsername("1"));
+	}
+}
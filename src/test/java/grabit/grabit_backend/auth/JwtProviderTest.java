@@ -0,0 +1,70 @@
+package grabit.grabit_backend.auth;
+
+import grabit.grabit_backend.domain.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtProviderTest {
+	@Mock
+	CustomUserDetailService customUserDetailService;
+
+	JwtProvider jwtProvider;
+
+	@BeforeEach
+	void setUp() {
+		jwtProvider = new JwtProvider(customUserDetailService);
+		ReflectionTestUtils.setField(jwtProvider, "jwtSecret", "test-secret");
+	}
+
+	@Test
+	void claims_only_인증_DB_조회_없음() {
+		//given
+		ReflectionTestUtils.setField(jwtProvider, "claimsOnly", true);
+		User user = new User(1, "testId", "testName", "test@grabit.com", null, "https://avatars/test");
+		String token = jwtProvider.issueJwt(user, 60 * 1000);
+
+		//when
+		Optional<Claims> claims = jwtProvider.parseClaims(token);
+		Authentication authentication = jwtProvider.getAuthentication(claims.get());
+
+		//then
+		User principal = (User) authentication.getPrincipal();
+		assertEquals(1, principal.getId());
+		assertEquals("testId", principal.getUserId());
+		assertEquals("testName", principal.getUsername());
+		assertEquals("https://avatars/test", principal.getProfileImg());
+		verifyNoInteractions(customUserDetailService);
+	}
+
+	@Test
+	void 프로필_claim_없는_토큰은_DB_조회() {
+		//given
+		ReflectionTestUtils.setField(jwtProvider, "claimsOnly", true);
+		User user = new User(1, "testId", "testName", "test@grabit.com", null, null);
+		doReturn(user).when(customUserDetailService).loadUserByUsername("1");
+		String token = jwtProvider.issueJwt(1, 60 * 1000);
+
+		//when
+		Authentication authentication = jwtProvider.getAuthentication(jwtProvider.parseClaims(token).get());
+
+		//then
+		assertSame(user, authentication.getPrincipal());
+	}
+
+	@Test
+	void 잘못된_토큰() {
+		assertTrue(jwtProvider.parseClaims("invalid.token.value").isEmpty());
+	}
+}
@@ -0,0 +1,82 @@
+package grabit.grabit_backend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+class ChallengeDetailCacheTest {
+
+	@Container
+	static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:6-alpine")).withExposedPorts(6379);
+
+	LettuceConnectionFactory connectionFactory;
+	StringRedisTemplate redisTemplate;
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.delete(Set.of("challenge:detail:1", "challenge:version:1"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	private ChallengeDetailCache node() {
+		return new ChallengeDetailCache(redisTemplate, new RedisValueCodec(new ObjectMapper(), 2048), 100, 30, 600);
+	}
+
+	private ChallengeSnapshot snapshot(String... members) {
+		return new ChallengeSnapshot(1L, "챌린지", "설명", "leader", true, List.of(members));
+	}
+
+	@Test
+	void 조회중_무효화되면_이전_값을_Redis에_저장하지_않음() {
+		//given
+		ChallengeDetailCache nodeA = node();
+		ChallengeDetailCache nodeB = node();
+
+		//when
+		nodeA.get(1L, id -> {
+			// DB 조회 이후, 저장 이전에 다른 요청이 탈퇴를 커밋하고 무효화
+			ChallengeSnapshot loaded = snapshot("leader", "alice");
+			nodeB.invalidate(1L);
+			return loaded;
+		});
+
+		//then
+		assertNull(redisTemplate.opsForValue().get("challenge:detail:1"));
+		ChallengeSnapshot reloaded = node().get(1L, id -> snapshot("leader"));
+		assertFalse(reloaded.isMember("alice"));
+	}
+
+	@Test
+	void 무효화가_없으면_Redis에_저장해_다른_노드가_재사용() {
+		//given
+		node().get(1L, id -> snapshot("leader", "alice"));
+
+		//when
+		ChallengeSnapshot cached = node().get(1L, id -> {
+			throw new AssertionError("Redis 에 저장된 값을 사용해야 한다.");
+		});
+
+		//then
+		assertTrue(cached.isMember("alice"));
+	}
+}
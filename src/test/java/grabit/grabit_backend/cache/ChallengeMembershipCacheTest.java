@@ -0,0 +1,44 @@
+package grabit.grabit_backend.cache;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ChallengeMembershipCacheTest {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void 다른_노드의_evict_메시지로_멤버십_무효화() {
+		//given
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		ChallengeMembershipCache nodeA = new ChallengeMembershipCache(redisTemplate, 100, 60);
+		ChallengeMembershipCache nodeB = new ChallengeMembershipCache(redisTemplate, 100, 60);
+		AtomicInteger loads = new AtomicInteger();
+		assertTrue(nodeB.isMember(1, 7L, userId -> {
+			loads.incrementAndGet();
+			return Set.of(7L);
+		}));
+
+		//when
+		nodeA.evictAll(List.of(1, 2));
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(ChallengeDetailCache.INVALIDATION_CHANNEL), message.capture());
+		nodeA.evictLocal(message.getValue());
+		nodeB.evictLocal(message.getValue());
+
+		//then
+		assertFalse(nodeB.isMember(1, 7L, userId -> {
+			loads.incrementAndGet();
+			return Set.of();
+		}));
+		assertEquals(2, loads.get());
+	}
+}
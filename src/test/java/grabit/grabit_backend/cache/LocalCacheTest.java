@@ -0,0 +1,93 @@
+package grabit.grabit_backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalCacheTest {
+
+	@Test
+	void 없으면_loader로_불러와_저장() {
+		//given
+		LocalCache<Integer, String> cache = new LocalCache<>(10, Duration.ofMinutes(1));
+		AtomicInteger loads = new AtomicInteger();
+
+		//when
+		cache.get(1, key -> "value" + loads.incrementAndGet());
+		String value = cache.get(1, key -> "value" + loads.incrementAndGet());
+
+		//then
+		assertEquals("value1", value);
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void TTL이_지나면_만료() throws Exception {
+		//given
+		LocalCache<Integer, String> cache = new LocalCache<>(10, Duration.ofMillis(50));
+		cache.put(1, "value");
+
+		//when
+		Thread.sleep(100);
+
+		//then
+		assertNull(cache.get(1));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void 최대_크기를_넘으면_오래_사용되지_않은_항목부터_제거() throws Exception {
+		//given
+		LocalCache<Integer, String> cache = new LocalCache<>(10, Duration.ofMinutes(1));
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, "value" + i);
+			Thread.sleep(2);
+		}
+		cache.get(0);
+
+		//when
+		cache.put(10, "value10");
+
+		//then
+		assertTrue(cache.size() <= 10);
+		assertNotNull(cache.get(0));
+		assertNotNull(cache.get(10));
+		assertNull(cache.get(1));
+	}
+
+	@Test
+	void 불러오는_중_무효화되면_저장하지_않음() {
+		//given
+		LocalCache<Integer, String> cache = new LocalCache<>(10, Duration.ofMinutes(1));
+
+		//when
+		String loaded = cache.get(1, key -> {
+			// DB 조회 이후, 저장 이전에 변경이 커밋되고 무효화
+			cache.invalidate(1);
+			return "stale";
+		});
+
+		//then
+		assertEquals("stale", loaded);
+		assertNull(cache.get(1));
+		assertEquals("fresh", cache.get(1, key -> "fresh"));
+	}
+
+	@Test
+	void 전체_무효화도_불러오는_중인_값을_막음() {
+		//given
+		LocalCache<Integer, String> cache = new LocalCache<>(10, Duration.ofMinutes(1));
+
+		//when
+		cache.get(1, key -> {
+			cache.invalidateAll();
+			return "stale";
+		});
+
+		//then
+		assertNull(cache.get(1));
+	}
+}
@@ -0,0 +1,55 @@
+package grabit.grabit_backend.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grabit.grabit_backend.domain.UserCommit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisValueCodecTest {
+
+	RedisValueCodec codec = new RedisValueCodec(new ObjectMapper(), 256);
+	JavaType commitsType = codec.type(new TypeReference<List<UserCommit>>() {});
+
+	@Test
+	void 타입_지정_역직렬화() throws Exception {
+		//when
+		List<UserCommit> commits = codec.decode("[{\"Date\":\"2022-08-01\",\"count\":\"3\",\"unknown\":1}]", commitsType);
+
+		//then
+		assertEquals("2022-08-01", commits.get(0).getDate());
+		assertEquals("3", commits.get(0).getCount());
+	}
+
+	@Test
+	void 큰_값_압축_저장() throws Exception {
+		//given
+		List<UserCommit> commits = new ArrayList<>();
+		for (int i = 0; i < 365; i++) {
+			commits.add(new UserCommit("2022-08-01", String.valueOf(i)));
+		}
+
+		//when
+		String encoded = codec.encode(commits, commitsType);
+		List<UserCommit> decoded = codec.decode(encoded, commitsType);
+
+		//then
+		assertTrue(encoded.startsWith(RedisValueCodec.COMPRESSED_PREFIX));
+		assertEquals(365, decoded.size());
+		assertEquals("364", decoded.get(364).getCount());
+	}
+
+	@Test
+	void 작은_값_JSON_저장() throws Exception {
+		//when
+		String encoded = codec.encode(List.of(new UserCommit("2022-08-01", "1")), commitsType);
+
+		//then
+		assertTrue(encoded.startsWith("["));
+	}
+}
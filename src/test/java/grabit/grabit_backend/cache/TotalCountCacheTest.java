@@ -0,0 +1,32 @@
+package grabit.grabit_backend.cache;
+
+import grabit.grabit_backend.enums.SearchType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TotalCountCacheTest {
+
+	@Test
+	void 검색어별로_개수를_캐시하고_변경시_다시_계산() {
+		//given
+		TotalCountCache totalCountCache = new TotalCountCache(60);
+		AtomicLong counts = new AtomicLong();
+		SearchType type = SearchType.title;
+
+		//when
+		long first = totalCountCache.get(type, "운동", counts::incrementAndGet);
+		long cached = totalCountCache.get(type, "운동", counts::incrementAndGet);
+		long other = totalCountCache.get(type, "독서", counts::incrementAndGet);
+		totalCountCache.invalidateAll();
+		long recounted = totalCountCache.get(type, "운동", counts::incrementAndGet);
+
+		//then
+		assertEquals(1, first);
+		assertEquals(1, cached);
+		assertEquals(2, other);
+		assertEquals(3, recounted);
+	}
+}
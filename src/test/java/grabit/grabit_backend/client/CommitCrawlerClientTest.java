@@ -0,0 +1,131 @@
+package grabit.grabit_backend.client;
+
+import com.sun.net.httpserver.HttpServer;
+import grabit.grabit_backend.domain.UserCommit;
+import grabit.grabit_backend.exception.CommitCrawlerException;
+import grabit.grabit_backend.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommitCrawlerClientTest {
+
+	private static final String COMMITS = "[{\"date\":\"2022-08-01\",\"count\":\"3\"}]";
+
+	HttpServer server;
+	AtomicInteger requestCount = new AtomicInteger();
+	CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/commits/", exchange -> {
+			requestCount.incrementAndGet();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			int status = exchange.getRequestURI().getPath().endsWith("broken") ? 500 : 200;
+			byte[] body = COMMITS.getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(status, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	private CommitCrawlerClient client(long requestTimeoutMillis, int maxConcurrency) {
+		return new CommitCrawlerClient("http://127.0.0.1:" + server.getAddress().getPort() + "/commits/",
+				1000, requestTimeoutMillis, maxConcurrency);
+	}
+
+	@Test
+	void 같은_유저_동시_요청은_한번만_호출() throws Exception {
+		//given
+		CommitCrawlerClient client = client(3000, 16);
+
+		//when
+		List<CompletableFuture<List<UserCommit>>> futures = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			futures.add(client.fetchCommits("testId"));
+		}
+		release.countDown();
+
+		//then
+		for (CompletableFuture<List<UserCommit>> future : futures) {
+			assertEquals(1, future.get(5, TimeUnit.SECONDS).size());
+		}
+		assertEquals(1, requestCount.get());
+		client.destroy();
+	}
+
+	@Test
+	void 응답_지연_timeout() {
+		//given
+		CommitCrawlerClient client = client(200, 16);
+
+		//when
+		CompletableFuture<List<UserCommit>> future = client.fetchCommits("slow");
+
+		//then
+		ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+		assertTrue(e.getCause() instanceof CommitCrawlerException);
+		release.countDown();
+		client.destroy();
+	}
+
+	@Test
+	void 응답_오류_status() {
+		//given
+		CommitCrawlerClient client = client(3000, 16);
+		release.countDown();
+
+		//when
+		CompletableFuture<List<UserCommit>> future = client.fetchCommits("broken");
+
+		//then
+		ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+		assertTrue(e.getCause() instanceof CommitCrawlerException);
+		client.destroy();
+	}
+
+	@Test
+	void 동시_요청_수_초과() throws Exception {
+		//given
+		CommitCrawlerClient client = client(3000, 1);
+
+		//when
+		CompletableFuture<List<UserCommit>> first = client.fetchCommits("first");
+		CompletableFuture<List<UserCommit>> second = client.fetchCommits("second");
+
+		//then
+		ExecutionException e = assertThrows(ExecutionException.class, () -> second.get(1, TimeUnit.SECONDS));
+		assertTrue(e.getCause() instanceof TooManyRequestsException);
+		release.countDown();
+		assertEquals(1, first.get(5, TimeUnit.SECONDS).size());
+		client.destroy();
+	}
+}
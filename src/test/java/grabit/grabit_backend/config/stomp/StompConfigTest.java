@@ -0,0 +1,109 @@
+package grabit.grabit_backend.config.stomp;
+
+import grabit.grabit_backend.auth.CustomUserDetailService;
+import grabit.grabit_backend.auth.JwtProvider;
+import grabit.grabit_backend.cache.ChallengeMembershipCache;
+import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.exception.ForbiddenException;
+import grabit.grabit_backend.exception.UnauthorizedException;
+import grabit.grabit_backend.repository.UserChallengeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StompConfigTest {
+
+	UserChallengeRepository userChallengeRepository = mock(UserChallengeRepository.class);
+	MessageChannel channel = mock(MessageChannel.class);
+	JwtProvider jwtProvider;
+	StompConfig stompConfig;
+
+	@BeforeEach
+	void setUp() {
+		jwtProvider = new JwtProvider(mock(CustomUserDetailService.class));
+		ReflectionTestUtils.setField(jwtProvider, "jwtSecret", "test-secret");
+		ReflectionTestUtils.setField(jwtProvider, "claimsOnly", true);
+		stompConfig = new StompConfig(jwtProvider, new ChallengeMembershipCache(mock(RedisTemplate.class), 100, 60), userChallengeRepository);
+	}
+
+	private StompHeaderAccessor accessor(StompCommand command, Principal user, String destination) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+		accessor.setUser(user);
+		accessor.setDestination(destination);
+		accessor.setLeaveMutable(true);
+		return accessor;
+	}
+
+	private Message<byte[]> message(StompHeaderAccessor accessor) {
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private Principal connect() {
+		User user = new User(1, "testId", "testName", "test@grabit.com", null, null);
+		StompHeaderAccessor accessor = accessor(StompCommand.CONNECT, null, null);
+		accessor.addNativeHeader("Authorization", "Bearer " + jwtProvider.issueJwt(user, 60 * 1000));
+		stompConfig.preSend(message(accessor), channel);
+		return accessor.getUser();
+	}
+
+	@Test
+	void CONNECT_토큰으로_user_설정() {
+		//when
+		Principal principal = connect();
+
+		//then
+		assertNotNull(principal);
+		assertThrows(UnauthorizedException.class,
+				() -> stompConfig.preSend(message(accessor(StompCommand.CONNECT, null, null)), channel));
+	}
+
+	@Test
+	void 멤버만_채팅방_구독_멤버십은_캐시에서_조회() {
+		//given
+		Principal principal = connect();
+		when(userChallengeRepository.findChallengeIdsByUserId(1)).thenReturn(List.of(7L));
+
+		//when
+		stompConfig.preSend(message(accessor(StompCommand.SUBSCRIBE, principal, "/sub/chat/room/7")), channel);
+		stompConfig.preSend(message(accessor(StompCommand.SEND, principal, "/pub/chat/message/7")), channel);
+
+		//then
+		assertThrows(ForbiddenException.class,
+				() -> stompConfig.preSend(message(accessor(StompCommand.SUBSCRIBE, principal, "/sub/chat/room/8")), channel));
+		assertThrows(UnauthorizedException.class,
+				() -> stompConfig.preSend(message(accessor(StompCommand.SUBSCRIBE, null, "/sub/chat/room/7")), channel));
+		verify(userChallengeRepository, times(1)).findChallengeIdsByUserId(1);
+	}
+
+	@Test
+	void wildcard_구독과_허용되지_않은_경로는_거절() {
+		//given
+		Principal principal = connect();
+		when(userChallengeRepository.findChallengeIdsByUserId(1)).thenReturn(List.of(7L));
+
+		//when
+		stompConfig.preSend(message(accessor(StompCommand.SUBSCRIBE, principal, "/sub/users/1/notifications")), channel);
+
+		//then
+		for (String destination : List.of("/sub/**", "/sub/*/room/7", "/sub/chat/room/{id}", "/sub/chat/room/7?",
+				"/sub/chat/room/7/extra", "/sub/users/2/notifications", "/sub/unknown")) {
+			assertThrows(ForbiddenException.class,
+					() -> stompConfig.preSend(message(accessor(StompCommand.SUBSCRIBE, principal, destination)), channel),
+					destination);
+		}
+		assertThrows(ForbiddenException.class,
+				() -> stompConfig.preSend(message(accessor(StompCommand.SEND, principal, "/sub/chat/room/7")), channel));
+	}
+}
@@ -0,0 +1,68 @@
+package grabit.grabit_backend.controller;
+
+import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.service.ChallengeStatService;
+import grabit.grabit_backend.service.UserService;
+import grabit.grabit_backend.utils.PagingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserControllerTest {
+
+	@Mock
+	UserService userService;
+	@Mock
+	ChallengeStatService challengeStatService;
+
+	UserController userController;
+	User user;
+
+	@BeforeEach
+	void setUp() {
+		userController = new UserController(userService, challengeStatService);
+		user = new User(1, "user1", "user", "user@grabit.com", null, null);
+	}
+
+	@Test
+	void 가입한_챌린지_목록_size_제한() {
+		//given
+		doReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false))
+				.when(userService).findUserJoinedChallenges(eq(user), anyInt(), anyInt(), any());
+
+		//when
+		userController.getJoinedChallengeList(user, 1, 0, true);
+		userController.getJoinedChallengeList(user, 1, 100000, true);
+
+		//then
+		verify(userService).findUserJoinedChallenges(user, 0, 1, true);
+		verify(userService).findUserJoinedChallenges(user, 0, PagingUtil.MAX_PAGE_SIZE, true);
+	}
+
+	@Test
+	void 가입한_챌린지_cursor_목록_size_제한() {
+		//given
+		doReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false))
+				.when(userService).findUserJoinedChallengesByCursor(eq(user), isNull(), isNull(), anyInt());
+
+		//when
+		userController.getJoinedChallengeListWithCursor(user, null, null, -1);
+		userController.getJoinedChallengeListWithCursor(user, null, null, 100000);
+
+		//then
+		verify(userService).findUserJoinedChallengesByCursor(user, null, null, 1);
+		verify(userService).findUserJoinedChallengesByCursor(user, null, null, PagingUtil.MAX_PAGE_SIZE);
+	}
+}
@@ -0,0 +1,103 @@
+package grabit.grabit_backend.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChallengeStatTest {
+
+	private static final LocalDate DAY = LocalDate.of(2022, 3, 1);
+
+	@Test
+	void 연속_인증은_streak_증가() {
+		//given
+		ChallengeStat stat = new ChallengeStat();
+
+		//when
+		stat.record(DAY);
+		stat.record(DAY.plusDays(1));
+		stat.record(DAY.plusDays(2));
+
+		//then
+		assertEquals(3, stat.getCurrentStreak());
+		assertEquals(3, stat.getLongestStreak());
+		assertEquals(3, stat.getPassCount());
+	}
+
+	@Test
+	void 하루라도_빠지면_streak_초기화() {
+		//given
+		ChallengeStat stat = new ChallengeStat();
+		stat.record(DAY);
+		stat.record(DAY.plusDays(1));
+
+		//when
+		stat.record(DAY.plusDays(3));
+
+		//then
+		assertEquals(1, stat.getCurrentStreak());
+		assertEquals(2, stat.getLongestStreak());
+		assertEquals(DAY.plusDays(3), stat.getLastPassDate());
+	}
+
+	@Test
+	void 늦게_승인된_과거_인증이_빈_날을_채우면_streak_연결() {
+		//given
+		ChallengeStat stat = new ChallengeStat();
+		stat.record(DAY);
+		stat.record(DAY.plusDays(1));
+		stat.record(DAY.plusDays(3));
+		stat.record(DAY.plusDays(4));
+
+		//when
+		stat.record(DAY.plusDays(2));
+
+		//then
+		assertEquals(5, stat.getCurrentStreak());
+		assertEquals(5, stat.getLongestStreak());
+		assertEquals(DAY.plusDays(4), stat.getLastPassDate());
+	}
+
+	@Test
+	void 같은_날_중복_인증은_무시() {
+		//given
+		ChallengeStat stat = new ChallengeStat();
+		stat.record(DAY);
+
+		//when
+		boolean recorded = stat.record(DAY);
+
+		//then
+		assertFalse(recorded);
+		assertEquals(1, stat.getPassCount());
+	}
+
+	@Test
+	void 과거_구간을_채우면_longest만_갱신() {
+		//given
+		ChallengeStat stat = new ChallengeStat();
+		stat.record(DAY);
+		stat.record(DAY.plusDays(2));
+		stat.record(DAY.plusDays(10));
+
+		//when
+		stat.record(DAY.plusDays(1));
+
+		//then
+		assertEquals(1, stat.getCurrentStreak());
+		assertEquals(3, stat.getLongestStreak());
+		assertEquals(DAY, stat.getFirstPassDate());
+	}
+
+	@Test
+	void 달력_bitmap은_날짜_bit만_켬() {
+		//when
+		byte[] mask = PassCalendar.mask(10);
+
+		//then
+		assertEquals(PassCalendar.SIZE, mask.length);
+		assertEquals(1 << 1, mask[1]);
+	}
+}
@@ -0,0 +1,97 @@
+package grabit.grabit_backend.dto;
+
+import grabit.grabit_backend.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChallengeCursorTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2022, 3, 1, 12, 30, 15, 123456000);
+
+	@Test
+	void encode_한_cursor_는_같은_값으로_decode() {
+		//given
+		ChallengeCursor cursor = new ChallengeCursor(NOW, 42L);
+
+		//when
+		ChallengeCursor decoded = ChallengeCursor.decode(cursor.encode());
+
+		//then
+		assertEquals(NOW, decoded.getCreatedAt());
+		assertEquals(42L, decoded.getId());
+	}
+
+	@Test
+	void 빈_cursor_는_null() {
+		assertNull(ChallengeCursor.decode(null));
+		assertNull(ChallengeCursor.decode(""));
+	}
+
+	@Test
+	void 잘못된_cursor_는_BadRequest() {
+		assertThrows(BadRequestException.class, () -> ChallengeCursor.decode("not-a-cursor"));
+		assertThrows(BadRequestException.class, () -> ChallengeCursor.decode("%%%"));
+	}
+
+	@Test
+	void 첫_페이지는_다음_cursor_만_있음() {
+		//given
+		SliceImpl<ChallengeSummaryDTO> slice = new SliceImpl<>(List.of(summary(3L, 3), summary(2L, 2)), PageRequest.of(0, 2), true);
+
+		//when
+		ResponseChallengeCursorDTO response = ResponseChallengeCursorDTO.convertDTO(slice, false, false);
+
+		//then
+		assertEquals(2L, ChallengeCursor.decode(response.getNextCursor()).getId());
+		assertNull(response.getPrevCursor());
+	}
+
+	@Test
+	void after_조회의_마지막_페이지는_이전_cursor_만_있음() {
+		//given
+		SliceImpl<ChallengeSummaryDTO> slice = new SliceImpl<>(List.of(summary(1L, 1)), PageRequest.of(0, 2), false);
+
+		//when
+		ResponseChallengeCursorDTO response = ResponseChallengeCursorDTO.convertDTO(slice, false, true);
+
+		//then
+		assertNull(response.getNextCursor());
+		assertEquals(1L, ChallengeCursor.decode(response.getPrevCursor()).getId());
+	}
+
+	@Test
+	void before_조회는_더_최신_데이터가_없으면_이전_cursor_없음() {
+		//given
+		SliceImpl<ChallengeSummaryDTO> slice = new SliceImpl<>(List.of(summary(5L, 5), summary(4L, 4)), PageRequest.of(0, 2), false);
+
+		//when
+		ResponseChallengeCursorDTO response = ResponseChallengeCursorDTO.convertDTO(slice, true, true);
+
+		//then
+		assertEquals(4L, ChallengeCursor.decode(response.getNextCursor()).getId());
+		assertNull(response.getPrevCursor());
+	}
+
+	@Test
+	void before_조회에서_더_최신_데이터가_있으면_첫_항목이_이전_cursor() {
+		//given
+		SliceImpl<ChallengeSummaryDTO> slice = new SliceImpl<>(List.of(summary(5L, 5), summary(4L, 4)), PageRequest.of(0, 2), true);
+
+		//when
+		ResponseChallengeCursorDTO response = ResponseChallengeCursorDTO.convertDTO(slice, true, true);
+
+		//then
+		assertEquals(5L, ChallengeCursor.decode(response.getPrevCursor()).getId());
+		assertEquals(4L, ChallengeCursor.decode(response.getNextCursor()).getId());
+	}
+
+	private ChallengeSummaryDTO summary(Long id, int minutes) {
+		return new ChallengeSummaryDTO(id, "challenge" + id, "desc", "leader", false, NOW.plusMinutes(minutes));
+	}
+}
@@ -0,0 +1,118 @@
+package grabit.grabit_backend.handler;
+
+import grabit.grabit_backend.enums.OutboundOverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ChatBroadcasterTest {
+
+	private WebSocketSession session(String id) {
+		WebSocketSession session = mock(WebSocketSession.class);
+		when(session.getId()).thenReturn(id);
+		when(session.isOpen()).thenReturn(true);
+		return session;
+	}
+
+	private WebSocketSession slowSession(String id, CountDownLatch release) throws Exception {
+		WebSocketSession session = session(id);
+		doAnswer(x -> release.await(5, TimeUnit.SECONDS)).when(session).sendMessage(any());
+		return session;
+	}
+
+	@Test
+	void 느린_세션이_다른_세션_전송을_막지_않음() throws Exception {
+		//given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ChatRoomRegistry registry = new ChatRoomRegistry();
+		ChatBroadcaster broadcaster = new ChatBroadcaster(registry, meterRegistry, 2, OutboundOverflowPolicy.DROP_OLDEST, 4, 100);
+		CountDownLatch release = new CountDownLatch(1);
+		WebSocketSession slow = slowSession("slow", release);
+		WebSocketSession fast = session("fast");
+		registry.join(1L, slow);
+		registry.join(1L, fast);
+
+		//when
+		broadcaster.broadcast(1L, new TextMessage("message0"));
+		verify(slow, timeout(2000)).sendMessage(any());
+		for (int i = 1; i < 5; i++) {
+			broadcaster.broadcast(1L, new TextMessage("message" + i));
+		}
+
+		//then
+		verify(fast, timeout(2000).times(5)).sendMessage(any());
+		// 첫 메시지는 전송 중, 대기열 2개를 넘은 나머지는 오래된 것부터 버림
+		assertEquals(2, broadcaster.getQueueSize(slow));
+		assertEquals(2, meterRegistry.counter("grabit.chat.outbound.dropped", "policy", "DROP_OLDEST").count());
+		release.countDown();
+		verify(slow, timeout(2000).times(3)).sendMessage(any());
+		verify(slow).sendMessage(new TextMessage("message4"));
+		broadcaster.destroy();
+	}
+
+	@Test
+	void 대기열_초과_시_연결_종료() throws Exception {
+		//given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ChatRoomRegistry registry = new ChatRoomRegistry();
+		ChatBroadcaster broadcaster = new ChatBroadcaster(registry, meterRegistry, 2, OutboundOverflowPolicy.DISCONNECT, 4, 100);
+		CountDownLatch release = new CountDownLatch(1);
+		WebSocketSession slow = slowSession("slow", release);
+		registry.join(1L, slow);
+
+		//when
+		broadcaster.broadcast(1L, new TextMessage("message0"));
+		verify(slow, timeout(2000)).sendMessage(any());
+		for (int i = 1; i < 5; i++) {
+			broadcaster.broadcast(1L, new TextMessage("message" + i));
+		}
+
+		//then
+		verify(slow, timeout(2000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+		assertEquals(1, meterRegistry.counter("grabit.chat.outbound.disconnected").count());
+		release.countDown();
+		broadcaster.destroy();
+	}
+
+	@Test
+	void 닫힌_세션은_대기열을_만들지_않고_닫히면_목록에서_제거() throws Exception {
+		//given
+		ChatRoomRegistry registry = new ChatRoomRegistry();
+		ChatBroadcaster broadcaster = new ChatBroadcaster(registry, new SimpleMeterRegistry(), 2, OutboundOverflowPolicy.DROP_OLDEST, 1, 100);
+		WebSocketSession closed = session("closed");
+		when(closed.isOpen()).thenReturn(false);
+		WebSocketSession closing = session("closing");
+		registry.join(1L, closed);
+		registry.join(1L, closing);
+
+		//when
+		broadcaster.broadcast(1L, new TextMessage("message0"));
+		verify(closing, timeout(2000)).sendMessage(any());
+		when(closing.isOpen()).thenReturn(false);
+		broadcaster.send(closing, new TextMessage("message1"));
+		broadcaster.remove(closing);
+		broadcaster.broadcast(1L, new TextMessage("message2"));
+		// 열림 확인 직후 닫힌 세션
+		WebSocketSession racing = session("racing");
+		when(racing.isOpen()).thenReturn(true, false);
+		broadcaster.send(racing, new TextMessage("message3"));
+
+		//then
+		for (int i = 0; i < 100 && broadcaster.getSessionCount() > 0; i++) {
+			Thread.sleep(20);
+		}
+		assertEquals(0, broadcaster.getSessionCount());
+		verify(racing, never()).sendMessage(any());
+		verify(closed, never()).sendMessage(any());
+		broadcaster.destroy();
+	}
+}
@@ -0,0 +1,57 @@
+package grabit.grabit_backend.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grabit.grabit_backend.domain.Chatting;
+import grabit.grabit_backend.enums.ChattingType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatFrameCodecTest {
+
+	ChatFrameCodec codec = new ChatFrameCodec(new ObjectMapper());
+
+	@Test
+	void 라우팅_필드만_읽기() throws Exception {
+		//given
+		String payload = "{\"name\":\"user\",\"content\":{\"nested\":[1,2,{\"challengeId\":9}]},\"challengeId\":3,\"chattingType\":\"MESSAGE\"}";
+
+		//when
+		ChatFrameHeader header = codec.peek(payload);
+
+		//then
+		assertEquals(ChattingType.MESSAGE, header.getChattingType());
+		assertEquals(3L, header.getChallengeId());
+	}
+
+	@Test
+	void 알_수_없는_타입은_UNKNOWN() throws Exception {
+		//given
+		String payload = "{\"chattingType\":\"LEAVE\",\"challengeId\":\"3\"}";
+
+		//when
+		ChatFrameHeader header = codec.peek(payload);
+		Chatting chatting = codec.read(payload);
+
+		//then
+		assertEquals(ChattingType.UNKNOWN, header.getChattingType());
+		assertEquals(3L, header.getChallengeId());
+		assertEquals(ChattingType.UNKNOWN, chatting.getChattingType());
+	}
+
+	@Test
+	void JSON_객체가_아니면_예외() {
+		assertThrows(IOException.class, () -> codec.peek("[\"MESSAGE\"]"));
+		assertThrows(IOException.class, () -> codec.peek("{\"chattingType\":"));
+	}
+
+	@Test
+	void 라우팅_필드_뒤의_잘못된_JSON_은_예외() {
+		assertThrows(IOException.class, () -> codec.peek("{\"chattingType\":\"MESSAGE\",\"challengeId\":3,\"content\":}"));
+		assertThrows(IOException.class, () -> codec.peek("{\"chattingType\":\"MESSAGE\",\"challengeId\":3,\"content\":\"hi\""));
+		assertThrows(IOException.class, () -> codec.peek("{\"chattingType\":\"MESSAGE\",\"challengeId\":3}garbage"));
+		assertThrows(IOException.class, () -> codec.peek("{\"chattingType\":\"MESSAGE\",\"challengeId\":3}{}"));
+	}
+}
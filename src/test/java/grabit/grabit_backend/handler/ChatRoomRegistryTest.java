@@ -0,0 +1,133 @@
+package grabit.grabit_backend.handler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ChatRoomRegistryTest {
+
+	private static final int THREADS = 16;
+	private static final int SESSIONS_PER_THREAD = 200;
+	private static final int ROOMS = 20;
+
+	private WebSocketSession session(String id, AtomicBoolean open) {
+		WebSocketSession session = mock(WebSocketSession.class);
+		when(session.getId()).thenReturn(id);
+		when(session.isOpen()).thenAnswer(x -> open.get());
+		return session;
+	}
+
+	@Test
+	void 입장_퇴장_종료_동시_실행() throws Exception {
+		//given
+		ChatRoomRegistry registry = new ChatRoomRegistry();
+		List<List<WebSocketSession>> sessionsByThread = new ArrayList<>();
+		List<Map<WebSocketSession, AtomicBoolean>> openByThread = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			List<WebSocketSession> sessions = new ArrayList<>();
+			Map<WebSocketSession, AtomicBoolean> open = new HashMap<>();
+			for (int i = 0; i < SESSIONS_PER_THREAD; i++) {
+				AtomicBoolean isOpen = new AtomicBoolean(true);
+				WebSocketSession session = session(t + "-" + i, isOpen);
+				sessions.add(session);
+				open.put(session, isOpen);
+			}
+			sessionsByThread.add(sessions);
+			openByThread.add(open);
+		}
+
+		//when
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Map<Long, Set<WebSocketSession>>>> futures = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			List<WebSocketSession> sessions = sessionsByThread.get(t);
+			Map<WebSocketSession, AtomicBoolean> open = openByThread.get(t);
+			Random random = new Random(t);
+			futures.add(executor.submit(() -> {
+				start.await();
+				Map<Long, Set<WebSocketSession>> expected = new HashMap<>();
+				for (WebSocketSession session : sessions) {
+					for (int j = 0; j < 6; j++) {
+						long roomId = random.nextInt(ROOMS);
+						registry.join(roomId, session);
+						// 같은 방 중복 입장
+						registry.join(roomId, session);
+						expected.computeIfAbsent(roomId, x -> new HashSet<>()).add(session);
+					}
+					int action = random.nextInt(3);
+					if (action == 0) {
+						// 연결 종료: isOpen 이 먼저 false 가 된 뒤 afterConnectionClosed 호출
+						open.get(session).set(false);
+						registry.leaveAll(session);
+						expected.values().forEach(x -> x.remove(session));
+					} else if (action == 1) {
+						Long roomId = registry.getRooms(session).iterator().next();
+						registry.leave(roomId, session);
+						expected.get(roomId).remove(session);
+					}
+				}
+				return expected;
+			}));
+		}
+		start.countDown();
+		Map<Long, Set<WebSocketSession>> expected = new HashMap<>();
+		for (Future<Map<Long, Set<WebSocketSession>>> future : futures) {
+			future.get(30, TimeUnit.SECONDS).forEach((roomId, sessions) ->
+					expected.computeIfAbsent(roomId, x -> new HashSet<>()).addAll(sessions));
+		}
+		executor.shutdown();
+
+		//then
+		for (long roomId = 0; roomId < ROOMS; roomId++) {
+			Collection<WebSocketSession> actual = registry.getSessions(roomId);
+			Set<WebSocketSession> expectedSessions = expected.getOrDefault(roomId, new HashSet<>());
+			assertEquals(expectedSessions.size(), actual.size(), "room " + roomId);
+			assertEquals(expectedSessions, new HashSet<>(actual), "room " + roomId);
+			assertEquals(expectedSessions.size(), registry.countSessions(roomId));
+			for (WebSocketSession session : actual) {
+				assertTrue(registry.getRooms(session).contains(roomId));
+			}
+		}
+		for (int t = 0; t < THREADS; t++) {
+			for (Map.Entry<WebSocketSession, AtomicBoolean> entry : openByThread.get(t).entrySet()) {
+				if (!entry.getValue().get()) {
+					assertTrue(registry.getRooms(entry.getKey()).isEmpty());
+				}
+			}
+		}
+	}
+
+	@Test
+	void 입장_중_연결_종료() {
+		//given
+		ChatRoomRegistry registry = new ChatRoomRegistry();
+		AtomicBoolean open = new AtomicBoolean(false);
+		WebSocketSession session = session("closed", open);
+
+		//when
+		registry.leaveAll(session);
+		registry.join(1L, session);
+
+		//then
+		assertEquals(0, registry.countSessions(1L));
+		assertTrue(registry.getRooms(session).isEmpty());
+	}
+}
@@ -0,0 +1,112 @@
+package grabit.grabit_backend.ratelimit;
+
+import grabit.grabit_backend.enums.ChatRateLimitResult;
+import grabit.grabit_backend.enums.RateLimitMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Testcontainers
+class ChatRateLimiterTest {
+
+	@Container
+	static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:6-alpine")).withExposedPorts(6379);
+
+	private ChatRateLimiter limiter(RedisTemplate<String, String> redisTemplate, RateLimitMode mode, SimpleMeterRegistry meterRegistry) {
+		return new ChatRateLimiter(redisTemplate, meterRegistry, mode, 3, 0.001, 5, 0.001);
+	}
+
+	@Test
+	void 동시에_요청해도_capacity_만큼만_허용() throws Exception {
+		//given
+		TokenBucket bucket = new TokenBucket(1000, 0, System.nanoTime());
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+
+		//when
+		for (int t = 0; t < 16; t++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				int acquired = 0;
+				for (int i = 0; i < 200; i++) {
+					if (bucket.tryAcquire(System.nanoTime())) {
+						acquired++;
+					}
+				}
+				return acquired;
+			}));
+		}
+		start.countDown();
+		int total = 0;
+		for (Future<Integer> result : results) {
+			total += result.get(10, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		//then
+		assertEquals(1000, total);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void 유저_제한과_채팅방_제한() {
+		//given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ChatRateLimiter limiter = limiter(mock(RedisTemplate.class), RateLimitMode.LOCAL, meterRegistry);
+
+		//when
+		for (int i = 0; i < 3; i++) {
+			assertEquals(ChatRateLimitResult.ALLOWED, limiter.tryAcquire("alice", 1L));
+		}
+		ChatRateLimitResult userLimited = limiter.tryAcquire("alice", 1L);
+		limiter.tryAcquire("bob", 1L);
+		limiter.tryAcquire("bob", 1L);
+		ChatRateLimitResult roomLimited = limiter.tryAcquire("carol", 1L);
+
+		//then
+		assertEquals(ChatRateLimitResult.USER_LIMITED, userLimited);
+		assertEquals(ChatRateLimitResult.ROOM_LIMITED, roomLimited);
+		assertEquals(ChatRateLimitResult.ALLOWED, limiter.tryAcquire("carol", 2L));
+		assertEquals(1.0, meterRegistry.get("grabit.chat.throttled").tag("scope", "user").counter().count());
+		assertEquals(1.0, meterRegistry.get("grabit.chat.throttled").tag("scope", "room").counter().count());
+	}
+
+	@Test
+	void REDIS_모드는_노드간_bucket_공유() {
+		//given
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+		ChatRateLimiter nodeA = limiter(redisTemplate, RateLimitMode.REDIS, new SimpleMeterRegistry());
+		ChatRateLimiter nodeB = limiter(redisTemplate, RateLimitMode.REDIS, new SimpleMeterRegistry());
+
+		//when
+		nodeA.tryAcquire("alice", 3L);
+		nodeB.tryAcquire("alice", 3L);
+		nodeA.tryAcquire("alice", 3L);
+		ChatRateLimitResult result = nodeB.tryAcquire("alice", 3L);
+
+		//then
+		assertEquals(ChatRateLimitResult.USER_LIMITED, result);
+		assertEquals(ChatRateLimitResult.ALLOWED, nodeA.tryAcquire("bob", 3L));
+		connectionFactory.destroy();
+	}
+}
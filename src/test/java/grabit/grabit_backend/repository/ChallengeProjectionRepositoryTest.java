@@ -0,0 +1,73 @@
+package grabit.grabit_backend.repository;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import grabit.grabit_backend.MySqlContainerTest;
+import grabit.grabit_backend.config.querydsl.QueryDslConfig;
+import grabit.grabit_backend.domain.Challenge;
+import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.domain.UserChallenge;
+import grabit.grabit_backend.dto.ChallengeSummaryDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static grabit.grabit_backend.domain.QChallenge.challenge;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({QueryDslConfig.class, ChallengeProjectionRepository.class})
+class ChallengeProjectionRepositoryTest extends MySqlContainerTest {
+
+	@Autowired
+	EntityManager entityManager;
+	@Autowired
+	ChallengeProjectionRepository challengeProjectionRepository;
+
+	@Test
+	void 챌린지_목록_50개_쿼리_2번() {
+		//given
+		User leader = new User(1, "leader", "leader", "leader@grabit.com", null, null);
+		entityManager.persist(leader);
+		for (int i = 0; i < 3; i++) {
+			entityManager.persist(new User(100 + i, "member" + i, "member" + i, "member" + i + "@grabit.com", null, null));
+		}
+		for (int i = 0; i < 50; i++) {
+			Challenge c = Challenge.builder()
+					.name("챌린지 " + i)
+					.description("챌린지 설명 " + i)
+					.isPrivate(false)
+					.leader(leader)
+					.build();
+			entityManager.persist(c);
+			entityManager.persist(UserChallenge.createUserChallenge(c, leader));
+			for (int j = 0; j < 3; j++) {
+				entityManager.persist(UserChallenge.createUserChallenge(c, entityManager.find(User.class, 100 + j)));
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		//when
+		List<ChallengeSummaryDTO> summaries = challengeProjectionRepository.findSummaries(
+				new Predicate[]{}, new OrderSpecifier<?>[]{challenge.createdAt.desc(), challenge.id.desc()}, 0L, 50);
+
+		//then
+		assertEquals(50, summaries.size());
+		summaries.forEach(x -> {
+			assertEquals("leader", x.getLeader());
+			assertEquals(4, x.getMember().size());
+		});
+		assertEquals(2, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+	}
+}
@@ -0,0 +1,86 @@
+package grabit.grabit_backend.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import grabit.grabit_backend.domain.ChatMessage;
+import grabit.grabit_backend.dto.ChatCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+class ChatMessageRepositoryTest {
+
+	@Container
+	static GenericContainer<?> mongo = new GenericContainer<>(DockerImageName.parse("mongo:4.4")).withExposedPorts(27017);
+
+	MongoClient mongoClient;
+	MongoTemplate mongoTemplate;
+	ChatMessageRepository chatMessageRepository;
+
+	@BeforeEach
+	void setUp() {
+		mongoClient = MongoClients.create("mongodb://" + mongo.getHost() + ":" + mongo.getMappedPort(27017));
+		mongoTemplate = new MongoTemplate(mongoClient, "grabit");
+		mongoTemplate.dropCollection(ChatMessage.class);
+		chatMessageRepository = new ChatMessageRepository(mongoTemplate);
+		chatMessageRepository.ensureIndexes();
+	}
+
+	@AfterEach
+	void tearDown() {
+		mongoClient.close();
+	}
+
+	@Test
+	void 같은_timestamp_는_id_로_이어서_조회() {
+		//given
+		chatMessageRepository.insertAll(List.of(
+				message(1, 1L, 100), message(2, 1L, 100), message(3, 1L, 100),
+				message(4, 1L, 200), message(5, 1L, 50), message(6, 2L, 300)));
+
+		//when
+		List<ChatMessage> first = chatMessageRepository.findByChallengeIdBefore(1L, null, 3);
+		ChatMessage last = first.get(first.size() - 1);
+		List<ChatMessage> second = chatMessageRepository.findByChallengeIdBefore(1L, new ChatCursor(last.getTimestamp(), last.getId()), 3);
+
+		//then
+		assertEquals(List.of(id(4), id(3), id(2)), ids(first));
+		assertEquals(List.of(id(1), id(5)), ids(second));
+	}
+
+	@Test
+	void 다른_방의_메시지는_조회하지_않음() {
+		//given
+		chatMessageRepository.insertAll(List.of(message(1, 1L, 100), message(2, 2L, 200)));
+
+		//when
+		List<ChatMessage> messages = chatMessageRepository.findByChallengeIdBefore(2L, new ChatCursor(300, id(9)), 10);
+
+		//then
+		assertEquals(List.of(id(2)), ids(messages));
+	}
+
+	private ChatMessage message(int sequence, Long challengeId, long timestamp) {
+		return new ChatMessage(id(sequence), challengeId, "user", "메시지" + sequence, timestamp);
+	}
+
+	// ObjectId 형식의 id 로 저장되어 _id 비교가 id 문자열 순서와 같은지도 함께 확인
+	private String id(int sequence) {
+		return String.format("%024x", sequence);
+	}
+
+	private List<String> ids(List<ChatMessage> messages) {
+		return messages.stream().map(ChatMessage::getId).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,80 @@
+package grabit.grabit_backend.repository;
+
+import grabit.grabit_backend.MySqlContainerTest;
+import grabit.grabit_backend.cache.PendingVoteCache;
+import grabit.grabit_backend.domain.Challenge;
+import grabit.grabit_backend.domain.PassApproval;
+import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.domain.UserChallenge;
+import grabit.grabit_backend.dto.CreatePassApprovalDTO;
+import grabit.grabit_backend.service.PassApprovalService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PassApprovalService.class, PassApprovalResultBulkRepository.class, PendingVoteCache.class})
+class PassApprovalResultBulkRepositoryTest extends MySqlContainerTest {
+
+	@Autowired
+	EntityManager entityManager;
+	@Autowired
+	PassApprovalService passApprovalService;
+	@Autowired
+	PassApprovalResultRepository passApprovalResultRepository;
+
+	private Challenge challengeWithMembers(int firstUserId, int members) {
+		User leader = new User(firstUserId, "leader" + firstUserId, "leader", "leader@grabit.com", null, null);
+		entityManager.persist(leader);
+		Challenge challenge = Challenge.builder().name("챌린지").description("설명").isPrivate(false).leader(leader).build();
+		entityManager.persist(challenge);
+		entityManager.persist(UserChallenge.createUserChallenge(challenge, leader));
+		for (int i = 1; i < members; i++) {
+			User member = new User(firstUserId + i, "member" + (firstUserId + i), "member", "member@grabit.com", null, null);
+			entityManager.persist(member);
+			entityManager.persist(UserChallenge.createUserChallenge(challenge, member));
+		}
+		entityManager.flush();
+		entityManager.clear();
+		return challenge;
+	}
+
+	@Test
+	void 멤버_수와_관계없이_statement_수_일정() {
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		int firstUserId = 1;
+		// 멤버 수가 늘어도 실행되는 statement 수가 같은지 확인 (저장 시간은 PassApprovalResultInsertBenchmark 에서 측정)
+		for (int members : new int[]{10, 50, 200, 1000}) {
+			//given
+			Challenge challenge = challengeWithMembers(firstUserId, members);
+			User writer = entityManager.find(User.class, firstUserId);
+			firstUserId += members;
+			CreatePassApprovalDTO dto = CreatePassApprovalDTO.builder()
+					.challengeId(challenge.getId())
+					.targetDate(LocalDate.now())
+					.content("인증")
+					.build();
+			statistics.clear();
+
+			//when
+			PassApproval passApproval = passApprovalService.createPassApproval(dto, writer);
+			entityManager.flush();
+
+			//then
+			assertEquals(members, passApproval.getTotalCount());
+			assertEquals(3, statistics.getPrepareStatementCount());
+			entityManager.clear();
+			assertEquals(members, passApprovalResultRepository.findAll().stream()
+					.filter(result -> result.getPassApproval().getId().equals(passApproval.getId()))
+					.count());
+		}
+	}
+}
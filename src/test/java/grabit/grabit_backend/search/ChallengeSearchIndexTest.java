@@ -0,0 +1,113 @@
+package grabit.grabit_backend.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import grabit.grabit_backend.domain.Challenge;
+import grabit.grabit_backend.enums.ChallengeSearchField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static grabit.grabit_backend.domain.QChallenge.challenge;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ChallengeSearchIndexTest {
+
+	private static final Set<ChallengeSearchField> ALL_FIELDS = EnumSet.allOf(ChallengeSearchField.class);
+	private static final Set<ChallengeSearchField> NAME = EnumSet.of(ChallengeSearchField.NAME);
+
+	JPAQueryFactory jpaQueryFactory;
+	ChallengeSearchIndex searchIndex;
+
+	@BeforeEach
+	void setUp() {
+		jpaQueryFactory = mock(JPAQueryFactory.class, RETURNS_DEEP_STUBS);
+		searchIndex = new ChallengeSearchIndex(jpaQueryFactory);
+	}
+
+	@Test
+	void n_gram_으로_부분_검색() {
+		//given
+		searchIndex.index(challenge(1L, "알고리즘 스터디", "매일 한 문제"));
+		searchIndex.index(challenge(2L, "Spring Study", "백엔드"));
+		searchIndex.index(challenge(3L, "스터 터디", ""));
+
+		//then
+		assertEquals(List.of(1L), searchIndex.search("고리즘", ALL_FIELDS));
+		assertEquals(List.of(1L), searchIndex.search("알", ALL_FIELDS));
+		assertEquals(List.of(2L), searchIndex.search("  SPRING   study ", ALL_FIELDS));
+		assertEquals(List.of(1L), searchIndex.search("한 문제", ALL_FIELDS));
+		assertTrue(searchIndex.search("한 문제", NAME).isEmpty());
+		// 3번은 "스터", "터디" 2-gram 을 모두 갖지만 "스터디" 를 포함하지 않으므로 제외
+		assertEquals(List.of(1L), searchIndex.search("스터디", ALL_FIELDS));
+	}
+
+	@Test
+	void 이름_일치와_앞부분_일치를_우선() {
+		//given
+		searchIndex.index(challenge(1L, "매일 운동", "인증"));
+		searchIndex.index(challenge(2L, "독서", "오늘 운동 후 독서"));
+		searchIndex.index(challenge(3L, "운동 챌린지", "함께"));
+
+		//when
+		List<Long> result = searchIndex.search("운동", ALL_FIELDS);
+
+		//then
+		assertEquals(List.of(3L, 1L, 2L), result);
+	}
+
+	@Test
+	void 수정과_삭제를_색인에_반영() {
+		//given
+		searchIndex.index(challenge(1L, "알고리즘", ""));
+		searchIndex.index(challenge(2L, "알고리즘 심화", ""));
+
+		//when
+		searchIndex.index(challenge(1L, "독서", ""));
+		searchIndex.remove(2L);
+
+		//then
+		assertTrue(searchIndex.search("알고리즘", ALL_FIELDS).isEmpty());
+		assertEquals(List.of(1L), searchIndex.search("독서", ALL_FIELDS));
+	}
+
+	@Test
+	void 재색인_중의_변경은_새_색인에_유지() {
+		//given
+		Tuple stale = row(1L, "알고리즘");
+		Tuple other = row(2L, "독서");
+		when(jpaQueryFactory.select(any(Expression[].class)).from(any(EntityPath.class)).fetch()).thenAnswer(invocation -> {
+			// 조회 결과를 만든 뒤에 들어온 삭제와 생성
+			searchIndex.remove(1L);
+			searchIndex.index(challenge(3L, "알고리즘 심화", ""));
+			return List.of(stale, other);
+		});
+
+		//when
+		searchIndex.rebuild();
+
+		//then
+		assertTrue(searchIndex.isReady());
+		assertEquals(List.of(3L), searchIndex.search("알고리즘", ALL_FIELDS));
+		assertEquals(List.of(2L), searchIndex.search("독서", ALL_FIELDS));
+	}
+
+	private Challenge challenge(Long id, String name, String description) {
+		return Challenge.builder().id(id).name(name).description(description).build();
+	}
+
+	private Tuple row(Long id, String name) {
+		Tuple row = mock(Tuple.class);
+		doReturn(id).when(row).get(challenge.id);
+		doReturn(name).when(row).get(challenge.name);
+		doReturn("").when(row).get(challenge.description);
+		return row;
+	}
+}
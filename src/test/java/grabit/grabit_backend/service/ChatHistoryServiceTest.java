@@ -0,0 +1,139 @@
+package grabit.grabit_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grabit.grabit_backend.domain.ChatMessage;
+import grabit.grabit_backend.dto.ChatCursor;
+import grabit.grabit_backend.dto.ChatMessageDTO;
+import grabit.grabit_backend.dto.ResponseChatMessageListDTO;
+import grabit.grabit_backend.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChatHistoryServiceTest {
+
+	ObjectMapper objectMapper = new ObjectMapper();
+	ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+
+	private ChatHistoryService service(int bufferSize, int ringSize) {
+		return new ChatHistoryService(chatMessageRepository, objectMapper, new SimpleMeterRegistry(), bufferSize, 2, ringSize);
+	}
+
+	private ChatMessageDTO message(long timestamp) {
+		ChatMessageDTO message = new ChatMessageDTO();
+		message.setId(String.format("%024d", timestamp));
+		message.setChallengeId(1L);
+		message.setMessage("메시지" + timestamp);
+		message.setTimestamp(timestamp);
+		return message;
+	}
+
+	private void remember(ChatHistoryService service, ChatMessageDTO message) throws Exception {
+		service.remember(1L, objectMapper.writeValueAsString(message).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private List<Long> timestamps(ResponseChatMessageListDTO response) {
+		return response.getContent().stream().map(ChatMessageDTO::getTimestamp).collect(Collectors.toList());
+	}
+
+	@Test
+	void 첫_페이지는_링_버퍼에서_DB_조회_없이_응답() throws Exception {
+		//given
+		ChatHistoryService service = service(10, 5);
+		for (long timestamp : new long[]{1, 2, 4, 3, 5, 6}) {
+			remember(service, message(timestamp));
+		}
+
+		//when
+		ResponseChatMessageListDTO response = service.findMessages(1L, null, 3);
+
+		//then
+		assertEquals(List.of(6L, 5L, 4L), timestamps(response));
+		assertEquals(4L, ChatCursor.decode(response.getNextCursor()).getTimestamp());
+		verifyNoInteractions(chatMessageRepository);
+	}
+
+	@Test
+	void 링_버퍼에_빠진_메시지는_DB에서_채움() throws Exception {
+		//given
+		ChatHistoryService service = service(10, 5);
+		// 중계 장애 동안의 메시지 3, 4 는 이 노드의 링 버퍼에 없다.
+		remember(service, message(1));
+		remember(service, message(2));
+		service.markIncomplete(1L);
+		remember(service, message(5));
+		remember(service, message(6));
+		when(chatMessageRepository.findByChallengeIdBefore(eq(1L), any(), anyInt()))
+				.thenReturn(List.of(ChatMessage.of(message(5)), ChatMessage.of(message(4)), ChatMessage.of(message(3)), ChatMessage.of(message(2))));
+
+		//when
+		ResponseChatMessageListDTO response = service.findMessages(1L, null, 3);
+
+		//then
+		assertEquals(List.of(6L, 5L, 4L), timestamps(response));
+		assertEquals(4L, ChatCursor.decode(response.getNextCursor()).getTimestamp());
+	}
+
+	@Test
+	void 재연결_이후_메시지로_다시_채워지면_링_버퍼에서_응답() throws Exception {
+		//given
+		ChatHistoryService service = service(10, 5);
+		long now = System.currentTimeMillis();
+		remember(service, message(now - 2));
+		remember(service, message(now - 1));
+		service.markAllIncomplete();
+		service.findMessages(1L, null, 2);
+		verify(chatMessageRepository).findByChallengeIdBefore(1L, null, 3);
+
+		//when
+		for (long timestamp = now + 1000; timestamp < now + 1003; timestamp++) {
+			remember(service, message(timestamp));
+		}
+		ResponseChatMessageListDTO response = service.findMessages(1L, null, 2);
+
+		//then
+		assertEquals(List.of(now + 1002, now + 1001), timestamps(response));
+		verifyNoMoreInteractions(chatMessageRepository);
+	}
+
+	@Test
+	void 링_버퍼가_부족하면_DB와_합쳐서_조회() throws Exception {
+		//given
+		ChatHistoryService service = service(10, 3);
+		for (long timestamp = 1; timestamp <= 5; timestamp++) {
+			remember(service, message(timestamp));
+		}
+		when(chatMessageRepository.findByChallengeIdBefore(eq(1L), any(), anyInt()))
+				.thenReturn(List.of(ChatMessage.of(message(4)), ChatMessage.of(message(2)), ChatMessage.of(message(1))));
+		ChatCursor before = ChatCursor.decode(service.findMessages(1L, null, 1).getNextCursor());
+
+		//when
+		ResponseChatMessageListDTO response = service.findMessages(1L, before, 4);
+
+		//then
+		assertEquals(List.of(4L, 3L, 2L, 1L), timestamps(response));
+		assertNull(response.getNextCursor());
+	}
+
+	@Test
+	void 버퍼가_가득_차면_버리고_batch_단위로_저장() {
+		//given
+		ChatHistoryService service = service(3, 5);
+		for (long timestamp = 1; timestamp <= 4; timestamp++) {
+			service.record(message(timestamp));
+		}
+
+		//when
+		service.flush();
+
+		//then
+		verify(chatMessageRepository, times(2)).insertAll(anyCollection());
+	}
+}
@@ -0,0 +1,142 @@
+package grabit.grabit_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grabit.grabit_backend.dto.ChatMessageDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.util.MimeTypeUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Testcontainers
+class ChatRelayServiceTest {
+
+	@Container
+	static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:6-alpine")).withExposedPorts(6379);
+
+	LettuceConnectionFactory connectionFactory;
+	List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		for (RedisMessageListenerContainer container : containers) {
+			container.destroy();
+		}
+		connectionFactory.destroy();
+	}
+
+	private ChatRelayService node(SimpMessagingTemplate template) throws Exception {
+		ChatRelayService chatRelayService = new ChatRelayService(new StringRedisTemplate(connectionFactory), template, mock(ChatHistoryService.class), new ObjectMapper(), 4);
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(chatRelayService, chatRelayService.getTopics());
+		container.afterPropertiesSet();
+		container.start();
+		containers.add(container);
+		return chatRelayService;
+	}
+
+	/**
+	 * 실제 broker channel 로 보내는 template. 전송된 메시지를 queue 에 담는다.
+	 */
+	private SimpMessagingTemplate brokerTemplate(BlockingQueue<Message<?>> sent) {
+		ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+		brokerChannel.subscribe(sent::add);
+		return new SimpMessagingTemplate(brokerChannel);
+	}
+
+	@Test
+	void 모든_노드의_구독자에게_JSON으로_전달() throws Exception {
+		//given
+		BlockingQueue<Message<?>> sentA = new LinkedBlockingQueue<>();
+		BlockingQueue<Message<?>> sentB = new LinkedBlockingQueue<>();
+		ChatRelayService nodeA = node(brokerTemplate(sentA));
+		node(brokerTemplate(sentB));
+		Thread.sleep(500);
+		ChatMessageDTO message = new ChatMessageDTO();
+		message.setMessage("안녕하세요");
+
+		//when
+		nodeA.publish(7L, message);
+
+		//then
+		for (BlockingQueue<Message<?>> sent : List.of(sentA, sentB)) {
+			Message<?> delivered = sent.poll(3, TimeUnit.SECONDS);
+			assertNotNull(delivered);
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(delivered);
+			assertEquals("/sub/chat/room/7", accessor.getDestination());
+			assertEquals(SimpMessageType.MESSAGE, accessor.getMessageType());
+			assertEquals(MimeTypeUtils.APPLICATION_JSON, accessor.getContentType());
+			assertNull(accessor.toNativeHeaderMap().get("contentType"));
+			assertEquals("{\"message\":\"안녕하세요\"}", new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	void 같은_shard_다른_방은_분리() throws Exception {
+		//given
+		BlockingQueue<Message<?>> sent = new LinkedBlockingQueue<>();
+		ChatRelayService node = node(brokerTemplate(sent));
+		Thread.sleep(500);
+		assertEquals(node.channel(1L), node.channel(5L));
+
+		//when
+		node.publishRaw(1L, "{\"message\":\"1번 방\"}");
+
+		//then
+		Message<?> delivered = sent.poll(3, TimeUnit.SECONDS);
+		assertNotNull(delivered);
+		assertEquals("/sub/chat/room/1", SimpMessageHeaderAccessor.wrap(delivered).getDestination());
+		assertNull(sent.poll(300, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	void 중계에_실패하면_로컬로_전달하고_이력을_불완전으로_표시() throws Exception {
+		//given
+		RedisTemplate<String, String> brokenRedis = mock(RedisTemplate.class);
+		doThrow(new RedisConnectionFailureException("down")).when(brokenRedis).convertAndSend(anyString(), anyString());
+		ChatHistoryService chatHistoryService = mock(ChatHistoryService.class);
+		BlockingQueue<Message<?>> sent = new LinkedBlockingQueue<>();
+		ChatRelayService node = new ChatRelayService(brokenRedis, brokerTemplate(sent), chatHistoryService, new ObjectMapper(), 4);
+
+		//when
+		node.publishRaw(3L, "{\"message\":\"로컬\"}");
+
+		//then
+		assertNotNull(sent.poll(1, TimeUnit.SECONDS));
+		verify(chatHistoryService).markIncomplete(3L);
+		verify(chatHistoryService).remember(eq(3L), any(byte[].class));
+	}
+}
@@ -0,0 +1,113 @@
+package grabit.grabit_backend.service;
+
+import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.dto.ResponseImageURLDTO;
+import grabit.grabit_backend.exception.BadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ImageVariantServiceTest {
+
+	User user = new User(1, "testId", "testName", "test@grabit.com", null, null);
+	S3Service s3Service = mock(S3Service.class);
+	Map<String, byte[]> uploaded = new ConcurrentHashMap<>();
+	ImageVariantService imageVariantService = new ImageVariantService(s3Service, List.of(64, 256, 1024), 0.8f, 40_000_000, 2, 10);
+
+	@AfterEach
+	void tearDown() {
+		imageVariantService.destroy();
+	}
+
+	private MockMultipartFile image(int width, int height, int type, String format) throws Exception {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, type), format, outputStream);
+		return new MockMultipartFile("file", "image." + format, "image/" + format, outputStream.toByteArray());
+	}
+
+	private void mockS3() throws Exception {
+		when(s3Service.newFileName(user)).thenReturn("testId_base");
+		when(s3Service.upload(eq("testId_base"), any(MockMultipartFile.class))).thenReturn("https://cdn/testId_base.png");
+		when(s3Service.upload(anyString(), any(byte[].class), anyString())).thenAnswer(invocation -> {
+			uploaded.put(invocation.getArgument(0), invocation.getArgument(1));
+			return "https://cdn/" + invocation.getArgument(0);
+		});
+	}
+
+	@Test
+	void 원본보다_작은_크기별로_축소본_생성() throws Exception {
+		//given
+		mockS3();
+		MockMultipartFile file = image(800, 400, BufferedImage.TYPE_INT_RGB, "png");
+
+		//when
+		ResponseImageURLDTO response = imageVariantService.upload(user, file).get(10, TimeUnit.SECONDS);
+
+		//then
+		assertEquals("https://cdn/testId_base.png", response.getUrl());
+		assertEquals(Map.of(64, "https://cdn/testId_base_w64.jpg", 256, "https://cdn/testId_base_w256.jpg"), response.getVariants());
+		BufferedImage variant = ImageIO.read(new ByteArrayInputStream(uploaded.get("testId_base_w256.jpg")));
+		assertEquals(256, variant.getWidth());
+		assertEquals(128, variant.getHeight());
+	}
+
+	@Test
+	void 투명도가_있으면_png로_저장() throws Exception {
+		//given
+		mockS3();
+		MockMultipartFile file = image(100, 100, BufferedImage.TYPE_INT_ARGB, "png");
+
+		//when
+		ResponseImageURLDTO response = imageVariantService.upload(user, file).get(10, TimeUnit.SECONDS);
+
+		//then
+		assertEquals(Map.of(64, "https://cdn/testId_base_w64.png"), response.getVariants());
+	}
+
+	@Test
+	void 해상도가_너무_크면_아무것도_업로드하지_않음() throws Exception {
+		//given
+		mockS3();
+		ImageVariantService limited = new ImageVariantService(s3Service, List.of(64), 0.8f, 100, 1, 10);
+		MockMultipartFile file = image(20, 20, BufferedImage.TYPE_INT_RGB, "png");
+
+		//when
+		ExecutionException exception = assertThrows(ExecutionException.class,
+				() -> limited.upload(user, file).get(10, TimeUnit.SECONDS));
+
+		//then
+		assertTrue(exception.getCause() instanceof BadRequestException);
+		verify(s3Service, never()).upload(anyString(), any(MockMultipartFile.class));
+		verify(s3Service, never()).upload(anyString(), any(byte[].class), anyString());
+		limited.destroy();
+	}
+
+	@Test
+	void 실패한_축소본은_응답에서_제외() throws Exception {
+		//given
+		mockS3();
+		when(s3Service.upload(eq("testId_base_w64.jpg"), any(byte[].class), anyString())).thenThrow(new RuntimeException("S3 error"));
+		MockMultipartFile file = image(800, 400, BufferedImage.TYPE_INT_RGB, "png");
+
+		//when
+		ResponseImageURLDTO response = imageVariantService.upload(user, file).get(10, TimeUnit.SECONDS);
+
+		//then
+		assertEquals("https://cdn/testId_base.png", response.getUrl());
+		assertEquals(Map.of(256, "https://cdn/testId_base_w256.jpg"), response.getVariants());
+	}
+}
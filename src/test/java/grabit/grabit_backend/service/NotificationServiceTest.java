@@ -0,0 +1,88 @@
+package grabit.grabit_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grabit.grabit_backend.dto.ResponseNotificationDTO;
+import grabit.grabit_backend.event.PassApprovalCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationServiceTest {
+
+	RedisTemplate<String, String> redisTemplate;
+	SimpMessagingTemplate template;
+	NotificationService notificationService;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		template = mock(SimpMessagingTemplate.class);
+		notificationService = new NotificationService(redisTemplate, template, new ObjectMapper().findAndRegisterModules(), 100);
+	}
+
+	private PassApprovalCreatedEvent event(Long passApprovalId, Integer writerId) {
+		return new PassApprovalCreatedEvent(passApprovalId, 7L, writerId, LocalDate.of(2022, 1, 1), List.of(1, 2, 3));
+	}
+
+	@Test
+	void 주기_안의_알림은_유저별로_한번에_전송() {
+		//given
+		notificationService.onPassApprovalCreated(event(10L, 1));
+		notificationService.onPassApprovalCreated(event(11L, 3));
+
+		//when
+		notificationService.flush();
+
+		//then
+		ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate, times(1)).convertAndSend(eq(NotificationService.CHANNEL), json.capture());
+
+		notificationService.onMessage(new DefaultMessage(NotificationService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+				json.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+		ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+		verify(template).convertAndSend(eq("/sub/users/2/notifications"), payload.capture());
+		List<?> notifications = (List<?>) payload.getValue();
+		assertEquals(2, notifications.size());
+		assertEquals(11L, ((ResponseNotificationDTO) notifications.get(1)).getPassApprovalId());
+
+		verify(template).convertAndSend(eq("/sub/users/1/notifications"), any(Object.class));
+		verify(template).convertAndSend(eq("/sub/users/3/notifications"), any(Object.class));
+		verifyNoMoreInteractions(template);
+	}
+
+	@Test
+	void 보낼_알림이_없으면_전송하지_않음() {
+		//when
+		notificationService.flush();
+
+		//then
+		verifyNoInteractions(redisTemplate);
+	}
+
+	@Test
+	void Redis_중계_실패시_로컬_구독자에게_전송() {
+		//given
+		doThrow(new RuntimeException("connection refused")).when(redisTemplate).convertAndSend(anyString(), anyString());
+		notificationService.onPassApprovalCreated(event(10L, 1));
+
+		//when
+		notificationService.flush();
+
+		//then
+		verify(template).convertAndSend(eq("/sub/users/2/notifications"), any(Object.class));
+		verify(template).convertAndSend(eq("/sub/users/3/notifications"), any(Object.class));
+	}
+}
@@ -0,0 +1,192 @@
+package grabit.grabit_backend.service;
+
+import grabit.grabit_backend.MySqlContainerTest;
+import grabit.grabit_backend.cache.PendingVoteCache;
+import grabit.grabit_backend.config.querydsl.QueryDslConfig;
+import grabit.grabit_backend.domain.Challenge;
+import grabit.grabit_backend.domain.ChallengeStat;
+import grabit.grabit_backend.domain.PassApproval;
+import grabit.grabit_backend.domain.PassApprovalResult;
+import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.dto.ResponsePendingVoteListDTO;
+import grabit.grabit_backend.enums.PassApprovalResultStatus;
+import grabit.grabit_backend.exception.BadRequestException;
+import grabit.grabit_backend.repository.ChallengeStatRepository;
+import grabit.grabit_backend.repository.PassApprovalRepository;
+import grabit.grabit_backend.repository.PassApprovalResultRepository;
+import grabit.grabit_backend.repository.PassRepository;
+import grabit.grabit_backend.repository.PendingVoteRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, PassApprovalResultService.class, PendingVoteRepository.class, PendingVoteCache.class, ChallengeStatService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PassApprovalResultServiceTest extends MySqlContainerTest {
+
+	@Autowired
+	EntityManager entityManager;
+	@Autowired
+	PlatformTransactionManager transactionManager;
+	@Autowired
+	PassApprovalResultService passApprovalResultService;
+	@Autowired
+	PassApprovalRepository passApprovalRepository;
+	@Autowired
+	PassApprovalResultRepository passApprovalResultRepository;
+	@Autowired
+	PassRepository passRepository;
+	@Autowired
+	ChallengeStatRepository challengeStatRepository;
+
+	/**
+	 * 멤버 수만큼 PENDING 투표가 있는 승인 요청 생성
+	 * @return 투표 결과 id 목록
+	 */
+	private List<Long> createPassApproval(int firstUserId, int members) {
+		return new TransactionTemplate(transactionManager).execute(status -> {
+			User writer = new User(firstUserId, "writer" + firstUserId, "writer", "writer@grabit.com", null, null);
+			entityManager.persist(writer);
+			Challenge challenge = Challenge.builder().name("챌린지").description("설명").isPrivate(false).leader(writer).build();
+			entityManager.persist(challenge);
+			PassApproval passApproval = PassApproval.builder().user(writer).content("인증").targetDate(LocalDate.now()).totalCount(members).build();
+			entityManager.persist(passApproval);
+
+			List<Long> resultIds = new ArrayList<>();
+			for (int i = 1; i <= members; i++) {
+				User member = new User(firstUserId + i, "member" + (firstUserId + i), "member", "member@grabit.com", null, null);
+				entityManager.persist(member);
+				PassApprovalResult result = PassApprovalResult.builder()
+						.passApproval(passApproval).challenge(challenge).user(member)
+						.status(PassApprovalResultStatus.PENDING).build();
+				entityManager.persist(result);
+				resultIds.add(result.getId());
+			}
+			return resultIds;
+		});
+	}
+
+	private User voter(Long resultId) {
+		return new TransactionTemplate(transactionManager).execute(status ->
+				passApprovalResultRepository.findById(resultId).get().getUser());
+	}
+
+	@Test
+	void 동시에_찬성해도_Pass는_한_번만_생성() throws Exception {
+		//given
+		List<Long> resultIds = createPassApproval(1, 8);
+		List<User> voters = new ArrayList<>();
+		for (Long resultId : resultIds) {
+			voters.add(voter(resultId));
+		}
+		long passCount = passRepository.count();
+		ExecutorService executor = Executors.newFixedThreadPool(resultIds.size());
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+
+		//when
+		for (int i = 0; i < resultIds.size(); i++) {
+			Long resultId = resultIds.get(i);
+			User voter = voters.get(i);
+			futures.add(executor.submit(() -> {
+				start.await();
+				try {
+					passApprovalResultService.acceptPassApproval(resultId, voter);
+				} catch (RuntimeException e) {
+					// 결정 이후의 투표는 거절된다.
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		//then
+		assertEquals(passCount + 1, passRepository.count());
+		assertTrue(passApprovalResultRepository.findAllById(resultIds).isEmpty());
+		List<ChallengeStat> stats = challengeStatRepository.findAll();
+		assertEquals(1, stats.size());
+		assertEquals(1, stats.get(0).getPassCount());
+		assertEquals(1, stats.get(0).getCurrentStreak());
+	}
+
+	@Test
+	void 중복_투표는_거절되고_집계되지_않음() {
+		//given
+		List<Long> resultIds = createPassApproval(100, 4);
+		User voter = voter(resultIds.get(0));
+		passApprovalResultService.rejectPassApproval(resultIds.get(0), voter);
+
+		//when
+		assertThrows(BadRequestException.class, () -> passApprovalResultService.rejectPassApproval(resultIds.get(0), voter));
+
+		//then
+		PassApproval passApproval = new TransactionTemplate(transactionManager).execute(status ->
+				passApprovalResultRepository.findById(resultIds.get(0)).get().getPassApproval());
+		assertEquals(1, passApprovalRepository.findById(passApproval.getId()).get().getRejectedCount());
+		assertFalse(passApprovalRepository.findById(passApproval.getId()).get().isClosed());
+	}
+
+	@Test
+	void 투표하면_대기_목록에서_제외() {
+		//given
+		List<Long> resultIds = createPassApproval(200, 3);
+		User voter = voter(resultIds.get(0));
+		ResponsePendingVoteListDTO before = passApprovalResultService.findPendingVotes(voter, null, 20);
+
+		//when
+		passApprovalResultService.rejectPassApproval(resultIds.get(0), voter);
+
+		//then
+		assertEquals(1, before.getContent().size());
+		assertEquals(resultIds.get(0), before.getContent().get(0).getId());
+		assertEquals("인증", before.getContent().get(0).getContent());
+		assertNull(before.getNextCursor());
+		assertTrue(passApprovalResultService.findPendingVotes(voter, null, 20).getContent().isEmpty());
+	}
+
+	@Test
+	void 투표_인원이_집계되지_않은_요청은_결정하지_않고_backfill_후_집계() {
+		//given
+		List<Long> resultIds = createPassApproval(300, 3);
+		Long passApprovalId = new TransactionTemplate(transactionManager).execute(status -> {
+			PassApproval passApproval = passApprovalResultRepository.findById(resultIds.get(0)).get().getPassApproval();
+			entityManager.createQuery("update PASS_APPROVAL p set p.totalCount = 0 where p.id = :id")
+					.setParameter("id", passApproval.getId()).executeUpdate();
+			return passApproval.getId();
+		});
+		long passCount = passRepository.count();
+
+		//when
+		passApprovalResultService.acceptPassApproval(resultIds.get(0), voter(resultIds.get(0)));
+		passApprovalResultService.backfillCounters();
+
+		//then
+		assertEquals(passCount, passRepository.count());
+		PassApproval passApproval = passApprovalRepository.findById(passApprovalId).get();
+		assertFalse(passApproval.isClosed());
+		assertEquals(3, passApproval.getTotalCount());
+		assertEquals(1, passApproval.getApprovedCount());
+	}
+}
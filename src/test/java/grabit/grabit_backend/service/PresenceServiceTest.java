@@ -0,0 +1,134 @@
+package grabit.grabit_backend.service;
+
+import grabit.grabit_backend.dto.ResponsePresenceDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Testcontainers
+class PresenceServiceTest {
+
+	@Container
+	static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:6-alpine")).withExposedPorts(6379);
+
+	LettuceConnectionFactory connectionFactory;
+	StringRedisTemplate redisTemplate;
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.delete(Set.of("presence:room:1", "presence:room:2"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	void 노드별_접속을_합산() {
+		//given
+		PresenceService nodeA = new PresenceService(redisTemplate, mock(SimpMessagingTemplate.class), 30);
+		PresenceService nodeB = new PresenceService(redisTemplate, mock(SimpMessagingTemplate.class), 30);
+
+		//when
+		nodeA.join("a-1", "sub-0", 1L, "alice");
+		nodeA.join("a-2", "sub-0", 1L, "alice");
+		nodeB.join("b-1", "sub-0", 1L, "bob");
+		nodeA.leave("a-1", "sub-0");
+
+		//then
+		assertEquals(1, nodeA.getLocalCount(1L));
+		ResponsePresenceDTO presence = nodeB.getPresence(1L);
+		assertEquals(2, presence.getOnlineCount());
+		assertTrue(presence.getMembers().containsAll(Set.of("alice", "bob")));
+
+		//when
+		nodeA.leaveAll("a-2");
+
+		//then
+		assertEquals(0, nodeA.getLocalCount(1L));
+		assertEquals(Set.of("bob"), Set.copyOf(nodeB.getPresence(1L).getMembers()));
+	}
+
+	@Test
+	void 접속_해제를_반복해도_변경된_경우만_이벤트_전송() {
+		//given
+		SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+		PresenceService node = new PresenceService(redisTemplate, template, 30);
+		node.join("s-1", "sub-0", 2L, "alice");
+		node.publishChanges();
+
+		//when
+		for (int i = 0; i < 10; i++) {
+			node.join("s-2-" + i, "sub-0", 2L, "bob");
+			node.leaveAll("s-2-" + i);
+		}
+		node.publishChanges();
+
+		//then
+		ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+		verify(template, times(1)).convertAndSend(eq("/sub/presence/room/2"), payload.capture());
+		assertEquals(1, ((ResponsePresenceDTO) payload.getValue()).getOnlineCount());
+	}
+
+	@Test
+	void 다른_노드에_접속한_유저는_퇴장해도_남음() {
+		//given
+		PresenceService nodeA = new PresenceService(redisTemplate, mock(SimpMessagingTemplate.class), 30);
+		PresenceService nodeB = new PresenceService(redisTemplate, mock(SimpMessagingTemplate.class), 30);
+		nodeA.join("a-1", "sub-0", 1L, "alice");
+		nodeB.join("b-1", "sub-0", 1L, "alice");
+
+		//when
+		nodeA.leaveAll("a-1");
+
+		//then
+		ResponsePresenceDTO presence = nodeA.getPresence(1L);
+		assertEquals(1, presence.getOnlineCount());
+		assertEquals(Set.of("alice"), Set.copyOf(presence.getMembers()));
+	}
+
+	@Test
+	void 연결_종료_후_처리된_구독은_무시() {
+		//given
+		PresenceService node = new PresenceService(redisTemplate, mock(SimpMessagingTemplate.class), 30);
+		node.leaveAll("s-1");
+
+		//when
+		node.join("s-1", "sub-0", 1L, "alice");
+
+		//then
+		assertEquals(0, node.getLocalCount(1L));
+		assertEquals(0, node.getPresence(1L).getOnlineCount());
+	}
+
+	@Test
+	void heartbeat_끊긴_유저는_만료() throws Exception {
+		//given
+		PresenceService crashed = new PresenceService(redisTemplate, mock(SimpMessagingTemplate.class), 1);
+		crashed.join("s-1", "sub-0", 1L, "alice");
+
+		//when
+		Thread.sleep(1100);
+
+		//then
+		assertEquals(0, crashed.getPresence(1L).getOnlineCount());
+	}
+}
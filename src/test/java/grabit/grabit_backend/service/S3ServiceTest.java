@@ -0,0 +1,106 @@
+package grabit.grabit_backend.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import grabit.grabit_backend.config.aws.S3MockService;
+import grabit.grabit_backend.domain.User;
+import grabit.grabit_backend.exception.BadRequestException;
+import io.findify.s3mock.S3Mock;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class S3ServiceTest {
+
+	static final String BUCKET = "grabit-test";
+	static final long PART_SIZE = 5 * 1024 * 1024;
+
+	static S3Mock s3Mock;
+	static AmazonS3 amazonS3;
+
+	User user = new User(1, "testId", "testName", "test@grabit.com", null, null);
+	S3Service s3Service;
+
+	@BeforeAll
+	static void startS3Mock() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		s3Mock = new S3Mock.Builder().withPort(port).withInMemoryBackend().build();
+		s3Mock.start();
+		amazonS3 = S3MockService.createClient("http://localhost:" + port, "ap-northeast-2");
+		amazonS3.createBucket(BUCKET);
+	}
+
+	@AfterAll
+	static void stopS3Mock() {
+		amazonS3.shutdown();
+		s3Mock.shutdown();
+	}
+
+	@BeforeEach
+	void setUp() {
+		s3Service = new S3Service(amazonS3, PART_SIZE, PART_SIZE, 2);
+		ReflectionTestUtils.setField(s3Service, "bucket", BUCKET);
+		ReflectionTestUtils.setField(s3Service, "cdn", "https://cdn/");
+	}
+
+	private byte[] png(int size) {
+		byte[] bytes = new byte[size];
+		byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+		System.arraycopy(signature, 0, bytes, 0, signature.length);
+		return bytes;
+	}
+
+	private ObjectMetadata uploaded(String url) {
+		return amazonS3.getObjectMetadata(BUCKET, url.substring("https://cdn/".length()));
+	}
+
+	@Test
+	void content_type은_파일_내용으로_판별() throws Exception {
+		//given
+		MockMultipartFile file = new MockMultipartFile("file", "image.jpg", "image/jpeg", png(1024));
+
+		//when
+		String url = s3Service.upload(user, file);
+
+		//then
+		ObjectMetadata metadata = uploaded(url);
+		assertTrue(url.endsWith(".png"));
+		assertEquals("image/png", metadata.getContentType());
+		assertEquals(1024, metadata.getContentLength());
+	}
+
+	@Test
+	void 큰_파일은_multipart_업로드() throws Exception {
+		//given
+		int size = (int) (PART_SIZE * 2 + 1024);
+		MockMultipartFile file = new MockMultipartFile("file", "image.png", "image/png", png(size));
+
+		//when
+		String url = s3Service.upload(user, file);
+
+		//then
+		ObjectMetadata metadata = uploaded(url);
+		assertEquals(size, metadata.getContentLength());
+		assertEquals("image/png", metadata.getContentType());
+	}
+
+	@Test
+	void 이미지가_아니면_거절() {
+		//given
+		MockMultipartFile file = new MockMultipartFile("file", "image.png", "image/png", "<html></html>".getBytes());
+
+		//then
+		assertThrows(BadRequestException.class, () -> s3Service.upload(user, file));
+	}
+}
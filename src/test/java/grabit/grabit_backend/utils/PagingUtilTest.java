@@ -0,0 +1,65 @@
+package grabit.grabit_backend.utils;
+
+import grabit.grabit_backend.dto.ChallengeSummaryDTO;
+import grabit.grabit_backend.dto.ResponseChallengePagingDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PagingUtilTest {
+
+	@Test
+	void 목록_size_는_1_부터_최대값까지() {
+		assertEquals(1, PagingUtil.pageSize(0));
+		assertEquals(1, PagingUtil.pageSize(-3));
+		assertEquals(5, PagingUtil.pageSize(5));
+		assertEquals(PagingUtil.MAX_PAGE_SIZE, PagingUtil.pageSize(100000));
+	}
+
+	@Test
+	void size_보다_하나_더_조회되면_다음_페이지_있음() {
+		//when
+		Slice<Integer> hasNext = PagingUtil.toSlice(new ArrayList<>(List.of(1, 2, 3)), PageRequest.of(0, 2));
+		Slice<Integer> last = PagingUtil.toSlice(new ArrayList<>(List.of(1, 2)), PageRequest.of(0, 2));
+
+		//then
+		assertEquals(List.of(1, 2), hasNext.getContent());
+		assertTrue(hasNext.hasNext());
+		assertEquals(List.of(1, 2), last.getContent());
+		assertFalse(last.hasNext());
+	}
+
+	@Test
+	void before_cursor_결과는_최신순으로_뒤집음() {
+		//when
+		Slice<Integer> slice = PagingUtil.toCursorSlice(new ArrayList<>(List.of(1, 2, 3)), 2, true);
+
+		//then
+		assertEquals(List.of(2, 1), slice.getContent());
+		assertTrue(slice.hasNext());
+	}
+
+	@Test
+	void Slice_응답은_전체_개수를_계산하지_않음() {
+		//given
+		Slice<ChallengeSummaryDTO> slice = PagingUtil.toSlice(new ArrayList<>(), PageRequest.of(0, 5));
+		PageImpl<ChallengeSummaryDTO> page = new PageImpl<>(new ArrayList<>(), PageRequest.of(0, 5), 12);
+
+		//when
+		ResponseChallengePagingDTO sliceResponse = ResponseChallengePagingDTO.convertDTO(slice);
+		ResponseChallengePagingDTO pageResponse = ResponseChallengePagingDTO.convertDTO(page);
+
+		//then
+		assertEquals(-1, sliceResponse.totalPages);
+		assertEquals(-1, sliceResponse.totalElements);
+		assertTrue(sliceResponse.last);
+		assertEquals(3, pageResponse.totalPages);
+		assertEquals(12, pageResponse.totalElements);
+	}
+}
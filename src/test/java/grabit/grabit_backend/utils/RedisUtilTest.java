@@ -0,0 +1,214 @@
+package grabit.grabit_backend.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grabit.grabit_backend.cache.RedisCachePolicies;
+import grabit.grabit_backend.cache.RedisValueCodec;
+import grabit.grabit_backend.exception.CommitCrawlerException;
+import grabit.grabit_backend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisUtilTest {
+	@Mock
+	RedisTemplate<String, String> redisTemplate;
+	@Mock
+	ValueOperations<String, String> valueOperations;
+
+	private static final TypeReference<List<String>> STRINGS = new TypeReference<>() {};
+
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	RedisUtil redisUtil;
+
+	@BeforeEach
+	void setUp() {
+		doReturn(valueOperations).when(redisTemplate).opsForValue();
+		redisUtil = new RedisUtil(redisTemplate, new RedisCachePolicies(60, 600, 10), new RedisValueCodec(new ObjectMapper(), 2048), meterRegistry, 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisUtil.destroy();
+	}
+
+	private double count(String result) {
+		return meterRegistry.counter("grabit.cache.redis", "prefix", "commit:", "result", result).count();
+	}
+
+	@Test
+	void 캐시_miss_loader_결과_저장() {
+		//given
+		doReturn(null).when(valueOperations).get("commit:testId");
+
+		//when
+		List<String> result = redisUtil.getOrLoad("commit:testId", STRINGS,
+				() -> CompletableFuture.completedFuture(List.of("a")), List.of()).join();
+
+		//then
+		assertEquals(List.of("a"), result);
+		verify(valueOperations).set(eq("commit:testId"), anyString(), eq(Duration.ofSeconds(600)));
+		assertEquals(1, count("miss"));
+	}
+
+	@Test
+	void 캐시_soft_만료_이전값_응답_후_갱신() {
+		//given
+		String stale = "{\"value\":[\"old\"],\"softExpireAt\":" + (System.currentTimeMillis() - 1000) + "}";
+		doReturn(stale).when(valueOperations).get("commit:testId");
+		doReturn(true).when(valueOperations).setIfAbsent(eq("refresh:commit:testId"), anyString(), any(Duration.class));
+		AtomicInteger loadCount = new AtomicInteger();
+
+		//when
+		List<String> result = redisUtil.getOrLoad("commit:testId", STRINGS, () -> {
+			loadCount.incrementAndGet();
+			return CompletableFuture.completedFuture(List.of("new"));
+		}, List.of()).join();
+
+		//then
+		assertEquals(List.of("old"), result);
+		assertEquals(1, loadCount.get());
+		ArgumentCaptor<String> saved = ArgumentCaptor.forClass(String.class);
+		verify(valueOperations, timeout(1000)).set(eq("commit:testId"), saved.capture(), eq(Duration.ofSeconds(600)));
+		assertTrue(saved.getValue().contains("new"));
+		assertEquals(1, count("stale_hit"));
+		verify(redisTemplate, timeout(1000)).execute(any(RedisScript.class), anyList(), anyString());
+		assertEquals(1, count("refresh_success"));
+	}
+
+	@Test
+	void 크롤링_실패_negative_캐싱() {
+		//given
+		doReturn(null).when(valueOperations).get("commit:testId");
+
+		//when
+		List<String> result = redisUtil.getOrLoad("commit:testId", STRINGS,
+				() -> CompletableFuture.<List<String>>failedFuture(new CommitCrawlerException("fail")), List.of()).join();
+
+		//then
+		assertTrue(result.isEmpty());
+		verify(valueOperations).set(eq("commit:testId"), contains("negative"), eq(Duration.ofSeconds(10)));
+	}
+
+	@Test
+	void 요청_거절은_negative_캐싱하지_않음() {
+		//given
+		doReturn(null).when(valueOperations).get("commit:testId");
+
+		//when
+		List<String> result = redisUtil.getOrLoad("commit:testId", STRINGS,
+				() -> CompletableFuture.supplyAsync(() -> {
+					throw new TooManyRequestsException();
+				}), List.of()).join();
+
+		//then
+		assertTrue(result.isEmpty());
+		verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+	}
+
+	@Test
+	void 갱신_lock_은_잡을_때_저장한_token_으로만_해제() {
+		//given
+		String stale = "{\"value\":[\"old\"],\"softExpireAt\":" + (System.currentTimeMillis() - 1000) + "}";
+		doReturn(stale).when(valueOperations).get("commit:testId");
+		ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+		doReturn(true).when(valueOperations).setIfAbsent(eq("refresh:commit:testId"), token.capture(), any(Duration.class));
+
+		//when
+		redisUtil.getOrLoad("commit:testId", STRINGS, () -> CompletableFuture.completedFuture(List.of("new")), List.of()).join();
+
+		//then
+		verify(redisTemplate, timeout(1000)).execute(any(RedisScript.class), eq(List.of("refresh:commit:testId")), eq(token.getValue()));
+		verify(redisTemplate, never()).delete(anyString());
+	}
+
+	@Test
+	void 동시_miss_는_한_번만_불러와서_전용_스레드에서_한_번_저장() {
+		//given
+		doReturn(null).when(valueOperations).get("commit:testId");
+		CompletableFuture<List<String>> upstream = new CompletableFuture<>();
+		AtomicInteger loadCount = new AtomicInteger();
+		List<String> writeThread = new CopyOnWriteArrayList<>();
+		doAnswer(invocation -> {
+			writeThread.add(Thread.currentThread().getName());
+			return null;
+		}).when(valueOperations).set(eq("commit:testId"), anyString(), any(Duration.class));
+
+		//when
+		CompletableFuture<List<String>> first = redisUtil.getOrLoad("commit:testId", STRINGS, () -> {
+			loadCount.incrementAndGet();
+			return upstream;
+		}, List.of());
+		CompletableFuture<List<String>> second = redisUtil.getOrLoad("commit:testId", STRINGS, () -> {
+			loadCount.incrementAndGet();
+			return upstream;
+		}, List.of());
+		upstream.complete(List.of("a"));
+
+		//then
+		assertEquals(List.of("a"), first.join());
+		assertEquals(List.of("a"), second.join());
+		assertEquals(1, loadCount.get());
+		assertEquals(1, writeThread.size());
+		assertTrue(writeThread.get(0).startsWith("redis-cache-"));
+	}
+
+	@Test
+	void 여러_key_를_MGET_한_번으로_조회() {
+		//given
+		doReturn(Arrays.asList("[\"a\"]", null, "{broken")).when(valueOperations)
+				.multiGet(List.of("commit:1", "commit:2", "commit:3"));
+
+		//when
+		List<List<String>> result = redisUtil.multiGet(List.of("commit:1", "commit:2", "commit:3"), STRINGS);
+
+		//then
+		assertEquals(Arrays.asList(List.of("a"), null, null), result);
+		verify(valueOperations, times(1)).multiGet(anyList());
+		verify(valueOperations, never()).get(anyString());
+	}
+
+	@Test
+	void 여러_값을_pipeline_으로_TTL_과_함께_저장() {
+		//given
+		Map<String, List<String>> data = new LinkedHashMap<>();
+		data.put("commit:1", List.of("a"));
+		data.put("commit:2", List.of("b"));
+		ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+
+		//when
+		redisUtil.multiSave(data, STRINGS, Duration.ofSeconds(30));
+
+		//then
+		verify(redisTemplate).executePipelined(callback.capture());
+		verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+		callback.getValue().execute(redisTemplate);
+		verify(valueOperations).set("commit:1", "[\"a\"]", Duration.ofSeconds(30));
+		verify(valueOperations).set("commit:2", "[\"b\"]", Duration.ofSeconds(30));
+	}
+}